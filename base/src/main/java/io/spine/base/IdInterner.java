@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A pool of canonical instances of identifiers.
+ *
+ * <p>Interning an identifier returns the instance of an equal identifier interned before,
+ * if there is one. Otherwise, the passed instance becomes the canonical one. This way
+ * the holders of many equal identifiers, such as in-memory projections, may keep only one
+ * instance of each.
+ *
+ * <p>The pool keeps a separate set of canonical instances for each class of identifiers. It
+ * references the canonical instances weakly, so that they are garbage collected as soon as
+ * they are not used outside the pool.
+ *
+ * <p>The pool counts the identifiers resolved to a previously interned instance as hits, and
+ * the identifiers which became canonical as misses.
+ *
+ * <p>The instances of this class are safe for use from several threads.
+ *
+ * @see Identifier#unpack(com.google.protobuf.Any, IdInterner)
+ * @see UuidValue#of(String, IdInterner)
+ * @see io.spine.protobuf.AnyPacker#unpack(com.google.protobuf.Any, IdInterner)
+ */
+public final class IdInterner {
+
+    private final Map<Class<?>, Interner<Object>> interners = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private IdInterner() {
+    }
+
+    /**
+     * Creates a new empty pool.
+     */
+    public static IdInterner newInstance() {
+        return new IdInterner();
+    }
+
+    /**
+     * Obtains the canonical instance of the passed identifier.
+     *
+     * <p>An identifier is only resolved to an equal instance of the same class. For example,
+     * a {@code DynamicMessage} is not resolved to an equal generated message.
+     *
+     * @param id
+     *         the identifier to intern
+     * @param <I>
+     *         the type of the identifier
+     * @return the canonical instance equal to the passed identifier
+     */
+    public <I> I intern(I id) {
+        checkNotNull(id);
+        Interner<Object> interner =
+                interners.computeIfAbsent(id.getClass(), cls -> Interners.newWeakInterner());
+        @SuppressWarnings("unchecked") // The interner holds the instances of the `id` class.
+        I result = (I) interner.intern(id);
+        if (result == id) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the number of the identifiers resolved to a previously interned instance.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Obtains the number of the identifiers which became canonical instances.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Obtains the share of the hits among all the interned identifiers.
+     *
+     * @return the hit rate from {@code 0.0} to {@code 1.0}, or {@code 0.0} if no identifiers
+     *         were interned yet
+     */
+    public double hitRate() {
+        long hitCount = hitCount();
+        long total = hitCount + missCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -202,6 +202,24 @@ public final class Identifier<I> {
         throw unsupported(unpacked);
     }
 
+    /**
+     * Does the same as {@link #unpack(com.google.protobuf.Any)} and additionally resolves
+     * the ID to its canonical instance in the passed pool.
+     *
+     * <p>Use this method when many equal IDs are unpacked and kept in memory.
+     *
+     * @param any
+     *         the ID value wrapped into {@code Any}
+     * @param interner
+     *         the pool of the canonical ID instances
+     * @return unwrapped ID
+     */
+    public static Object unpack(Any any, IdInterner interner) {
+        checkNotNull(interner);
+        Object identifier = unpack(any);
+        return interner.intern(identifier);
+    }
+
     /**
      * Does the same as {@link #unpack(com.google.protobuf.Any)} and
      * additionally casts the ID to the specified class.
@@ -0,0 +1,610 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.OneofDescriptor;
+import com.google.protobuf.Message;
+import io.spine.protobuf.Messages;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Sets.newHashSet;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Encodes identifiers into binary keys which preserve the order of the identifiers.
+ *
+ * <p>The keys of two identifiers compare as unsigned bytes, e.g. with
+ * {@link com.google.common.primitives.UnsignedBytes#lexicographicalComparator()
+ * UnsignedBytes.lexicographicalComparator()}, in the same order as the identifiers:
+ * <ul>
+ *     <li>{@code Integer} and {@code Long} IDs — in the numeric order;
+ *     <li>{@code String} IDs — in the order of their Unicode code points, which is the same as
+ *         the order of {@link String#compareTo(String)} unless the strings contain characters
+ *         outside of the Basic Multilingual Plane;
+ *     <li>{@code Message} IDs — by their fields in the order of declaration, each field in
+ *         the order of its type. Unsigned integer fields are ordered as unsigned numbers. Enum
+ *         fields are ordered by the numbers of the values. A message field which is not set
+ *         precedes any set value. A {@code oneof} is ordered by the declaration order of the set
+ *         field, and then by its value.
+ * </ul>
+ *
+ * <p>A key is decoded back into an equal identifier. The message IDs must not have repeated
+ * or map fields. The unknown fields of message IDs are not encoded.
+ *
+ * <p>The keys are written into and read from the passed {@link ByteBuffer}s. For the IDs of
+ * the {@code String}, {@code Integer} and {@code Long} types, the encoding allocates no
+ * memory. The fields of message IDs are obtained via the Protobuf reflection API, which may
+ * box the field values. The numbers are always written in the big-endian byte order,
+ * regardless of the {@linkplain ByteBuffer#order() order} of the buffer.
+ *
+ * <p>Each key ends where its encoding ends, so keys may be concatenated and decoded one
+ * after another.
+ *
+ * @param <I>
+ *         the type of the identifiers
+ */
+public final class KeyCodec<I> {
+
+    /** The byte which starts an escape sequence in the encoded strings and bytes. */
+    private static final byte ESCAPE = 0x00;
+
+    /** The byte which follows the {@link #ESCAPE} to denote a zero byte. */
+    private static final byte ESCAPED_ZERO = (byte) 0xFF;
+
+    /** The byte which follows the {@link #ESCAPE} to denote the end of a string. */
+    private static final byte END = 0x01;
+
+    /** Denotes a message field which is not set or a {@code oneof} without a set field. */
+    private static final byte ABSENT = 0x00;
+
+    /** Denotes a set message field. */
+    private static final byte PRESENT = 0x01;
+
+    private static final int MAX_ONEOF_FIELDS = 0xFE;
+
+    private final Class<I> idClass;
+    private final Identifier.Type type;
+
+    private KeyCodec(Class<I> idClass, Identifier.Type type) {
+        this.idClass = idClass;
+        this.type = type;
+    }
+
+    /**
+     * Creates a new codec for the identifiers of the passed class.
+     *
+     * @throws IllegalArgumentException
+     *         if the class of IDs is not {@linkplain Identifier#checkSupported(Class) supported},
+     *         or is a message class with repeated or map fields
+     */
+    public static <I> KeyCodec<I> forClass(Class<I> idClass) {
+        checkNotNull(idClass);
+        Identifier.Type type = Identifier.getType(idClass);
+        if (type == Identifier.Type.MESSAGE) {
+            @SuppressWarnings("unchecked") // Checked by the type of the ID.
+            Class<? extends Message> messageClass = (Class<? extends Message>) idClass;
+            Descriptor descriptor = Messages.newInstance(messageClass)
+                                            .getDescriptorForType();
+            checkEncodable(descriptor, newHashSet());
+        }
+        return new KeyCodec<>(idClass, type);
+    }
+
+    private static void checkEncodable(Descriptor message, Set<Descriptor> checked) {
+        if (!checked.add(message)) {
+            return;
+        }
+        for (FieldDescriptor field : message.getFields()) {
+            if (field.isRepeated()) {
+                throw newIllegalArgumentException(
+                        "The repeated field `%s` cannot be encoded into a key.",
+                        field.getFullName());
+            }
+            if (field.getType() == FieldDescriptor.Type.GROUP) {
+                throw newIllegalArgumentException(
+                        "The group field `%s` cannot be encoded into a key.",
+                        field.getFullName());
+            }
+            if (field.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                checkEncodable(field.getMessageType(), checked);
+            }
+        }
+        for (OneofDescriptor oneof : message.getOneofs()) {
+            if (oneof.getFieldCount() > MAX_ONEOF_FIELDS) {
+                throw newIllegalArgumentException(
+                        "The oneof `%s` has too many fields to be encoded into a key.",
+                        oneof.getFullName());
+            }
+        }
+    }
+
+    /**
+     * Obtains the number of bytes in the key of the passed identifier.
+     */
+    public int sizeOf(I id) {
+        checkNotNull(id);
+        return write(id, null);
+    }
+
+    /**
+     * Writes the key of the passed identifier into the buffer, starting at its current position.
+     *
+     * <p>Advances the position of the buffer by the {@linkplain #sizeOf(Object) size} of the key.
+     *
+     * @throws BufferOverflowException
+     *         if the buffer has not enough space remaining; the position of the buffer is not
+     *         changed in this case
+     */
+    public void encode(I id, ByteBuffer target) {
+        checkNotNull(id);
+        checkNotNull(target);
+        int start = target.position();
+        try {
+            write(id, target);
+        } catch (BufferOverflowException e) {
+            target.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Obtains the key of the passed identifier as a new array.
+     */
+    public byte[] encode(I id) {
+        checkNotNull(id);
+        byte[] result = new byte[sizeOf(id)];
+        write(id, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    /**
+     * Reads an identifier from the key starting at the current position of the buffer.
+     *
+     * <p>Advances the position of the buffer to the end of the key.
+     *
+     * @throws IllegalArgumentException
+     *         if the buffer does not contain a valid key
+     * @throws java.nio.BufferUnderflowException
+     *         if the key ends prematurely
+     */
+    public I decode(ByteBuffer source) {
+        checkNotNull(source);
+        Object result;
+        switch (type) {
+            case STRING:
+                result = readString(source);
+                break;
+            case INTEGER:
+                result = getInt(source) ^ Integer.MIN_VALUE;
+                break;
+            case LONG:
+                result = getLong(source) ^ Long.MIN_VALUE;
+                break;
+            case MESSAGE:
+            default:
+                @SuppressWarnings("unchecked") // Checked by the type of the ID.
+                Class<? extends Message> messageClass = (Class<? extends Message>) idClass;
+                Message.Builder builder = Messages.builderFor(messageClass);
+                readMessage(builder, source);
+                result = builder.build();
+        }
+        return idClass.cast(result);
+    }
+
+    /**
+     * Reads an identifier from the passed key.
+     *
+     * @throws IllegalArgumentException
+     *         if the passed bytes are not a valid key
+     */
+    public I decode(byte[] key) {
+        checkNotNull(key);
+        ByteBuffer source = ByteBuffer.wrap(key);
+        I result = decode(source);
+        if (source.hasRemaining()) {
+            throw newIllegalArgumentException("The key has %d unexpected trailing bytes.",
+                                              source.remaining());
+        }
+        return result;
+    }
+
+    /**
+     * Writes the key of the passed identifier into the buffer, or only counts its size if
+     * the buffer is {@code null}.
+     *
+     * @return the number of bytes in the key
+     */
+    private int write(I id, @Nullable ByteBuffer out) {
+        switch (type) {
+            case STRING:
+                return writeString((String) id, out);
+            case INTEGER:
+                return putInt((Integer) id ^ Integer.MIN_VALUE, out);
+            case LONG:
+                return putLong((Long) id ^ Long.MIN_VALUE, out);
+            case MESSAGE:
+            default:
+                return writeMessage((Message) id, out);
+        }
+    }
+
+    private static int writeMessage(Message message, @Nullable ByteBuffer out) {
+        int size = 0;
+        for (FieldDescriptor field : message.getDescriptorForType()
+                                            .getFields()) {
+            OneofDescriptor oneof = field.getContainingOneof();
+            if (oneof == null) {
+                size += writeField(message, field, out);
+            } else if (oneof.getField(0) == field) {
+                size += writeOneof(message, oneof, out);
+            }
+        }
+        return size;
+    }
+
+    private static int writeField(Message message, FieldDescriptor field,
+                                  @Nullable ByteBuffer out) {
+        if (field.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+            if (!message.hasField(field)) {
+                return putByte(ABSENT, out);
+            }
+            return putByte(PRESENT, out) + writeValue(field, message.getField(field), out);
+        }
+        return writeValue(field, message.getField(field), out);
+    }
+
+    private static int writeOneof(Message message, OneofDescriptor oneof,
+                                  @Nullable ByteBuffer out) {
+        FieldDescriptor field = message.getOneofFieldDescriptor(oneof);
+        if (field == null) {
+            return putByte(ABSENT, out);
+        }
+        int number = oneof.getFields()
+                          .indexOf(field) + 1;
+        return putByte((byte) number, out) + writeValue(field, message.getField(field), out);
+    }
+
+    private static int writeValue(FieldDescriptor field, Object value, @Nullable ByteBuffer out) {
+        switch (field.getType()) {
+            case INT32:
+            case SINT32:
+            case SFIXED32:
+                return putInt((Integer) value ^ Integer.MIN_VALUE, out);
+            case UINT32:
+            case FIXED32:
+                return putInt((Integer) value, out);
+            case INT64:
+            case SINT64:
+            case SFIXED64:
+                return putLong((Long) value ^ Long.MIN_VALUE, out);
+            case UINT64:
+            case FIXED64:
+                return putLong((Long) value, out);
+            case BOOL:
+                return putByte((Boolean) value ? (byte) 1 : (byte) 0, out);
+            case FLOAT:
+                return putInt(sortableBits((Float) value), out);
+            case DOUBLE:
+                return putLong(sortableBits((Double) value), out);
+            case STRING:
+                return writeString((String) value, out);
+            case BYTES:
+                return writeBytes((ByteString) value, out);
+            case ENUM:
+                int number = ((EnumValueDescriptor) value).getNumber();
+                return putInt(number ^ Integer.MIN_VALUE, out);
+            case MESSAGE:
+                return writeMessage((Message) value, out);
+            case GROUP:
+            default:
+                throw newIllegalArgumentException("Unsupported field type: `%s`.",
+                                                  field.getType());
+        }
+    }
+
+    /**
+     * Writes the string in UTF-8, escaping zero bytes, followed by the end marker.
+     */
+    @SuppressWarnings("MagicNumber") // UTF-8 encoding.
+    private static int writeString(String value, @Nullable ByteBuffer out) {
+        int size = 0;
+        int length = value.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = value.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (codePoint == 0) {
+                size += putByte(ESCAPE, out) + putByte(ESCAPED_ZERO, out);
+            } else if (codePoint < 0x80) {
+                size += putByte((byte) codePoint, out);
+            } else if (codePoint < 0x800) {
+                size += putByte((byte) (0xC0 | codePoint >>> 6), out);
+                size += putByte((byte) (0x80 | codePoint & 0x3F), out);
+            } else if (codePoint < 0x10000) {
+                size += putByte((byte) (0xE0 | codePoint >>> 12), out);
+                size += putByte((byte) (0x80 | codePoint >>> 6 & 0x3F), out);
+                size += putByte((byte) (0x80 | codePoint & 0x3F), out);
+            } else {
+                size += putByte((byte) (0xF0 | codePoint >>> 18), out);
+                size += putByte((byte) (0x80 | codePoint >>> 12 & 0x3F), out);
+                size += putByte((byte) (0x80 | codePoint >>> 6 & 0x3F), out);
+                size += putByte((byte) (0x80 | codePoint & 0x3F), out);
+            }
+        }
+        return size + putByte(ESCAPE, out) + putByte(END, out);
+    }
+
+    /**
+     * Writes the bytes, escaping zero bytes, followed by the end marker.
+     */
+    private static int writeBytes(ByteString value, @Nullable ByteBuffer out) {
+        int size = 0;
+        int length = value.size();
+        for (int i = 0; i < length; i++) {
+            byte b = value.byteAt(i);
+            if (b == 0) {
+                size += putByte(ESCAPE, out) + putByte(ESCAPED_ZERO, out);
+            } else {
+                size += putByte(b, out);
+            }
+        }
+        return size + putByte(ESCAPE, out) + putByte(END, out);
+    }
+
+    private static int putByte(byte value, @Nullable ByteBuffer out) {
+        if (out != null) {
+            out.put(value);
+        }
+        return Byte.BYTES;
+    }
+
+    /**
+     * Writes the number in the big-endian byte order, regardless of the order of the buffer.
+     */
+    private static int putInt(int value, @Nullable ByteBuffer out) {
+        if (out != null) {
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                out.put((byte) (value >>> shift));
+            }
+        }
+        return Integer.BYTES;
+    }
+
+    /**
+     * Writes the number in the big-endian byte order, regardless of the order of the buffer.
+     */
+    private static int putLong(long value, @Nullable ByteBuffer out) {
+        if (out != null) {
+            for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                out.put((byte) (value >>> shift));
+            }
+        }
+        return Long.BYTES;
+    }
+
+    private static int getInt(ByteBuffer in) {
+        int result = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            result = result << Byte.SIZE | Byte.toUnsignedInt(in.get());
+        }
+        return result;
+    }
+
+    private static long getLong(ByteBuffer in) {
+        long result = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            result = result << Byte.SIZE | Byte.toUnsignedInt(in.get());
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the bits of the number, which compare as unsigned in the order of the numbers.
+     */
+    private static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE;
+    }
+
+    private static float floatOf(int sortableBits) {
+        int bits = sortableBits < 0 ? sortableBits ^ Integer.MIN_VALUE : ~sortableBits;
+        return Float.intBitsToFloat(bits);
+    }
+
+    /**
+     * Obtains the bits of the number, which compare as unsigned in the order of the numbers.
+     */
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    private static double doubleOf(long sortableBits) {
+        long bits = sortableBits < 0 ? sortableBits ^ Long.MIN_VALUE : ~sortableBits;
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static void readMessage(Message.Builder builder, ByteBuffer in) {
+        for (FieldDescriptor field : builder.getDescriptorForType()
+                                            .getFields()) {
+            OneofDescriptor oneof = field.getContainingOneof();
+            if (oneof == null) {
+                readField(builder, field, in);
+            } else if (oneof.getField(0) == field) {
+                readOneof(builder, oneof, in);
+            }
+        }
+    }
+
+    private static void readField(Message.Builder builder, FieldDescriptor field, ByteBuffer in) {
+        if (field.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+            byte presence = in.get();
+            if (presence == PRESENT) {
+                builder.setField(field, readValue(builder, field, in));
+            } else if (presence != ABSENT) {
+                throw newIllegalArgumentException("Invalid presence of the field `%s`: %d.",
+                                                  field.getFullName(), presence);
+            }
+            return;
+        }
+        Object value = readValue(builder, field, in);
+        if (!value.equals(field.getDefaultValue())) {
+            builder.setField(field, value);
+        }
+    }
+
+    private static void readOneof(Message.Builder builder, OneofDescriptor oneof, ByteBuffer in) {
+        int number = Byte.toUnsignedInt(in.get());
+        if (number == ABSENT) {
+            return;
+        }
+        if (number > oneof.getFieldCount()) {
+            throw newIllegalArgumentException("Invalid field of the oneof `%s`: %d.",
+                                              oneof.getFullName(), number);
+        }
+        FieldDescriptor field = oneof.getField(number - 1);
+        builder.setField(field, readValue(builder, field, in));
+    }
+
+    private static Object readValue(Message.Builder builder, FieldDescriptor field,
+                                    ByteBuffer in) {
+        switch (field.getType()) {
+            case INT32:
+            case SINT32:
+            case SFIXED32:
+                return getInt(in) ^ Integer.MIN_VALUE;
+            case UINT32:
+            case FIXED32:
+                return getInt(in);
+            case INT64:
+            case SINT64:
+            case SFIXED64:
+                return getLong(in) ^ Long.MIN_VALUE;
+            case UINT64:
+            case FIXED64:
+                return getLong(in);
+            case BOOL:
+                return in.get() != 0;
+            case FLOAT:
+                return floatOf(getInt(in));
+            case DOUBLE:
+                return doubleOf(getLong(in));
+            case STRING:
+                return readString(in);
+            case BYTES:
+                return readBytes(in);
+            case ENUM:
+                int number = getInt(in) ^ Integer.MIN_VALUE;
+                EnumValueDescriptor value = field.getEnumType()
+                                                 .findValueByNumber(number);
+                if (value == null) {
+                    throw newIllegalArgumentException("Unknown value of the enum `%s`: %d.",
+                                                      field.getEnumType()
+                                                           .getFullName(), number);
+                }
+                return value;
+            case MESSAGE:
+                Message.Builder nested = builder.newBuilderForField(field);
+                readMessage(nested, in);
+                return nested.build();
+            case GROUP:
+            default:
+                throw newIllegalArgumentException("Unsupported field type: `%s`.",
+                                                  field.getType());
+        }
+    }
+
+    @SuppressWarnings("MagicNumber") // UTF-8 decoding.
+    private static String readString(ByteBuffer in) {
+        StringBuilder result = new StringBuilder();
+        while (true) {
+            int b = Byte.toUnsignedInt(in.get());
+            if (b == ESCAPE) {
+                if (readEscaped(in)) {
+                    return result.toString();
+                }
+                result.append('\0');
+            } else if (b < 0x80) {
+                result.append((char) b);
+            } else if (b < 0xC0) {
+                throw newIllegalArgumentException("Invalid UTF-8 leading byte: %d.", b);
+            } else if (b < 0xE0) {
+                result.append((char) ((b & 0x1F) << 6 | continuation(in)));
+            } else if (b < 0xF0) {
+                int high = (b & 0x0F) << 12 | continuation(in) << 6;
+                result.append((char) (high | continuation(in)));
+            } else {
+                int high = (b & 0x07) << 18 | continuation(in) << 12;
+                int low = continuation(in) << 6 | continuation(in);
+                result.appendCodePoint(high | low);
+            }
+        }
+    }
+
+    @SuppressWarnings("MagicNumber") // UTF-8 decoding.
+    private static int continuation(ByteBuffer in) {
+        int b = Byte.toUnsignedInt(in.get());
+        if ((b & 0xC0) != 0x80) {
+            throw newIllegalArgumentException("Invalid UTF-8 continuation byte: %d.", b);
+        }
+        return b & 0x3F;
+    }
+
+    private static ByteString readBytes(ByteBuffer in) {
+        ByteString.Output output = ByteString.newOutput();
+        while (true) {
+            byte b = in.get();
+            if (b == ESCAPE) {
+                if (readEscaped(in)) {
+                    return output.toByteString();
+                }
+                output.write(0);
+            } else {
+                output.write(b);
+            }
+        }
+    }
+
+    /**
+     * Reads the byte following the {@link #ESCAPE}.
+     *
+     * @return {@code true} if the byte marks the end of the value, {@code false} if it denotes
+     *         a zero byte
+     */
+    private static boolean readEscaped(ByteBuffer in) {
+        byte b = in.get();
+        if (b == END) {
+            return true;
+        }
+        if (b == ESCAPED_ZERO) {
+            return false;
+        }
+        throw newIllegalArgumentException("Invalid escaped byte: %d.", b);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import io.spine.annotation.Internal;
+import io.spine.type.TypeName;
+
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.type.TypeName.PACKAGE_SEPARATOR;
+
+/**
+ * The kinds of the message types declared in a set of files.
+ *
+ * <p>A kind of a message type is an interface, such as {@link EventMessage} or {@link UuidValue},
+ * whose {@linkplain MessageClassifier contract} the message type matches. A type may be of
+ * several kinds or of none.
+ *
+ * <p>All the top-level message types of the files are classified once, on creation.
+ * The nested types are not classified, as the classifiers apply only to the top-level types.
+ *
+ * @see MessageClassifiers#classify(io.spine.code.proto.FileSet)
+ */
+@Internal
+public final class MessageClassification {
+
+    private final ImmutableSetMultimap<TypeName, Class<?>> kinds;
+
+    private MessageClassification(ImmutableSetMultimap<TypeName, Class<?>> kinds) {
+        this.kinds = kinds;
+    }
+
+    /**
+     * Classifies the top-level message types of the passed files with the passed classifiers.
+     *
+     * <p>The messages are passed to the classifiers directly, skipping the check that
+     * the declaring file contains the message.
+     */
+    static MessageClassification of(Iterable<FileDescriptorProto> files,
+                                    ImmutableMap<Class<?>, MessageClassifier> classifiers) {
+        ImmutableSetMultimap.Builder<TypeName, Class<?>> kinds = ImmutableSetMultimap.builder();
+        for (FileDescriptorProto file : files) {
+            for (DescriptorProto message : file.getMessageTypeList()) {
+                TypeName type = typeName(message, file);
+                for (Map.Entry<Class<?>, MessageClassifier> entry : classifiers.entrySet()) {
+                    if (entry.getValue()
+                             .doTest(message, file)) {
+                        kinds.put(type, entry.getKey());
+                    }
+                }
+            }
+        }
+        return new MessageClassification(kinds.build());
+    }
+
+    /**
+     * Merges the classifications of distinct sets of files.
+     */
+    static MessageClassification union(Iterable<MessageClassification> classifications) {
+        ImmutableSetMultimap.Builder<TypeName, Class<?>> kinds = ImmutableSetMultimap.builder();
+        for (MessageClassification classification : classifications) {
+            kinds.putAll(classification.kinds);
+        }
+        return new MessageClassification(kinds.build());
+    }
+
+    private static TypeName typeName(DescriptorProto message, FileDescriptorProto file) {
+        String pkg = file.getPackage();
+        String name = pkg.isEmpty()
+                      ? message.getName()
+                      : pkg + PACKAGE_SEPARATOR + message.getName();
+        return TypeName.of(name);
+    }
+
+    /**
+     * Obtains the kinds of the message type with the given name.
+     *
+     * @return the interfaces whose contracts the type matches, or an empty set if the type
+     *         matches none or is not classified
+     */
+    public ImmutableSet<Class<?>> kindsOf(TypeName type) {
+        checkNotNull(type);
+        return kinds.get(type);
+    }
+
+    /**
+     * Obtains the kinds of the message type declared in the given file.
+     */
+    public ImmutableSet<Class<?>> kindsOf(DescriptorProto message,
+                                          FileDescriptorProto declaringFile) {
+        checkNotNull(message);
+        checkNotNull(declaringFile);
+        return kindsOf(typeName(message, declaringFile));
+    }
+
+    /**
+     * Verifies if the message type with the given name is of the given kind.
+     */
+    public boolean is(TypeName type, Class<?> kind) {
+        checkNotNull(type);
+        checkNotNull(kind);
+        return kinds.containsEntry(type, kind);
+    }
+
+    /**
+     * Obtains the names of the message types of the given kind.
+     */
+    public ImmutableSet<TypeName> typesOf(Class<?> kind) {
+        checkNotNull(kind);
+        return kinds.inverse()
+                    .get(kind);
+    }
+
+    /**
+     * Obtains the kinds of all the classified types which are of any kind.
+     */
+    public ImmutableSetMultimap<TypeName, Class<?>> asMultimap() {
+        return kinds;
+    }
+}
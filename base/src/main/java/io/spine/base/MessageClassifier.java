@@ -25,6 +25,7 @@ import com.google.protobuf.DescriptorProtos.DescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import io.spine.annotation.Internal;
 
+import java.util.List;
 import java.util.function.BiPredicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -55,8 +56,7 @@ public abstract class MessageClassifier
     public boolean test(DescriptorProto message, FileDescriptorProto declaringFile) {
         checkNotNull(message);
         checkNotNull(declaringFile);
-        boolean messageInFile = declaringFile.getMessageTypeList()
-                                             .contains(message);
+        boolean messageInFile = contains(declaringFile, message);
         checkArgument(messageInFile,
                       "The passed file %s does not contain the specified message type %s",
                       declaringFile.getName(),
@@ -64,5 +64,21 @@ public abstract class MessageClassifier
         return doTest(message, declaringFile);
     }
 
+    /**
+     * Checks if the file declares the message.
+     *
+     * <p>Message definitions are usually obtained from the file itself, so the same instance
+     * is searched for first. Only if there is none, the definitions are compared by value.
+     */
+    private static boolean contains(FileDescriptorProto file, DescriptorProto message) {
+        List<DescriptorProto> messages = file.getMessageTypeList();
+        for (DescriptorProto declared : messages) {
+            if (declared == message) {
+                return true;
+            }
+        }
+        return messages.contains(message);
+    }
+
     protected abstract boolean doTest(DescriptorProto message, FileDescriptorProto declaringFile);
 }
@@ -20,20 +20,37 @@
 
 package io.spine.base;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import io.spine.annotation.Internal;
+import io.spine.code.proto.FileSet;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.spine.util.Exceptions.newIllegalStateException;
 
 /**
- * A provider of {@link MessageClassifier} instances.
+ * A provider of {@link MessageClassifier} instances and of the {@link MessageClassification}s
+ * they make.
  */
 @Internal
 public final class MessageClassifiers {
 
-    private static final Map<Class<?>, MessageClassifier> classifiers = classifiers();
+    private static final ImmutableMap<Class<?>, MessageClassifier> classifiers = classifiers();
+
+    /**
+     * The classifications of single files.
+     *
+     * <p>The files are compared by identity and are not prevented from being garbage collected.
+     */
+    private static final LoadingCache<FileDescriptorProto, MessageClassification> files =
+            CacheBuilder.newBuilder()
+                        .weakKeys()
+                        .build(CacheLoader.from(MessageClassifiers::classifyFile));
 
     private MessageClassifiers() {
     }
@@ -52,14 +69,47 @@ public final class MessageClassifiers {
         return classifier;
     }
 
-    private static Map<Class<?>, MessageClassifier> classifiers() {
-        Map<Class<?>, MessageClassifier> classifiers = new HashMap<>();
+    /**
+     * Classifies all the message types declared in the passed set of files with all
+     * the registered classifiers.
+     *
+     * <p>The classifications of the files are cached, so that classifying the same files again
+     * only merges the cached results without testing the messages anew.
+     */
+    public static MessageClassification classify(FileSet fileSet) {
+        checkNotNull(fileSet);
+        ImmutableList<MessageClassification> classifications =
+                fileSet.files()
+                       .stream()
+                       .map(file -> files.getUnchecked(file.toProto()))
+                       .collect(toImmutableList());
+        return MessageClassification.union(classifications);
+    }
+
+    /**
+     * Classifies all the message types declared in the passed file with all the registered
+     * classifiers.
+     *
+     * <p>The result is cached, so that classifying the same file again does not test
+     * the messages anew.
+     */
+    public static MessageClassification classify(FileDescriptorProto file) {
+        checkNotNull(file);
+        return files.getUnchecked(file);
+    }
+
+    private static MessageClassification classifyFile(FileDescriptorProto file) {
+        return MessageClassification.of(ImmutableList.of(file), classifiers);
+    }
+
+    private static ImmutableMap<Class<?>, MessageClassifier> classifiers() {
+        ImmutableMap.Builder<Class<?>, MessageClassifier> classifiers = ImmutableMap.builder();
 
         classifiers.put(CommandMessage.class, new CommandMessageClassifier());
         classifiers.put(EventMessage.class, new EventMessageClassifier());
         classifiers.put(RejectionMessage.class, new RejectionMessageClassifier());
         classifiers.put(UuidValue.class, new UuidValueClassifier());
 
-        return classifiers;
+        return classifiers.build();
     }
 }
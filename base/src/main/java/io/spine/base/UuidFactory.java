@@ -29,6 +29,7 @@ import io.spine.protobuf.Messages;
 import java.util.List;
 import java.util.UUID;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static io.spine.base.UuidValueClassifier.FIELD_NAME;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
@@ -101,6 +102,23 @@ final class UuidFactory<I extends Message> {
         return (I) initializedId;
     }
 
+    /**
+     * Creates an instance of the UUID message from the passed value and resolves it to
+     * the canonical instance in the passed pool.
+     *
+     * @param value
+     *         a value to use
+     * @param interner
+     *         the pool of the canonical ID instances
+     * @return the canonical message instance with the {@code uuid} field initialized to
+     *         the given value
+     */
+    I newUuidOf(String value, IdInterner interner) {
+        checkNotNull(interner);
+        I id = newUuidOf(value);
+        return interner.intern(id);
+    }
+
     private static boolean isUuidMessage(Descriptor message) {
         DescriptorProto messageProto = message.toProto();
         return new UuidValueClassifier().doTest(messageProto);
@@ -72,4 +72,18 @@ public interface UuidValue<I extends Message> extends SerializableMessage {
         UuidFactory<I> uuidFactory = UuidFactory.forClass(thisClass);
         return uuidFactory.newUuidOf(value);
     }
+
+    /**
+     * Creates a new identifier instance from the passed value and resolves it to the canonical
+     * instance in the passed pool.
+     *
+     * @throws IllegalArgumentException
+     *         if the passed value is not a valid UUID string
+     */
+    default I of(String value, IdInterner interner) {
+        checkNotEmptyOrBlank(value);
+        Class<I> thisClass = (Class<I>) this.getClass();
+        UuidFactory<I> uuidFactory = UuidFactory.forClass(thisClass);
+        return uuidFactory.newUuidOf(value, interner);
+    }
 }
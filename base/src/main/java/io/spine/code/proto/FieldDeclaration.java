@@ -120,7 +120,6 @@ public final class FieldDeclaration implements Logging {
                     knownTypes.getAllUrls()
                               .stream()
                               .map(TypeUrl::value)
-                              .sorted()
                               .collect(toList());
             String newLine = format(",%n");
             String message =
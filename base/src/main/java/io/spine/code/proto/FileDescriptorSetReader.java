@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import io.spine.annotation.Internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.DescriptorProtos.FileDescriptorProto.NAME_FIELD_NUMBER;
+import static com.google.protobuf.DescriptorProtos.FileDescriptorProto.PACKAGE_FIELD_NUMBER;
+import static com.google.protobuf.DescriptorProtos.FileDescriptorProto.SOURCE_CODE_INFO_FIELD_NUMBER;
+import static com.google.protobuf.DescriptorProtos.FileDescriptorSet.FILE_FIELD_NUMBER;
+import static com.google.protobuf.WireFormat.WIRETYPE_LENGTH_DELIMITED;
+import static com.google.protobuf.WireFormat.getTagFieldNumber;
+import static com.google.protobuf.WireFormat.getTagWireType;
+import static io.spine.option.Options.registry;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads files from a descriptor set file without parsing the whole {@link FileDescriptorSet}.
+ *
+ * <p>The reader maps the descriptor set file into memory and goes through the entries of
+ * the {@code file} field one by one. Before parsing an entry, the reader tests it with
+ * the {@linkplain #filter(Predicate) filter}. The filter receives a descriptor with only
+ * the {@code name} and the {@code package} of the file, which are read without parsing
+ * the rest of the entry. The rejected entries are skipped.
+ *
+ * <p>The {@code source_code_info} of the files, which holds the comments and often makes the most
+ * of a descriptor set, may be {@linkplain #skipSourceInfo() skipped} as well.
+ *
+ * <p>Usage example:
+ * <pre>
+ *     {@code
+ *     List<FileDescriptorProto> files = FileDescriptorSetReader.of(path)
+ *                                                              .filter(file -> !isGoogle(file))
+ *                                                              .skipSourceInfo()
+ *                                                              .read();
+ *     }
+ * </pre>
+ */
+@Internal
+public final class FileDescriptorSetReader {
+
+    private final Path file;
+    private Predicate<FileDescriptorProto> filter = descriptor -> true;
+    private boolean skipSourceInfo;
+    private boolean inHeap;
+
+    private FileDescriptorSetReader(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates a new reader of the given descriptor set file.
+     */
+    public static FileDescriptorSetReader of(Path descriptorSetFile) {
+        checkNotNull(descriptorSetFile);
+        return new FileDescriptorSetReader(descriptorSetFile);
+    }
+
+    /**
+     * Sets the filter for the files to read.
+     *
+     * @param filter
+     *         the predicate accepting the files to read; the predicate receives
+     *         the descriptors with only the name and the package set
+     */
+    @CanIgnoreReturnValue
+    public FileDescriptorSetReader filter(Predicate<FileDescriptorProto> filter) {
+        this.filter = checkNotNull(filter);
+        return this;
+    }
+
+    /**
+     * Makes the reader drop the {@code source_code_info} of the files.
+     */
+    @CanIgnoreReturnValue
+    public FileDescriptorSetReader skipSourceInfo() {
+        this.skipSourceInfo = true;
+        return this;
+    }
+
+    /**
+     * Makes the reader load the descriptor set file into the heap instead of mapping it.
+     *
+     * <p>A file mapped into memory cannot be deleted or replaced on some platforms, e.g. Windows,
+     * until the mapping is garbage-collected. Use this mode for the files which are rewritten
+     * after reading.
+     */
+    @CanIgnoreReturnValue
+    public FileDescriptorSetReader inHeap() {
+        this.inHeap = true;
+        return this;
+    }
+
+    /**
+     * Reads the files accepted by the filter.
+     *
+     * @throws IllegalStateException
+     *         if the descriptor set file cannot be read or parsed
+     */
+    public List<FileDescriptorProto> read() {
+        ImmutableList.Builder<FileDescriptorProto> result = ImmutableList.builder();
+        try {
+            ByteBuffer content = inHeap
+                                 ? ByteBuffer.wrap(Files.readAllBytes(file))
+                                 : map();
+            CodedInputStream input = CodedInputStream.newInstance(content);
+            input.enableAliasing(true);
+            int tag = input.readTag();
+            while (tag != 0) {
+                if (isFileEntry(tag)) {
+                    ByteString entry = input.readBytes();
+                    if (filter.test(readHeader(entry))) {
+                        result.add(parse(entry));
+                    }
+                } else {
+                    input.skipField(tag);
+                }
+                tag = input.readTag();
+            }
+        } catch (IOException e) {
+            throw newIllegalStateException(
+                    e, "Cannot read the descriptor set file `%s`.", file
+            );
+        }
+        return result.build();
+    }
+
+    /**
+     * Reads the files accepted by the filter into a descriptor set.
+     *
+     * @see #read()
+     */
+    public FileDescriptorSet readSet() {
+        FileDescriptorSet result = FileDescriptorSet
+                .newBuilder()
+                .addAllFile(read())
+                .build();
+        return result;
+    }
+
+    private ByteBuffer map() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            long size = channel.size();
+            checkArgument(size <= Integer.MAX_VALUE,
+                          "The descriptor set file `%s` is too large.", file);
+            ByteBuffer result = channel.map(READ_ONLY, 0, size);
+            return result;
+        }
+    }
+
+    private static boolean isFileEntry(int tag) {
+        return getTagFieldNumber(tag) == FILE_FIELD_NUMBER
+                && getTagWireType(tag) == WIRETYPE_LENGTH_DELIMITED;
+    }
+
+    /**
+     * Reads the name and the package of the file, skipping other fields.
+     */
+    private static FileDescriptorProto readHeader(ByteString entry) throws IOException {
+        FileDescriptorProto.Builder header = FileDescriptorProto.newBuilder();
+        CodedInputStream input = entry.newCodedInput();
+        int tag = input.readTag();
+        while (tag != 0 && !(header.hasName() && header.hasPackage())) {
+            int field = getTagFieldNumber(tag);
+            if (field == NAME_FIELD_NUMBER) {
+                header.setName(input.readString());
+            } else if (field == PACKAGE_FIELD_NUMBER) {
+                header.setPackage(input.readString());
+            } else {
+                input.skipField(tag);
+            }
+            tag = input.readTag();
+        }
+        return header.build();
+    }
+
+    private FileDescriptorProto parse(ByteString entry) throws IOException {
+        ByteString content = skipSourceInfo
+                             ? withoutSourceInfo(entry)
+                             : entry;
+        FileDescriptorProto result = FileDescriptorProto.parseFrom(content, registry());
+        return result;
+    }
+
+    /**
+     * Copies the fields of the file entry except the {@code source_code_info}.
+     */
+    private static ByteString withoutSourceInfo(ByteString entry) throws IOException {
+        ByteString.Output output = ByteString.newOutput(entry.size());
+        CodedOutputStream copy = CodedOutputStream.newInstance(output);
+        CodedInputStream input = entry.newCodedInput();
+        int tag = input.readTag();
+        while (tag != 0) {
+            if (getTagFieldNumber(tag) == SOURCE_CODE_INFO_FIELD_NUMBER) {
+                input.skipField(tag);
+            } else {
+                input.skipField(tag, copy);
+            }
+            tag = input.readTag();
+        }
+        copy.flush();
+        return output.toByteString();
+    }
+}
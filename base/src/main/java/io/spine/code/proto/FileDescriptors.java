@@ -29,7 +29,6 @@ import io.spine.logging.Logging;
 import org.slf4j.Logger;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -43,7 +42,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Sets.newHashSet;
 import static io.spine.util.Exceptions.newIllegalStateException;
-import static java.util.stream.Collectors.toList;
+import static java.lang.String.format;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -91,12 +90,16 @@ public final class FileDescriptors {
      * Returns descriptors of `.proto` files described in the descriptor set file
      * which match the filter predicate.
      *
+     * <p>The files rejected by the filter are skipped without being parsed.
+     *
      * @param descriptorSet
      *         the file generated by the Protobuf compiler which
      *         contains descriptors of the project {@code .proto} files
      * @param filter
-     *         a filter predicate to apply to the files
+     *         a filter predicate to apply to the files; the predicate receives
+     *         the descriptors with only the name and the package of the file
      * @return a list of descriptors
+     * @see FileDescriptorSetReader
      */
     private static List<FileDescriptorProto> parseAndFilter(File descriptorSet,
                                                             Predicate<FileDescriptorProto> filter) {
@@ -109,18 +112,9 @@ public final class FileDescriptors {
                       descriptorSet);
         }
 
-        List<FileDescriptorProto> files;
-        try (FileInputStream fis = new FileInputStream(descriptorSet)) {
-            FileDescriptorSet fileSet = FileDescriptorSets.parse(fis);
-            files = fileSet.getFileList()
-                           .stream()
-                           .filter(filter)
-                           .collect(toList());
-        } catch (IOException e) {
-            throw newIllegalStateException(
-                    e, "Cannot get proto file descriptors. Path: %s", descriptorSet
-            );
-        }
+        List<FileDescriptorProto> files = FileDescriptorSetReader.of(descriptorSet.toPath())
+                                                                 .filter(filter)
+                                                                 .read();
         log.debug("Found {} files.", files.size());
         return files;
     }
@@ -229,8 +223,9 @@ public final class FileDescriptors {
             checkNotNull(file);
             boolean result = !file.getPackage()
                                   .startsWith(GOOGLE_PACKAGE);
-            _debug("[IsNotGoogleProto] Tested {} with package {}. The result is {}.",
-                   file.getName(), file.getPackage(), result);
+            _debugOnce(file.getName(), () -> format(
+                    "[IsNotGoogleProto] Tested %s with package %s. The result is %s.",
+                    file.getName(), file.getPackage(), result));
             return result;
         }
 
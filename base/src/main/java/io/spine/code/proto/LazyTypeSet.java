@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.annotation.Internal;
+import io.spine.type.TypeName;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.protobuf.Descriptors.FileDescriptor.buildFrom;
+import static io.spine.type.TypeName.NESTED_TYPE_SEPARATOR;
+import static io.spine.type.TypeName.PACKAGE_SEPARATOR;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * A set of Protobuf types, which links the descriptors of the files declaring the types
+ * on demand.
+ *
+ * <p>The set does not read its files until a type is {@linkplain #contains(TypeName) checked}
+ * or {@linkplain #find(TypeName) requested} for the first time. Then, the set only indexes
+ * the names of the declared types by the files declaring them. A file is
+ * {@linkplain FileDescriptor#buildFrom linked} together with the files it depends on, when one
+ * of its types is requested for the first time.
+ *
+ * <p>Like {@link Linker}, the set tolerates the dependencies which are not present among
+ * the files of the set. Such dependencies are skipped when linking a file.
+ *
+ * <p>The instances of this class are safe for use from several threads.
+ */
+@Internal
+public final class LazyTypeSet {
+
+    private static final FileDescriptor[] NO_DEPENDENCIES = {};
+
+    /** The index of the files of the set, built on the first use. */
+    private final Supplier<Index> index;
+
+    /** The files linked so far. Guarded by {@code this}. */
+    private final Map<FileName, FileDescriptor> linked = newHashMap();
+
+    /** The types declared in the linked files. */
+    private final Map<FileName, TypeSet> typesByFile = new ConcurrentHashMap<>();
+
+    /** The types declared in all the files of the set. */
+    private final Supplier<TypeSet> allTypes = memoize(this::linkAll);
+
+    private LazyTypeSet(Supplier<? extends Collection<FileDescriptorProto>> files) {
+        this.index = memoize(() -> new Index(files.get()));
+    }
+
+    /**
+     * Creates a new set of the types declared in the passed files.
+     *
+     * <p>The files must have distinct names.
+     */
+    public static LazyTypeSet of(Collection<FileDescriptorProto> files) {
+        checkNotNull(files);
+        return new LazyTypeSet(() -> files);
+    }
+
+    /**
+     * Creates a new set of the types declared in the files
+     * {@linkplain FileDescriptors#load() loaded} from the classpath.
+     *
+     * <p>The files are loaded on the first use of the set.
+     */
+    public static LazyTypeSet load() {
+        return new LazyTypeSet(FileDescriptors::load);
+    }
+
+    private Index index() {
+        return index.get();
+    }
+
+    /**
+     * Verifies if the set contains a type with the passed name.
+     *
+     * <p>Does not link any files.
+     */
+    public boolean contains(TypeName typeName) {
+        checkNotNull(typeName);
+        boolean result = index().declaringFiles.containsKey(typeName);
+        return result;
+    }
+
+    /**
+     * Obtains a type by its name.
+     *
+     * <p>Links the file declaring the type and its dependencies, unless they are already linked.
+     *
+     * @return the type with the given name or {@code Optional.empty()} if there is no such type
+     *         in this set
+     */
+    public Optional<Type<?, ?>> find(TypeName typeName) {
+        checkNotNull(typeName);
+        FileName file = index().declaringFiles.get(typeName);
+        if (file == null) {
+            return Optional.empty();
+        }
+        TypeSet types = typesOf(file);
+        return types.find(typeName);
+    }
+
+    /**
+     * Obtains all the types of this set.
+     *
+     * <p>Links all the files of the set, unless they are already linked.
+     */
+    public TypeSet all() {
+        return allTypes.get();
+    }
+
+    private TypeSet linkAll() {
+        TypeSet.Builder result = TypeSet.newBuilder();
+        for (FileName file : index().files.keySet()) {
+            result.addAll(typesOf(file));
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the types declared in the file, linking the file if needed.
+     *
+     * <p>The file is linked outside of the computation of the map entry, as linking may take
+     * long and is performed under the lock of this set.
+     */
+    private TypeSet typesOf(FileName file) {
+        TypeSet types = typesByFile.get(file);
+        if (types != null) {
+            return types;
+        }
+        TypeSet linkedTypes = TypeSet.messagesAndEnums(link(file));
+        TypeSet previous = typesByFile.putIfAbsent(file, linkedTypes);
+        return previous != null
+               ? previous
+               : linkedTypes;
+    }
+
+    /**
+     * Obtains the descriptor of the file with the given name, linking it and its dependencies
+     * if needed.
+     */
+    private synchronized FileDescriptor link(FileName fileName) {
+        return link(fileName, new LinkedHashSet<>());
+    }
+
+    /**
+     * Links the file and its dependencies, which are not linked yet.
+     *
+     * @param fileName
+     *         the name of the file to link
+     * @param visiting
+     *         the files being linked, which depend on the file, starting from the outermost
+     * @throws IllegalStateException
+     *         if the file depends on itself directly or through other files
+     */
+    private FileDescriptor link(FileName fileName, Set<FileName> visiting) {
+        FileDescriptor result = linked.get(fileName);
+        if (result != null) {
+            return result;
+        }
+        if (!visiting.add(fileName)) {
+            throw newIllegalStateException(
+                    "The file `%s` depends on itself through the files: %s.", fileName, visiting
+            );
+        }
+        ImmutableMap<FileName, FileDescriptorProto> files = index().files;
+        FileDescriptorProto file = files.get(fileName);
+        List<FileDescriptor> dependencies = newArrayListWithCapacity(file.getDependencyCount());
+        for (String dependency : file.getDependencyList()) {
+            FileName dependencyName = FileName.of(dependency);
+            if (files.containsKey(dependencyName)) {
+                dependencies.add(link(dependencyName, visiting));
+            }
+        }
+        visiting.remove(fileName);
+        try {
+            result = buildFrom(file, dependencies.toArray(NO_DEPENDENCIES), true);
+        } catch (DescriptorValidationException e) {
+            throw newIllegalStateException(e, "Unable to link the file `%s`.", fileName);
+        }
+        linked.put(fileName, result);
+        return result;
+    }
+
+    /**
+     * Verifies if the file with the given name is already linked.
+     */
+    @VisibleForTesting
+    synchronized boolean isLinked(FileName fileName) {
+        return linked.containsKey(fileName);
+    }
+
+    /**
+     * The files of a set and the types declared in them.
+     */
+    private static final class Index {
+
+        /** The files of the set by their names. */
+        private final ImmutableMap<FileName, FileDescriptorProto> files;
+
+        /** The names of the files by the names of the types declared in them. */
+        private final ImmutableMap<TypeName, FileName> declaringFiles;
+
+        private Index(Collection<FileDescriptorProto> files) {
+            ImmutableMap.Builder<FileName, FileDescriptorProto> byName = ImmutableMap.builder();
+            Map<TypeName, FileName> typeIndex = newHashMap();
+            for (FileDescriptorProto file : files) {
+                FileName fileName = FileName.from(file);
+                byName.put(fileName, file);
+                indexTypes(file, fileName, typeIndex);
+            }
+            this.files = byName.build();
+            this.declaringFiles = ImmutableMap.copyOf(typeIndex);
+        }
+
+        private static void indexTypes(FileDescriptorProto file,
+                                       FileName fileName,
+                                       Map<TypeName, FileName> index) {
+            String pkg = file.getPackage();
+            String prefix = pkg.isEmpty()
+                            ? pkg
+                            : pkg + PACKAGE_SEPARATOR;
+            for (DescriptorProto message : file.getMessageTypeList()) {
+                indexMessage(message, prefix, fileName, index);
+            }
+            for (EnumDescriptorProto enumType : file.getEnumTypeList()) {
+                index.put(TypeName.of(prefix + enumType.getName()), fileName);
+            }
+        }
+
+        /**
+         * Indexes the message type and the types nested in it.
+         *
+         * <p>Skips the map entry types, which are not included into a {@link TypeSet}.
+         */
+        private static void indexMessage(DescriptorProto message,
+                                         String prefix,
+                                         FileName fileName,
+                                         Map<TypeName, FileName> index) {
+            if (message.getOptions()
+                       .getMapEntry()) {
+                return;
+            }
+            String name = prefix + message.getName();
+            index.put(TypeName.of(name), fileName);
+            String nestedPrefix = name + NESTED_TYPE_SEPARATOR;
+            for (DescriptorProto nested : message.getNestedTypeList()) {
+                indexMessage(nested, nestedPrefix, fileName, index);
+            }
+            for (EnumDescriptorProto enumType : message.getEnumTypeList()) {
+                index.put(TypeName.of(nestedPrefix + enumType.getName()), fileName);
+            }
+        }
+    }
+}
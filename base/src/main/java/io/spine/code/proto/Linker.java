@@ -22,16 +22,19 @@ package io.spine.code.proto;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
 import com.google.protobuf.Descriptors.FileDescriptor;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static com.google.protobuf.Descriptors.FileDescriptor.buildFrom;
 import static io.spine.util.Exceptions.newIllegalStateException;
 import static java.util.stream.Collectors.toList;
@@ -39,26 +42,43 @@ import static java.util.stream.Collectors.toList;
 /**
  * Builds a set of {@link FileDescriptor}s from a list of {@link FileDescriptorProto}.
  *
+ * <p>The files are linked in the topological order of their dependencies. First, the files
+ * which do not depend on other files of the input are built. Then, the files depending only on
+ * the built files, and so on. The files of such a wave do not depend on each other, so they are
+ * built in parallel.
+ *
+ * <p>A file is {@linkplain #getResolved() resolved} if all its dependencies, direct or
+ * transitive, are present in the input. Otherwise, the file is
+ * {@linkplain #getPartiallyResolved() partially resolved} and is linked with those dependencies
+ * which are available. The files which cannot be ordered because of a dependency cycle, and
+ * the files depending on them are {@linkplain #getUnresolved() unresolved}.
+ *
  * @author Alexander Yevsyukov
  */
 class Linker {
 
     private static final FileDescriptor[] NO_DEPENDENCIES = {};
 
-    private final List<FileDescriptorProto> input;
-
-    private final List<FileDescriptorProto> remaining;
+    private final Map<FileName, FileDescriptorProto> remaining;
 
     private final FileSet resolved;
     private final FileSet partiallyResolved;
     private final FileSet unresolved;
 
+    /** The linked files by their names. */
+    private final Map<FileName, FileDescriptor> linked;
+
+    private boolean done;
+
     Linker(Iterable<FileDescriptorProto> input) {
-        this.input = ImmutableList.copyOf(input);
-        this.remaining = Lists.newArrayList(input);
+        this.remaining = newLinkedHashMap();
+        for (FileDescriptorProto file : input) {
+            remaining.putIfAbsent(FileName.from(file), file);
+        }
         this.resolved = FileSet.newInstance();
         this.partiallyResolved = FileSet.newInstance();
         this.unresolved = FileSet.newInstance();
+        this.linked = newHashMap();
     }
 
     static FileSet link(Collection<FileDescriptorProto> files) {
@@ -76,77 +96,108 @@ class Linker {
 
     void resolve() throws DescriptorValidationException {
         // Make sure this method is called only after the constructor once.
-        checkState(input.size() == remaining.size());
-        findNoDependencies();
-        findResolved();
-        findPartiallyResolved();
+        checkState(!done);
+        done = true;
+        Map<FileName, Node> graph = buildGraph();
+        List<Node> wave = graph.values()
+                               .stream()
+                               .filter(node -> node.pendingDependencies == 0)
+                               .collect(toList());
+        while (!wave.isEmpty()) {
+            List<Linked> results = linkAll(wave);
+            List<Node> nextWave = newArrayList();
+            for (Linked result : results) {
+                accept(result);
+                for (Node dependent : result.node.dependents) {
+                    dependent.pendingDependencies--;
+                    if (dependent.pendingDependencies == 0) {
+                        nextWave.add(dependent);
+                    }
+                }
+            }
+            wave = nextWave;
+        }
         addUnresolved();
     }
 
-    private void findNoDependencies() throws DescriptorValidationException {
-        Iterator<FileDescriptorProto> iterator = remaining.iterator();
-        while (iterator.hasNext()) {
-            FileDescriptorProto next = iterator.next();
-            if (next.getDependencyCount() == 0) {
-                FileDescriptor fd = buildFrom(next, NO_DEPENDENCIES, true);
-                resolved.add(fd);
-                iterator.remove();
+    /**
+     * Creates a node per input file and connects the nodes with the edges from the dependencies
+     * to the dependent files.
+     */
+    private Map<FileName, Node> buildGraph() {
+        Map<FileName, Node> graph = newLinkedHashMap();
+        for (FileDescriptorProto file : remaining.values()) {
+            graph.put(FileName.from(file), new Node(file));
+        }
+        for (Node node : graph.values()) {
+            for (String dependencyName : node.file.getDependencyList()) {
+                Node dependency = graph.get(FileName.of(dependencyName));
+                if (dependency == null) {
+                    node.complete = false;
+                } else {
+                    dependency.dependents.add(node);
+                    node.pendingDependencies++;
+                }
             }
         }
+        return graph;
     }
 
     /**
-     * Iterates over the remaining files while the list is not empty,
-     * or no more resolved files found.
+     * Links the files which do not depend on each other in parallel.
      */
-    private void findResolved() throws DescriptorValidationException {
-        boolean resolvedFound = true;
-        while (!remaining.isEmpty() && resolvedFound) {
-            resolvedFound = doFindResolved();
+    private List<Linked> linkAll(List<Node> wave) throws DescriptorValidationException {
+        try {
+            List<Linked> result = wave.parallelStream()
+                                      .map(this::linkUnchecked)
+                                      .collect(toList());
+            return result;
+        } catch (LinkingException e) {
+            throw e.getCause();
         }
     }
 
-    private boolean doFindResolved() throws DescriptorValidationException {
-        boolean result = false;
-        Iterator<FileDescriptorProto> iterator = remaining.iterator();
-        while (iterator.hasNext()) {
-            FileDescriptorProto next = iterator.next();
-            Collection<FileName> dependencyList = dependencies(next);
-            if (resolved.containsAll(dependencyList)) {
-                FileSet dependencies = resolved.find(dependencyList);
-                FileDescriptor newResolved = buildFrom(next, dependencies.toArray(), true);
-                resolved.add(newResolved);
-                result = true;
-                iterator.remove();
-            }
+    private Linked linkUnchecked(Node node) {
+        try {
+            return link(node);
+        } catch (DescriptorValidationException e) {
+            throw new LinkingException(e);
         }
-        return result;
     }
 
-    private void findPartiallyResolved() throws DescriptorValidationException {
-        boolean partiallyResolvedFound = true;
-        while (!remaining.isEmpty() && partiallyResolvedFound) {
-            partiallyResolvedFound = doFindPartiallyResolved();
+    /**
+     * Links the file of the given node.
+     *
+     * <p>All the dependencies of the file present in the input are already linked, so
+     * the method only reads the {@link #linked} map, which is not modified until all
+     * the files of the wave are linked.
+     */
+    private Linked link(Node node) throws DescriptorValidationException {
+        FileDescriptorProto file = node.file;
+        List<FileDescriptor> dependencies = newArrayListWithCapacity(file.getDependencyCount());
+        boolean complete = node.complete;
+        for (String dependencyName : file.getDependencyList()) {
+            FileName name = FileName.of(dependencyName);
+            FileDescriptor dependency = linked.get(name);
+            if (dependency != null) {
+                dependencies.add(dependency);
+                complete = complete && resolved.contains(name);
+            }
         }
+        FileDescriptor descriptor = buildFrom(file, dependencies.toArray(NO_DEPENDENCIES), true);
+        return new Linked(node, descriptor, complete);
     }
 
-    private boolean doFindPartiallyResolved() throws DescriptorValidationException {
-        boolean result = false;
-        FileSet partialAndResolved = resolved.union(partiallyResolved);
-        Iterator<FileDescriptorProto> iterator = remaining.iterator();
-        while (iterator.hasNext()) {
-            FileDescriptorProto next = iterator.next();
-            Collection<FileName> dependencyList = dependencies(next);
-            FileSet dependencies = partialAndResolved.find(dependencyList);
-            if (dependencies.isEmpty()) {
-                FileDescriptor newPartial = buildFrom(next, dependencies.toArray(), true);
-                partiallyResolved.add(newPartial);
-                partialAndResolved.add(newPartial);
-                result = true;
-            }
-            iterator.remove();
+    private void accept(Linked result) {
+        FileDescriptor descriptor = result.descriptor;
+        FileName name = FileName.from(descriptor);
+        linked.put(name, descriptor);
+        remaining.remove(name);
+        if (result.complete) {
+            resolved.add(descriptor);
+        } else {
+            partiallyResolved.add(descriptor);
         }
-        return result;
     }
 
     /**
@@ -158,24 +209,16 @@ class Linker {
      * the group.
      */
     private void addUnresolved() throws DescriptorValidationException {
-        while (!remaining.isEmpty()) {
-            FileDescriptorProto first = remaining.get(0);
-            FileDescriptor fd = buildFrom(first, NO_DEPENDENCIES, true);
+        for (FileDescriptorProto file : remaining.values()) {
+            FileDescriptor fd = buildFrom(file, NO_DEPENDENCIES, true);
             unresolved.add(fd);
-            remaining.remove(first);
         }
-    }
-
-    private static Collection<FileName> dependencies(FileDescriptorProto file) {
-        return file.getDependencyList()
-                   .stream()
-                   .map(FileName::of)
-                   .collect(toList());
+        remaining.clear();
     }
 
     @VisibleForTesting
     List<FileDescriptorProto> getRemaining() {
-        return ImmutableList.copyOf(remaining);
+        return ImmutableList.copyOf(remaining.values());
     }
 
     FileSet getResolved() {
@@ -189,4 +232,60 @@ class Linker {
     FileSet getUnresolved() {
         return unresolved;
     }
+
+    /**
+     * A file in the dependency graph.
+     */
+    private static final class Node {
+
+        private final FileDescriptorProto file;
+
+        /** The files which import this file. */
+        private final List<Node> dependents = newArrayList();
+
+        /** The number of the dependencies of the file present in the input and not yet linked. */
+        private int pendingDependencies;
+
+        /** Tells if all the dependencies of the file are present in the input. */
+        private boolean complete = true;
+
+        private Node(FileDescriptorProto file) {
+            this.file = file;
+        }
+    }
+
+    /**
+     * A linked file.
+     */
+    private static final class Linked {
+
+        private final Node node;
+        private final FileDescriptor descriptor;
+
+        /** Tells if the file and all its dependencies are resolved. */
+        private final boolean complete;
+
+        private Linked(Node node, FileDescriptor descriptor, boolean complete) {
+            this.node = node;
+            this.descriptor = descriptor;
+            this.complete = complete;
+        }
+    }
+
+    /**
+     * Transfers a {@link DescriptorValidationException} out of a parallel stream.
+     */
+    private static final class LinkingException extends RuntimeException {
+
+        private static final long serialVersionUID = 0L;
+
+        private LinkingException(DescriptorValidationException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized DescriptorValidationException getCause() {
+            return (DescriptorValidationException) super.getCause();
+        }
+    }
 }
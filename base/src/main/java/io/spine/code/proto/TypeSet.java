@@ -78,20 +78,20 @@ public final class TypeSet {
      * Obtains message and enum types declared in the files represented by the passed set.
      */
     public static TypeSet messagesAndEnums(FileSet fileSet) {
-        TypeSet result = new TypeSet();
+        Builder result = newBuilder();
         for (FileDescriptor file : fileSet.files()) {
-            result = result.union(messagesAndEnums(file));
+            result.addAll(messagesAndEnums(file));
         }
-        return result;
+        return result.build();
     }
 
     public static ImmutableCollection<MessageType> onlyMessages(FileSet fileSet) {
-        TypeSet result = new TypeSet();
+        Builder result = newBuilder();
         for (FileDescriptor file : fileSet.files()) {
-            TypeSet messageTypes = MessageType.allFrom(file);
-            result = result.union(messageTypes);
+            result.addAll(MessageType.allFrom(file));
         }
-        return result.messageTypes.values();
+        TypeSet types = result.build();
+        return types.messageTypes.values();
     }
 
     /**
@@ -251,6 +251,18 @@ public final class TypeSet {
             return this;
         }
 
+        /**
+         * Adds all the types of the passed set.
+         *
+         * <p>The types added before are replaced with the types of the same names from the set.
+         */
+        @CanIgnoreReturnValue
+        public Builder addAll(TypeSet types) {
+            messageTypes.putAll(types.messageTypes);
+            enumTypes.putAll(types.enumTypes);
+            return this;
+        }
+
         /**
          * Creates a new instance of {@code TypeSet}.
          *
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Limits the frequency of logging for the rate-limited and sampled methods
+ * of the {@link Logging} interface.
+ *
+ * <p>The limits are tracked per call site. A call site is identified by the class of
+ * the message supplier passed to a logging method. Since each lambda expression and method
+ * reference in the source code has its own class, the limits of two logging statements do
+ * not interfere. Suppliers of the same class passed from different statements share the limits.
+ *
+ * <p>The state of the limits is updated without locking.
+ */
+final class LogLimits {
+
+    /** The value of {@link #lastLogged} meaning that nothing was logged yet. */
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private static final ClassValue<LogLimits> callSites = new ClassValue<LogLimits>() {
+        @Override
+        protected LogLimits computeValue(Class<?> type) {
+            return new LogLimits();
+        }
+    };
+
+    private static final ClassValue<Set<Object>> loggedKeys = new ClassValue<Set<Object>>() {
+        @Override
+        protected Set<Object> computeValue(Class<?> type) {
+            return ConcurrentHashMap.newKeySet();
+        }
+    };
+
+    /** The {@link System#nanoTime() time} of the last allowed logging. */
+    private final AtomicLong lastLogged = new AtomicLong(NEVER);
+
+    /** The number of logging attempts. */
+    private final AtomicLong attempts = new AtomicLong();
+
+    /** Prevents instantiation from outside. */
+    private LogLimits() {
+    }
+
+    /**
+     * Obtains the limits of the call site which passes the given message supplier.
+     */
+    static LogLimits of(Object messageSupplier) {
+        checkNotNull(messageSupplier);
+        return callSites.get(messageSupplier.getClass());
+    }
+
+    /**
+     * Tells if a message with the given key is logged by the given class for the first time.
+     *
+     * <p>Keys are retained for the lifetime of the class. They should come from a bounded set,
+     * e.g. be names of fields or files.
+     */
+    static boolean firstTime(Class<?> loggingClass, Object key) {
+        checkNotNull(loggingClass);
+        checkNotNull(key);
+        Set<Object> keys = loggedKeys.get(loggingClass);
+        if (keys.contains(key)) {
+            return false;
+        }
+        boolean added = keys.add(key);
+        return added;
+    }
+
+    /**
+     * Tells if a message may be logged if the previous message at this call site was logged
+     * at least the given period ago.
+     *
+     * <p>If several threads log concurrently, only one of them is allowed.
+     */
+    boolean allowsAfter(Duration period) {
+        checkNotNull(period);
+        long now = System.nanoTime();
+        long last = lastLogged.get();
+        if (last != NEVER && now - last < period.toNanos()) {
+            return false;
+        }
+        boolean allowed = lastLogged.compareAndSet(last, now);
+        return allowed;
+    }
+
+    /**
+     * Tells if a message may be logged if only each {@code n}-th attempt at this call site
+     * is logged, starting from the first one.
+     */
+    boolean allowsEvery(int n) {
+        checkArgument(n > 0, "The sampling rate must be positive. Passed: %s.", n);
+        long attempt = attempts.getAndIncrement();
+        boolean allowed = attempt % n == 0;
+        return allowed;
+    }
+}
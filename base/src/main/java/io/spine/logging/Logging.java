@@ -28,6 +28,7 @@ import org.slf4j.event.EventRecodingLogger;
 import org.slf4j.event.SubstituteLoggingEvent;
 import org.slf4j.helpers.SubstituteLogger;
 
+import java.time.Duration;
 import java.util.Queue;
 import java.util.function.Supplier;
 
@@ -49,6 +50,15 @@ import static org.slf4j.LoggerFactory.getLogger;
  * {@link #_trace(String) _trace()}, {@link #_debug(String) _debug()},
  * {@link #_warn(String) _warn()}, {@link #_error(String) _error()}.
  *
+ * <p>The messages which are expensive to compute may be passed as a {@link Supplier}, which is
+ * called only if the logging level is enabled, e.g. {@link #_debug(Supplier) _debug(() -> ...)}.
+ *
+ * <p>Messages which may be logged repeatedly, e.g. on each validation of a misdeclared field,
+ * may be limited to be logged {@linkplain #_warnOnce(Object, Supplier) once per key},
+ * {@linkplain #_warnEvery(Duration, Supplier) once per period}, or
+ * {@linkplain #_warnEvery(int, Supplier) once per number of calls}. The latter two are
+ * limited per call site.
+ *
  * <p>The interface does not provide shortcut methods for than three arguments
  * because of the {@linkplain Logger#debug(String, Object...) associated performance cost}.
  * If you do need more than three arguments, please use a {@code Logger}
@@ -139,6 +149,20 @@ public interface Logging {
         log().trace(format, arg1, arg2, arg3);
     }
 
+    /**
+     * Logs a message obtained from the passed supplier at the {@linkplain Logger#trace(String)
+     * TRACE} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _trace(Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isTraceEnabled()) {
+            log.trace(msg.get());
+        }
+    }
+
     /*
      * DEBUG Level
      ****************/
@@ -175,6 +199,38 @@ public interface Logging {
         log().debug(format, arg1, arg2, arg3);
     }
 
+    /**
+     * Logs a message obtained from the passed supplier at the {@linkplain Logger#debug(String)
+     * DEBUG} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _debug(Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isDebugEnabled()) {
+            log.debug(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#debug(String) DEBUG} level only if a message
+     * with the same key was not logged by this class before.
+     *
+     * @param key
+     *         the key of the message, e.g. the name of a field or a file; the keys are retained
+     *         for the lifetime of the class and should come from a bounded set
+     * @param msg
+     *         the supplier of the message
+     */
+    default void _debugOnce(Object key, Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isDebugEnabled() && LogLimits.firstTime(getClass(), key)) {
+            log.debug(msg.get());
+        }
+    }
+
     /*
      * INFO level
      ****************/
@@ -211,6 +267,20 @@ public interface Logging {
         log().info(format, arg1, arg2, arg3);
     }
 
+    /**
+     * Logs a message obtained from the passed supplier at the {@linkplain Logger#info(String)
+     * INFO} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _info(Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isInfoEnabled()) {
+            log.info(msg.get());
+        }
+    }
+
     /*
      * WARN Level
      ****************/
@@ -247,6 +317,70 @@ public interface Logging {
         log().warn(format, arg1, arg2, arg3);
     }
 
+    /**
+     * Logs a message obtained from the passed supplier at the {@linkplain Logger#warn(String)
+     * WARN} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _warn(Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isWarnEnabled()) {
+            log.warn(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#warn(String) WARN} level only if a message
+     * with the same key was not logged by this class before.
+     *
+     * @param key
+     *         the key of the message, e.g. the name of a field or a file; the keys are retained
+     *         for the lifetime of the class and should come from a bounded set
+     * @param msg
+     *         the supplier of the message
+     */
+    default void _warnOnce(Object key, Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isWarnEnabled() && LogLimits.firstTime(getClass(), key)) {
+            log.warn(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#warn(String) WARN} level at most once
+     * per the passed period.
+     *
+     * <p>The period is counted per call site, which is identified by the class of
+     * the passed supplier. Thus, the supplier should be a lambda or a method reference
+     * declared at the call site.
+     */
+    default void _warnEvery(Duration period, Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isWarnEnabled() && LogLimits.of(msg).allowsAfter(period)) {
+            log.warn(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#warn(String) WARN} level on the first call and
+     * then on every {@code n}-th call.
+     *
+     * <p>The calls are counted per call site, which is identified by the class of
+     * the passed supplier. Thus, the supplier should be a lambda or a method reference
+     * declared at the call site.
+     */
+    default void _warnEvery(int n, Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isWarnEnabled() && LogLimits.of(msg).allowsEvery(n)) {
+            log.warn(msg.get());
+        }
+    }
+
     /**
      * Logs {@linkplain Logger#warn(String, Throwable) warning} with the formatted string.
      *
@@ -322,6 +456,70 @@ public interface Logging {
         log().error(format, arg1, arg2, arg3);
     }
 
+    /**
+     * Logs a message obtained from the passed supplier at the {@linkplain Logger#error(String)
+     * ERROR} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _error(Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isErrorEnabled()) {
+            log.error(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#error(String) ERROR} level only if a message
+     * with the same key was not logged by this class before.
+     *
+     * @param key
+     *         the key of the message, e.g. the name of a field or a file; the keys are retained
+     *         for the lifetime of the class and should come from a bounded set
+     * @param msg
+     *         the supplier of the message
+     */
+    default void _errorOnce(Object key, Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isErrorEnabled() && LogLimits.firstTime(getClass(), key)) {
+            log.error(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#error(String) ERROR} level at most once
+     * per the passed period.
+     *
+     * <p>The period is counted per call site, which is identified by the class of
+     * the passed supplier. Thus, the supplier should be a lambda or a method reference
+     * declared at the call site.
+     */
+    default void _errorEvery(Duration period, Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isErrorEnabled() && LogLimits.of(msg).allowsAfter(period)) {
+            log.error(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#error(String) ERROR} level on the first call and
+     * then on every {@code n}-th call.
+     *
+     * <p>The calls are counted per call site, which is identified by the class of
+     * the passed supplier. Thus, the supplier should be a lambda or a method reference
+     * declared at the call site.
+     */
+    default void _errorEvery(int n, Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isErrorEnabled() && LogLimits.of(msg).allowsEvery(n)) {
+            log.error(msg.get());
+        }
+    }
+
     /**
      * Logs a {@code Throwable} with message at the {@linkplain Logger#error(String, Throwable)
      * ERROR} level according to the specified format and arguments.
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Checks the syntax of email addresses, host names and IP addresses in linear time.
+ *
+ * <p>Each method accepts exactly the same values as the whole-input match of the corresponding
+ * pattern from {@link Patterns}, but scans the value once without backtracking:
+ * <ul>
+ *     <li>{@link #isEmailAddress(CharSequence)} — {@link Patterns#EMAIL_ADDRESS};
+ *     <li>{@link #isHostName(CharSequence)} — {@link Patterns#HOST_NAME_PATTERN};
+ *     <li>{@link #isIpAddress(CharSequence)} — {@link Patterns#IP_ADDRESS};
+ *     <li>{@link #isDomainName(CharSequence)} — {@link Patterns#DOMAIN_NAME}.
+ * </ul>
+ *
+ * <p>The lengths of the host name parts are counted in code points, as the regular expressions
+ * do. Non-ASCII space characters are not accepted in host names.
+ */
+final class AddressSyntax {
+
+    private static final char AT = '@';
+    private static final char DOT = '.';
+    private static final char HYPHEN = '-';
+    private static final char UNDERSCORE = '_';
+
+    /** The maximum length of the local part of an email address. */
+    private static final int MAX_LOCAL_PART = 256;
+
+    /** The maximum length of the first label of the domain of an email address. */
+    private static final int MAX_EMAIL_FIRST_LABEL = 65;
+
+    /** The maximum length of the other labels of the domain of an email address. */
+    private static final int MAX_EMAIL_LABEL = 26;
+
+    /** The maximum length of a label and a top-level domain of a host name. */
+    private static final int MAX_LABEL = 63;
+
+    /** The minimum length of a top-level domain of a host name. */
+    private static final int MIN_TLD = 2;
+
+    private static final String PUNYCODE_PREFIX = "xn--";
+
+    /** The minimum length of a Punycode top-level domain, i.e. the prefix and one character. */
+    private static final int MIN_PUNYCODE_TLD = PUNYCODE_PREFIX.length() + 1;
+
+    private static final int IP_OCTETS = 4;
+
+    /** Prevents instantiation of this utility class. */
+    private AddressSyntax() {
+    }
+
+    /**
+     * Verifies if the passed value is an email address.
+     *
+     * <p>The local part of the address consists of ASCII letters, digits and the characters
+     * {@code +._%-}. The domain consists of at least two labels which start with an ASCII letter
+     * or a digit and continue with letters, digits or hyphens.
+     */
+    static boolean isEmailAddress(CharSequence value) {
+        checkNotNull(value);
+        int length = value.length();
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == AT) {
+                at = i;
+                break;
+            }
+            if (!isEmailLocalChar(c)) {
+                return false;
+            }
+        }
+        if (at < 1 || at > MAX_LOCAL_PART) {
+            return false;
+        }
+        int labels = 0;
+        int labelStart = at + 1;
+        for (int i = labelStart; i <= length; i++) {
+            if (i == length || value.charAt(i) == DOT) {
+                int maxLength = labels == 0 ? MAX_EMAIL_FIRST_LABEL : MAX_EMAIL_LABEL;
+                if (!isEmailLabel(value, labelStart, i, maxLength)) {
+                    return false;
+                }
+                labels++;
+                labelStart = i + 1;
+            }
+        }
+        return labels > 1;
+    }
+
+    private static boolean isEmailLabel(CharSequence value, int start, int end, int maxLength) {
+        int length = end - start;
+        if (length < 1 || length > maxLength || !isAsciiLetterOrDigit(value.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != HYPHEN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifies if the passed value is a host name.
+     *
+     * <p>A host name consists of one or more labels followed by a top-level domain, separated
+     * with dots. A label may contain letters, digits and hyphens, but cannot start or end with
+     * a hyphen. A top-level domain is either a Punycode name, or consists of letters only.
+     */
+    static boolean isHostName(CharSequence value) {
+        checkNotNull(value);
+        int length = value.length();
+        int labelStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) == DOT) {
+                if (!isLabel(value, labelStart, i)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        if (labelStart == 0) {
+            return false;
+        }
+        return isTopLevelDomain(value, labelStart, length);
+    }
+
+    private static boolean isLabel(CharSequence value, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        int count = 0;
+        int last = 0;
+        for (int i = start; i < end; i += Character.charCount(last)) {
+            last = Character.codePointAt(value, i);
+            boolean first = i == start;
+            if (!isLabelChar(last) && (first || last != HYPHEN)) {
+                return false;
+            }
+            count++;
+            if (count > MAX_LABEL) {
+                return false;
+            }
+        }
+        return isLabelChar(last);
+    }
+
+    private static boolean isTopLevelDomain(CharSequence value, int start, int end) {
+        return isPunycode(value, start, end) || isLetters(value, start, end);
+    }
+
+    private static boolean isPunycode(CharSequence value, int start, int end) {
+        int length = end - start;
+        if (length < MIN_PUNYCODE_TLD || length > MAX_LABEL) {
+            return false;
+        }
+        for (int i = 0; i < PUNYCODE_PREFIX.length(); i++) {
+            if (value.charAt(start + i) != PUNYCODE_PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        int last = end - 1;
+        for (int i = start + PUNYCODE_PREFIX.length(); i < last; i++) {
+            char c = value.charAt(i);
+            if (!isWordChar(c) && c != HYPHEN) {
+                return false;
+            }
+        }
+        return isWordChar(value.charAt(last));
+    }
+
+    private static boolean isLetters(CharSequence value, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; ) {
+            int codePoint = Character.codePointAt(value, i);
+            if (!isTldChar(codePoint)) {
+                return false;
+            }
+            count++;
+            if (count > MAX_LABEL) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return count >= MIN_TLD;
+    }
+
+    /**
+     * Verifies if the passed value is an IPv4 address in the dotted decimal form.
+     *
+     * <p>The first octet of the address cannot be zero. Octets may have leading zeros only if
+     * they are written with three digits.
+     */
+    static boolean isIpAddress(CharSequence value) {
+        checkNotNull(value);
+        int length = value.length();
+        int octets = 0;
+        int octetStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || value.charAt(i) == DOT) {
+                boolean first = octets == 0;
+                if (octets == IP_OCTETS || !isOctet(value, octetStart, i, first)) {
+                    return false;
+                }
+                octets++;
+                octetStart = i + 1;
+            }
+        }
+        return octets == IP_OCTETS;
+    }
+
+    @SuppressWarnings("MagicNumber") // The digits of 255.
+    private static boolean isOctet(CharSequence value, int start, int end, boolean first) {
+        for (int i = start; i < end; i++) {
+            if (!isAsciiDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        switch (end - start) {
+            case 1:
+                return !first || value.charAt(start) != '0';
+            case 2:
+                return value.charAt(start) != '0';
+            case 3:
+                char hundreds = value.charAt(start);
+                if (hundreds == '0' || hundreds == '1') {
+                    return true;
+                }
+                if (hundreds != '2') {
+                    return false;
+                }
+                char tens = value.charAt(start + 1);
+                return tens < '5' || (tens == '5' && value.charAt(start + 2) <= '5');
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Verifies if the passed value is either a {@linkplain #isHostName(CharSequence) host name}
+     * or an {@linkplain #isIpAddress(CharSequence) IP address}.
+     */
+    static boolean isDomainName(CharSequence value) {
+        return isHostName(value) || isIpAddress(value);
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetterOrDigit(c)
+                || c == '+' || c == DOT || c == UNDERSCORE || c == '%' || c == HYPHEN;
+    }
+
+    private static boolean isLabelChar(int codePoint) {
+        return isAsciiLetterOrDigit(codePoint) || isUcsChar(codePoint);
+    }
+
+    private static boolean isTldChar(int codePoint) {
+        return isAsciiLetter(codePoint) || isUcsChar(codePoint);
+    }
+
+    private static boolean isWordChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == UNDERSCORE;
+    }
+
+    private static boolean isAsciiLetterOrDigit(int c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Verifies if the passed code point is a UCS character allowed by RFC 3987, excluding
+     * space characters.
+     */
+    @SuppressWarnings("MagicNumber") // The ranges of code points from RFC 3987.
+    private static boolean isUcsChar(int codePoint) {
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            boolean allowed = (codePoint >= 0xA0 && codePoint <= 0xD7FF)
+                    || (codePoint >= 0xF900 && codePoint <= 0xFDCF)
+                    || (codePoint >= 0xFDF0 && codePoint <= 0xFFEF);
+            return allowed && !isSpace(codePoint);
+        }
+        int plane = codePoint >>> 16;
+        int inPlane = codePoint & 0xFFFF;
+        if (plane > 14 || inPlane > 0xFFFD) {
+            return false;
+        }
+        return plane < 14 || inPlane >= 0x1000;
+    }
+
+    @SuppressWarnings("MagicNumber") // The code points of space characters.
+    private static boolean isSpace(int codePoint) {
+        return codePoint == 0xA0
+                || (codePoint >= 0x2000 && codePoint <= 0x200A)
+                || codePoint == 0x2028
+                || codePoint == 0x2029
+                || codePoint == 0x202F
+                || codePoint == 0x3000;
+    }
+}
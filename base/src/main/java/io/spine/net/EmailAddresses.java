@@ -22,7 +22,6 @@ package io.spine.net;
 
 import io.spine.net.string.NetStringifiers;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -49,10 +48,13 @@ public final class EmailAddresses {
 
     /**
      * Verifies if the passed sequence is a valid email address.
+     *
+     * <p>Accepts the same values as the {@linkplain #pattern() pattern}, but does not use
+     * regular expressions.
      */
     public static boolean isValid(String value) {
-        Matcher matcher = pattern().matcher(value);
-        boolean result = matcher.matches();
+        checkNotNull(value);
+        boolean result = AddressSyntax.isEmailAddress(value);
         return result;
     }
 
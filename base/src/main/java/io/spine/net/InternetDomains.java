@@ -22,7 +22,6 @@ package io.spine.net;
 
 import io.spine.net.string.NetStringifiers;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -51,10 +50,13 @@ public final class InternetDomains {
 
     /**
      * Verifies if the passed sequence is a valid internet domain name.
+     *
+     * <p>Accepts the same values as the {@linkplain #pattern() pattern}, but does not use
+     * regular expressions.
      */
     public static boolean isValid(String name) {
-        Matcher matcher = pattern().matcher(name);
-        boolean result = matcher.matches();
+        checkNotNull(name);
+        boolean result = AddressSyntax.isHostName(name);
         return result;
     }
 
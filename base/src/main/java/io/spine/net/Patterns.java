@@ -186,6 +186,9 @@ final class Patterns {
 
     /**
      * Valid UCS characters defined in RFC 3987. Excludes space characters.
+     *
+     * <p>The excluded characters are listed in a flat negated class, as Java 8 does not negate
+     * nested character classes (JDK-6609854).
      */
     private static final String UCS_CHAR = "[" +
                                            "\u00A0-\uD7FF" +
@@ -205,7 +208,7 @@ final class Patterns {
                                            "\uDAC0\uDC00-\uDAFF\uDFFD" +
                                            "\uDB00\uDC00-\uDB3F\uDFFD" +
                                            "\uDB44\uDC00-\uDB7F\uDFFD" +
-                                           "&&[^\u00A0[\u2000-\u200A]\u2028\u2029\u202F\u3000]]";
+                                           "&&[^\u00A0\u2000-\u200A\u2028\u2029\u202F\u3000]]";
     /**
      * Valid characters for IRI label defined in RFC 3987.
      */
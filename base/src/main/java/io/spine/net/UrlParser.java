@@ -20,14 +20,30 @@
 
 package io.spine.net;
 
-import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import io.spine.net.Uri.Authorization;
 import io.spine.net.Uri.Protocol;
 import io.spine.net.Uri.QueryParameter;
 import io.spine.net.Uri.Schema;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
 /**
  * Parses given URL to {@link Uri} instance.
  *
+ * <p>The parser scans the input once, remembering the positions of the characters which
+ * separate the parts of the URL. The {@code Uri} is then built from the spans of the input
+ * between these positions. The parts of the URL are recognized as follows:
+ * <ol>
+ *     <li>The protocol ends with the first {@code "://"}.
+ *     <li>The credentials end with the first {@code '@'} after the protocol.
+ *     <li>The fragment starts with the last {@code '#'} after the credentials.
+ *     <li>The query parameters start with the first {@code '?'} before the fragment.
+ *     <li>The host ends with the first {@code '/'} before the query parameters; the rest is
+ *         the path. The port is separated from the host with {@code ':'}.
+ * </ol>
+ *
  * @author Mikhail Mikhaylov
  * @author Alexander Yevsyukov
  */
@@ -44,165 +60,276 @@ final class UrlParser {
     static final char FRAGMENT_START = '#';
     static final char QUERIES_START = '?';
     static final char QUERY_SEPARATOR = '&';
-    private static final Splitter querySplitter = Splitter.on(QUERY_SEPARATOR);
+    static final char QUERY_KEY_VALUE_SEPARATOR = '=';
+
+    private static final int NOT_FOUND = -1;
+
+    private final CharSequence input;
+
+    /** The index of the first {@code "://"}. */
+    private int protocolEnding = NOT_FOUND;
+
+    /** The index of the first {@code '@'} after the protocol. */
+    private int credentialsEnding = NOT_FOUND;
+
+    /** The index of the first {@code ':'} after the protocol. */
+    private int credentialsSeparator = NOT_FOUND;
+
+    /** The index of the first {@code ':'} after the credentials. */
+    private int portSeparator = NOT_FOUND;
 
-    private final String originalUrl;
+    /** The index of the first {@code '?'} after the credentials. */
+    private int queriesStart = NOT_FOUND;
 
-    private Uri.Builder record;
-    private String unProcessedInput;
+    /** The index of the first {@code '/'} after the credentials. */
+    private int hostEnding = NOT_FOUND;
+
+    /** The index of the last {@code '#'}. */
+    private int fragmentStart = NOT_FOUND;
+
+    /**
+     * Creates an new instance of {@code UrlParser} with given URL to parse.
+     *
+     * @param url
+     *         the URL to parse
+     */
+    UrlParser(CharSequence url) {
+        this.input = checkNotNull(url);
+    }
 
     /**
-     * Creates an new instance of {@code UrlParser} with given String URL to parse.
+     * Parses all the passed URLs.
      *
-     * @param url String URL to parse
+     * @param urls
+     *         the URLs to parse
+     * @return the parsed URLs in the order of the passed ones
+     * @throws IllegalArgumentException
+     *         if one of the URLs has a bad-formed query parameter
      */
-    UrlParser(String url) {
-        this.originalUrl = url;
+    static ImmutableList<Uri> parseAll(Iterable<? extends CharSequence> urls) {
+        checkNotNull(urls);
+        ImmutableList.Builder<Uri> result = ImmutableList.builder();
+        for (CharSequence url : urls) {
+            result.add(new UrlParser(url).parse());
+        }
+        return result.build();
     }
 
     /**
      * Performs the parsing.
+     *
+     * @throws IllegalArgumentException
+     *         in case of bad-formed query parameter
      */
     Uri parse() {
-        init();
+        scan();
+        Uri.Builder record = Uri.newBuilder();
+        int start = parseProtocol(record);
+        start = parseCredentials(record, start);
+        int end = parseFragment(record, start);
+        end = parseQueries(record, end);
+        parseHostAndPath(record, start, end);
+        return record.build();
+    }
 
-        parseProtocol();
-        parseCredentials();
-        parseFragment();
-        parseQueries();
-        parseHost();
-        parsePath();
+    /**
+     * Remembers positions of the separators of the URL parts.
+     */
+    @SuppressWarnings("AssignmentToForLoopParameter") // Skipping the protocol ending.
+    private void scan() {
+        protocolEnding = NOT_FOUND;
+        fragmentStart = NOT_FOUND;
+        forgetAfterProtocol();
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            switch (c) {
+                case SEMICOLON:
+                    if (protocolEnding == NOT_FOUND && isProtocolEnding(i)) {
+                        protocolEnding = i;
+                        forgetAfterProtocol();
+                        i += PROTOCOL_ENDING.length() - 1;
+                    } else {
+                        credentialsSeparator = firstOf(credentialsSeparator, i);
+                        portSeparator = firstOf(portSeparator, i);
+                    }
+                    break;
+                case CREDENTIALS_ENDING:
+                    if (credentialsEnding == NOT_FOUND) {
+                        credentialsEnding = i;
+                        forgetAfterCredentials();
+                    }
+                    break;
+                case QUERIES_START:
+                    queriesStart = firstOf(queriesStart, i);
+                    break;
+                case HOST_ENDING:
+                    hostEnding = firstOf(hostEnding, i);
+                    break;
+                case FRAGMENT_START:
+                    fragmentStart = i;
+                    break;
+                default:
+                    // Not a separator.
+            }
+        }
+    }
 
+    private boolean isProtocolEnding(int index) {
+        int length = PROTOCOL_ENDING.length();
+        if (index + length > input.length()) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (input.charAt(index + i) != PROTOCOL_ENDING.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return record.build();
+    private static int firstOf(int found, int index) {
+        return found == NOT_FOUND ? index : found;
     }
 
-    /** Initializes the parser. */
-    private void init() {
-        record = Uri.newBuilder();
-        unProcessedInput = originalUrl;
+    /**
+     * Forgets the separators found before the protocol ending, since only the separators
+     * after the protocol matter.
+     */
+    private void forgetAfterProtocol() {
+        credentialsEnding = NOT_FOUND;
+        credentialsSeparator = NOT_FOUND;
+        forgetAfterCredentials();
     }
 
     /**
-     * Parses protocol from remembered URL String and saves it to the state.
+     * Forgets the separators found before the credentials ending, since they belong to
+     * the credentials.
+     */
+    private void forgetAfterCredentials() {
+        portSeparator = NOT_FOUND;
+        queriesStart = NOT_FOUND;
+        hostEnding = NOT_FOUND;
+    }
+
+    /**
+     * Parses the protocol.
      *
      * <ul>
      *     <li>If no suitable protocol found, saves UNDEFINED value.
      *     <li>If some value is fount, but the schema is unknown, saves raw value.
      * </ul>
+     *
+     * @return the index at which the rest of the URL starts
      */
-    private void parseProtocol() {
+    private int parseProtocol(Uri.Builder record) {
         Protocol.Builder protocolBuilder = Protocol.newBuilder();
-        int protocolEndingIndex = unProcessedInput.indexOf(PROTOCOL_ENDING);
-        if (protocolEndingIndex == -1) {
+        if (protocolEnding == NOT_FOUND) {
             protocolBuilder.setSchema(Schema.UNDEFINED);
             record.setProtocol(protocolBuilder);
-            return;
+            return 0;
         }
-        String protocol = unProcessedInput.substring(0, protocolEndingIndex);
-        unProcessedInput = unProcessedInput.substring(protocolEndingIndex +
-                                                      PROTOCOL_ENDING.length());
-
+        String protocol = span(0, protocolEnding);
         Schema schema = Schemas.parse(protocol);
-
         if (schema == Schema.UNDEFINED) {
             protocolBuilder.setName(protocol);
         } else {
             protocolBuilder.setSchema(schema);
         }
-
         record.setProtocol(protocolBuilder.build());
+        return protocolEnding + PROTOCOL_ENDING.length();
     }
 
-    /** Parses credentials from remembered URL String and saves them to the state. */
-    private void parseCredentials() {
-        int credentialsEndingIndex = unProcessedInput.indexOf(CREDENTIALS_ENDING);
-        if (credentialsEndingIndex == -1) {
-            return;
+    /**
+     * Parses the credentials, if any.
+     *
+     * @return the index at which the rest of the URL starts
+     */
+    private int parseCredentials(Uri.Builder record, int start) {
+        if (credentialsEnding == NOT_FOUND) {
+            return start;
         }
-
-        String credential = unProcessedInput.substring(0, credentialsEndingIndex);
-        unProcessedInput = unProcessedInput.substring(credentialsEndingIndex + 1);
-
-        Uri.Authorization.Builder auth = Uri.Authorization.newBuilder();
-
-        int credentialsSeparatorIndex = credential.indexOf(CREDENTIALS_SEPARATOR);
-        if (credentialsSeparatorIndex != -1) {
-            String userName = credential.substring(0, credentialsSeparatorIndex);
-            String password = credential.substring(credentialsSeparatorIndex + 1);
-            auth.setPassword(password);
-            auth.setUserName(userName);
+        Authorization.Builder auth = Authorization.newBuilder();
+        if (credentialsSeparator != NOT_FOUND && credentialsSeparator < credentialsEnding) {
+            auth.setUserName(span(start, credentialsSeparator))
+                .setPassword(span(credentialsSeparator + 1, credentialsEnding));
         } else {
-            auth.setUserName(credential);
+            auth.setUserName(span(start, credentialsEnding));
         }
-
         record.setAuth(auth.build());
+        return credentialsEnding + 1;
     }
 
-    /** Parses host and port and saves them to the state. */
-    private void parseHost() {
-        int hostEndingIndex = unProcessedInput.indexOf(HOST_ENDING);
-        String host;
-
-        if (hostEndingIndex == -1) {
-            host = unProcessedInput;
-            unProcessedInput = "";
-        } else {
-            host = unProcessedInput.substring(0, hostEndingIndex);
-            unProcessedInput = unProcessedInput.substring(hostEndingIndex + 1);
+    /**
+     * Parses the fragment, if any.
+     *
+     * @return the index at which the part of the URL before the fragment ends
+     */
+    private int parseFragment(Uri.Builder record, int start) {
+        int end = input.length();
+        if (fragmentStart < start) {
+            return end;
         }
+        record.setFragment(span(fragmentStart + 1, end));
+        return fragmentStart;
+    }
 
-        int portIndex = host.indexOf(HOST_PORT_SEPARATOR);
-        if (portIndex != -1) {
-            String port = host.substring(portIndex + 1);
-            record.setPort(port);
-            String hostAddress = host.substring(0, portIndex);
-            record.setHost(hostAddress);
-        } else {
-            record.setHost(host);
+    /**
+     * Parses query parameters, if any.
+     *
+     * @return the index at which the part of the URL before the queries ends
+     * @throws IllegalArgumentException
+     *         in case of bad-formed parameter
+     */
+    private int parseQueries(Uri.Builder record, int end) {
+        if (queriesStart == NOT_FOUND || queriesStart >= end) {
+            return end;
+        }
+        int queryStart = queriesStart + 1;
+        for (int i = queryStart; i <= end; i++) {
+            if (i == end || input.charAt(i) == QUERY_SEPARATOR) {
+                record.addQuery(parseQuery(queryStart, i));
+                queryStart = i + 1;
+            }
         }
+        return queriesStart;
     }
 
-    /** Parses fragment and saves it to the state. */
-    private void parseFragment() {
-        int fragmentIndex = unProcessedInput.lastIndexOf(FRAGMENT_START);
-        if (fragmentIndex == -1) {
-            return;
+    private QueryParameter parseQuery(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) == QUERY_KEY_VALUE_SEPARATOR) {
+                QueryParameter result = QueryParameter
+                        .newBuilder()
+                        .setKey(span(start, i))
+                        .setValue(span(i + 1, end))
+                        .build();
+                return result;
+            }
         }
-
-        String fragment = unProcessedInput.substring(fragmentIndex + 1);
-        unProcessedInput = unProcessedInput.substring(0, fragmentIndex);
-
-        record.setFragment(fragment);
+        throw newIllegalArgumentException("Query Parameter is invalid: %s", span(start, end));
     }
 
     /**
-     * Parses query parameters and saves them to the state.
-     *
-     * @throws IllegalArgumentException in case of bad-formed parameter
+     * Parses the host, the port and the resource path.
      */
-    private void parseQueries() {
-        int queriesStartIndex = unProcessedInput.indexOf(QUERIES_START);
-        if (queriesStartIndex == -1) {
-            return;
+    private void parseHostAndPath(Uri.Builder record, int start, int end) {
+        int hostEnd = end;
+        if (hostEnding != NOT_FOUND && hostEnding < end) {
+            hostEnd = hostEnding;
+            if (hostEnd + 1 < end) {
+                record.setPath(span(hostEnd + 1, end));
+            }
         }
-
-        String queriesString = unProcessedInput.substring(queriesStartIndex + 1);
-        unProcessedInput = unProcessedInput.substring(0, queriesStartIndex);
-
-        Iterable<String> queries = querySplitter.split(queriesString);
-        for (String query : queries) {
-            QueryParameter param = UrlQueryParameters.parse(query);
-            record.addQuery(param);
+        if (portSeparator != NOT_FOUND && portSeparator < hostEnd) {
+            record.setHost(span(start, portSeparator))
+                  .setPort(span(portSeparator + 1, hostEnd));
+        } else {
+            record.setHost(span(start, hostEnd));
         }
     }
 
-    /** Parses the URL resource path from the remaining part of URL. */
-    private void parsePath() {
-        if (unProcessedInput.isEmpty()) {
-            return;
-        }
-        record.setPath(unProcessedInput);
-        unProcessedInput = "";
+    private String span(int start, int end) {
+        return input.subSequence(start, end)
+                    .toString();
     }
 }
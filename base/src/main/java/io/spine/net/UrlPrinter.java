@@ -20,9 +20,16 @@
 
 package io.spine.net;
 
+import io.spine.net.Uri.Protocol;
 import io.spine.net.Uri.QueryParameter;
+import io.spine.net.Uri.Schema;
 
+import java.io.IOException;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 
 /**
  * Performs conversion of URLs to String.
@@ -31,6 +38,12 @@ import java.util.List;
  */
 final class UrlPrinter {
 
+    /** The approximate length of a URL, used for the initial capacity of the printed string. */
+    private static final int EXPECTED_LENGTH = 64;
+
+    private static final Map<Schema, String> schemaNames = schemaNames();
+
+    /** Prevents instantiation of this utility class. */
     private UrlPrinter() {
     }
 
@@ -38,39 +51,64 @@ final class UrlPrinter {
      * Converts {@link Uri} to String.
      */
     static String printToString(Uri url) {
-        // We don't know the capacity at this point
-        @SuppressWarnings("StringBufferWithoutInitialCapacity") StringBuilder sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder(EXPECTED_LENGTH);
+        try {
+            print(url, sb);
+        } catch (IOException e) {
+            // Never happens for `StringBuilder`.
+            throw illegalStateWithCauseOf(e);
+        }
+        return sb.toString();
+    }
 
-        appendProtocol(url, sb);
-        appendAuth(url, sb);
-        appendHost(url, sb);
-        appendPort(url, sb);
-        appendPath(url, sb);
-        appendQueries(url, sb);
-        appendFragment(url, sb);
+    /**
+     * Appends the string form of the passed {@link Uri} to the passed {@code Appendable}.
+     *
+     * <p>Allows printing URLs directly to a stream or a buffer, without creating an intermediate
+     * string per URL.
+     *
+     * @param url
+     *         the URL to print
+     * @param out
+     *         the destination of the printed URL
+     * @throws IOException
+     *         if the destination fails to append the URL
+     */
+    static void print(Uri url, Appendable out) throws IOException {
+        appendProtocol(url, out);
+        appendAuth(url, out);
+        appendHost(url, out);
+        appendPort(url, out);
+        appendPath(url, out);
+        appendQueries(url, out);
+        appendFragment(url, out);
+    }
 
-        return sb.toString();
+    private static Map<Schema, String> schemaNames() {
+        Map<Schema, String> result = new EnumMap<>(Schema.class);
+        for (Schema schema : Schema.values()) {
+            result.put(schema, schema.name()
+                                     .toLowerCase() + UrlParser.PROTOCOL_ENDING);
+        }
+        return result;
     }
 
-    private static void appendProtocol(Uri record, StringBuilder sb) {
+    private static void appendProtocol(Uri record, Appendable out) throws IOException {
         if (!record.hasProtocol()) {
             return;
         }
 
-        Uri.Protocol protocol = record.getProtocol();
-        if (protocol.getProtocolCase() == Uri.Protocol.ProtocolCase.NAME) {
-            sb.append(protocol.getName())
-              .append(UrlParser.PROTOCOL_ENDING);
+        Protocol protocol = record.getProtocol();
+        if (protocol.getProtocolCase() == Protocol.ProtocolCase.NAME) {
+            out.append(protocol.getName())
+               .append(UrlParser.PROTOCOL_ENDING);
             return;
         }
 
-        sb.append(protocol.getSchema()
-                          .name()
-                          .toLowerCase())
-          .append(UrlParser.PROTOCOL_ENDING);
+        out.append(schemaNames.get(protocol.getSchema()));
     }
 
-    private static void appendAuth(Uri record, StringBuilder sb) {
+    private static void appendAuth(Uri record, Appendable out) throws IOException {
         if (!record.hasAuth() || record.getAuth()
                                        .equals(Uri.Authorization.getDefaultInstance())) {
             return;
@@ -83,66 +121,68 @@ final class UrlPrinter {
         if (userName.isEmpty()) {
             return;
         }
-        sb.append(userName);
+        out.append(userName);
 
         if (!password.isEmpty()) {
-            sb.append(UrlParser.CREDENTIALS_SEPARATOR)
-              .append(password);
+            out.append(UrlParser.CREDENTIALS_SEPARATOR)
+               .append(password);
         }
 
-        sb.append(UrlParser.CREDENTIALS_ENDING);
+        out.append(UrlParser.CREDENTIALS_ENDING);
     }
 
-    private static void appendHost(Uri record, StringBuilder sb) {
-        sb.append(record.getHost());
+    private static void appendHost(Uri record, Appendable out) throws IOException {
+        out.append(record.getHost());
     }
 
-    private static void appendPort(Uri record, StringBuilder sb) {
+    private static void appendPort(Uri record, Appendable out) throws IOException {
         String port = record.getPort();
         if (port.isEmpty()) {
             return;
         }
 
-        sb.append(UrlParser.HOST_PORT_SEPARATOR)
-          .append(port);
+        out.append(UrlParser.HOST_PORT_SEPARATOR)
+           .append(port);
     }
 
-    private static void appendPath(Uri record, StringBuilder sb) {
+    private static void appendPath(Uri record, Appendable out) throws IOException {
         String path = record.getPath();
         if (path.isEmpty()) {
             return;
         }
 
-        sb.append(UrlParser.HOST_ENDING)
-          .append(path);
+        out.append(UrlParser.HOST_ENDING)
+           .append(path);
     }
 
-    private static void appendQueries(Uri record, StringBuilder sb) {
+    private static void appendQueries(Uri record, Appendable out) throws IOException {
         List<QueryParameter> queryList = record.getQueryList();
 
         if (queryList.isEmpty()) {
             return;
         }
 
-        sb.append(UrlParser.QUERIES_START);
+        out.append(UrlParser.QUERIES_START);
 
         int queriesSize = queryList.size();
         for (int i = 0; i < queriesSize; i++) {
-            String stringQuery = UrlQueryParameters.toString(queryList.get(i));
-            sb.append(stringQuery);
+            QueryParameter query = queryList.get(i);
+            out.append(query.getKey())
+               .append(UrlParser.QUERY_KEY_VALUE_SEPARATOR)
+               .append(query.getValue());
             if (i != queriesSize - 1) {
-                sb.append(UrlParser.QUERY_SEPARATOR);
+                out.append(UrlParser.QUERY_SEPARATOR);
             }
         }
     }
 
-    private static void appendFragment(Uri record, StringBuilder sb) {
+    private static void appendFragment(Uri record, Appendable out) throws IOException {
         String fragment = record.getFragment();
         if (fragment.isEmpty()) {
             return;
         }
 
-        sb.append(UrlParser.FRAGMENT_START)
-          .append(fragment);
+        out.append(UrlParser.FRAGMENT_START)
+           .append(fragment);
     }
 }
@@ -20,7 +20,9 @@
 
 package io.spine.net;
 
-import io.spine.net.string.NetStringifiers;
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -49,9 +51,10 @@ public final class Urls {
     public static Url create(String spec) {
         checkNotNull(spec);
         checkArgument(spec.length() > 0);
-        Url result = NetStringifiers.forUrl()
-                                    .reverse()
-                                    .convert(spec);
+        Url result = Url
+                .newBuilder()
+                .setSpec(spec)
+                .build();
         return result;
     }
 
@@ -63,8 +66,46 @@ public final class Urls {
      */
     public static String toString(Url url) {
         checkNotNull(url);
-        String result = NetStringifiers.forUrl()
-                                       .convert(url);
+        String result = url.getSpec();
+        return result;
+    }
+
+    /**
+     * Parses the passed URL into the structured form.
+     *
+     * @param url the URL to parse
+     * @return the parsed URL
+     * @throws IllegalArgumentException if the URL has a bad-formed query parameter
+     */
+    public static Uri parse(CharSequence url) {
+        checkNotNull(url);
+        Uri result = new UrlParser(url).parse();
+        return result;
+    }
+
+    /**
+     * Parses the passed URLs into the structured form.
+     *
+     * @param urls the URLs to parse
+     * @return the parsed URLs in the order of the passed ones
+     * @throws IllegalArgumentException if one of the URLs has a bad-formed query parameter
+     */
+    public static ImmutableList<Uri> parseAll(Iterable<? extends CharSequence> urls) {
+        checkNotNull(urls);
+        ImmutableList<Uri> result = UrlParser.parseAll(urls);
         return result;
     }
+
+    /**
+     * Appends the string form of the passed structured URL to the passed {@code Appendable}.
+     *
+     * @param url the URL to print
+     * @param out the destination of the printed URL
+     * @throws IOException if the destination fails to append the URL
+     */
+    public static void print(Uri url, Appendable out) throws IOException {
+        checkNotNull(url);
+        checkNotNull(out);
+        UrlPrinter.print(url, out);
+    }
 }
@@ -23,12 +23,15 @@ package io.spine.protobuf;
 import com.google.protobuf.Any;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
+import io.spine.base.IdInterner;
 import io.spine.type.TypeUrl;
 import io.spine.type.UnexpectedTypeException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Iterator;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -88,6 +91,23 @@ public final class AnyPacker {
         return unpack(any, messageClass);
     }
 
+    /**
+     * Unwraps {@code Any} value and resolves the message to its canonical instance in
+     * the passed pool.
+     *
+     * <p>Use this method when many equal messages, such as identifiers, are unpacked and kept
+     * in memory.
+     *
+     * @param any instance of {@link com.google.protobuf.Any} that should be unwrapped
+     * @param interner the pool of the canonical message instances
+     * @return the canonical instance of the unwrapped message
+     */
+    public static Message unpack(Any any, IdInterner interner) {
+        checkNotNull(interner);
+        Message message = unpack(any);
+        return interner.intern(message);
+    }
+
     /**
      * Unwraps {@code Any} value into an instance of the passed class.
      *
@@ -119,6 +139,62 @@ public final class AnyPacker {
         return new PackingIterator(iterator);
     }
 
+    /**
+     * Obtains a predicate which accepts the instances of {@code Any} enclosing a message of
+     * the given type.
+     *
+     * <p>The predicate compares the type names and does not unpack the messages. As
+     * {@link Any#is(Class)} does, the predicate ignores the prefixes of the type URLs.
+     */
+    public static Predicate<Any> enclosing(TypeUrl type) {
+        checkNotNull(type);
+        String typeName = type.getTypeName();
+        return any -> hasTypeName(any.getTypeUrl(), typeName);
+    }
+
+    /**
+     * Obtains a predicate which accepts the instances of {@code Any} enclosing a message of
+     * the type of the given class.
+     *
+     * <p>The predicate compares the type names and does not unpack the messages.
+     */
+    public static Predicate<Any> enclosing(Class<? extends Message> cls) {
+        checkNotNull(cls);
+        return enclosing(TypeUrl.of(cls));
+    }
+
+    /**
+     * Verifies if the type URL ends with the given type name, regardless of the prefix.
+     */
+    private static boolean hasTypeName(String typeUrl, String typeName) {
+        int prefixLength = typeUrl.length() - typeName.length();
+        return prefixLength > 0
+                && typeUrl.endsWith(typeName)
+                && typeUrl.charAt(prefixLength - 1) == '/';
+    }
+
+    /**
+     * Selects the instances of {@code Any} enclosing a message of the given class
+     * and unpacks them.
+     *
+     * <p>Other instances are skipped without unpacking.
+     */
+    public static <T extends Message> Stream<T> unpackAll(Stream<Any> stream, Class<T> cls) {
+        checkNotNull(stream);
+        checkNotNull(cls);
+        return stream.filter(enclosing(cls))
+                     .map(any -> unpack(any, cls));
+    }
+
+    /**
+     * Wraps the instances of {@code Any} into {@link LazyAny}, which unpack the messages
+     * only when requested.
+     */
+    public static Stream<LazyAny> lazily(Stream<Any> stream) {
+        checkNotNull(stream);
+        return stream.map(LazyAny::of);
+    }
+
     /**
      * Provides the function for unpacking messages from {@code Any}.
      *
@@ -26,6 +26,7 @@ import io.spine.string.Stringifiers;
 
 import javax.annotation.Nullable;
 import java.io.Serializable;
+import java.util.Comparator;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -328,6 +329,39 @@ public final class Durations2 {
         return JtConverter.INSTANCE;
     }
 
+    /**
+     * Obtains a comparator of durations from the shortest to the longest.
+     *
+     * <p>The comparator compares the fields of durations directly, without validating and
+     * converting them.
+     */
+    public static Comparator<Duration> comparator() {
+        return DurationComparator.INSTANCE;
+    }
+
+    /**
+     * Compares durations by their seconds and nanoseconds.
+     */
+    private static final class DurationComparator implements Comparator<Duration>, Serializable {
+
+        private static final long serialVersionUID = 0L;
+        private static final DurationComparator INSTANCE = new DurationComparator();
+
+        @Override
+        public int compare(Duration d1, Duration d2) {
+            return TimeNanos.compare(d1, d2);
+        }
+
+        @Override
+        public String toString() {
+            return "Durations2.comparator()";
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
     /**
      * Converts from Java Time {@code Duration} to Protobuf {@code Duration} and back.
      */
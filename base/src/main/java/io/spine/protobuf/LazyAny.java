@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@link Any} which is unpacked only when the enclosed message is needed.
+ *
+ * <p>The type URL of the enclosed message is parsed on creation. Checking the type and
+ * forwarding the packed bytes do not involve parsing the message. The message is parsed on
+ * the first {@linkplain #unpack() unpacking} and is kept for the following ones.
+ *
+ * <p>The instances of this class are safe for use from several threads. Concurrent first
+ * calls to {@code unpack()} may parse the message more than once, but obtain equal results.
+ */
+public final class LazyAny {
+
+    private final Any any;
+    private final TypeUrl typeUrl;
+
+    /** The unpacked message or {@code null} if the message has not been unpacked yet. */
+    private volatile @Nullable Message message;
+
+    private LazyAny(Any any) {
+        this.any = any;
+        this.typeUrl = TypeUrl.ofEnclosed(any);
+    }
+
+    /**
+     * Wraps the passed {@code Any}.
+     */
+    public static LazyAny of(Any any) {
+        checkNotNull(any);
+        return new LazyAny(any);
+    }
+
+    /**
+     * Packs the passed message.
+     *
+     * <p>The message is kept, so that unpacking the result does not parse it.
+     */
+    public static LazyAny pack(Message message) {
+        checkNotNull(message);
+        LazyAny result = of(AnyPacker.pack(message));
+        if (!(message instanceof Any)) {
+            result.message = message;
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the wrapped {@code Any}.
+     */
+    public Any any() {
+        return any;
+    }
+
+    /**
+     * Obtains the type URL of the enclosed message.
+     */
+    public TypeUrl typeUrl() {
+        return typeUrl;
+    }
+
+    /**
+     * Obtains the serialized enclosed message.
+     */
+    public ByteString value() {
+        return any.getValue();
+    }
+
+    /**
+     * Verifies if the enclosed message is of the given type.
+     *
+     * <p>Compares the type names and ignores the prefixes of the type URLs, as
+     * {@link Any#is(Class)} does. Does not unpack the message.
+     */
+    public boolean is(TypeUrl type) {
+        checkNotNull(type);
+        return typeUrl.getTypeName()
+                      .equals(type.getTypeName());
+    }
+
+    /**
+     * Verifies if the enclosed message is of the type of the given class.
+     *
+     * <p>Does not unpack the message.
+     */
+    public boolean is(Class<? extends Message> cls) {
+        checkNotNull(cls);
+        return is(TypeUrl.of(cls));
+    }
+
+    /**
+     * Verifies if the message has already been unpacked.
+     */
+    public boolean isUnpacked() {
+        return message != null;
+    }
+
+    /**
+     * Obtains the enclosed message, unpacking it on the first call.
+     *
+     * @see AnyPacker#unpack(Any)
+     */
+    public Message unpack() {
+        Message result = message;
+        if (result == null) {
+            result = AnyPacker.unpack(any);
+            message = result;
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the enclosed message of the given class, unpacking it on the first call.
+     *
+     * @throws io.spine.type.UnexpectedTypeException
+     *         if the enclosed message is not of the given class
+     * @see AnyPacker#unpack(Any, Class)
+     */
+    public <T extends Message> T unpack(Class<T> cls) {
+        checkNotNull(cls);
+        Message current = message;
+        if (cls.isInstance(current)) {
+            return cls.cast(current);
+        }
+        T result = AnyPacker.unpack(any, cls);
+        message = result;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyAny)) {
+            return false;
+        }
+        LazyAny other = (LazyAny) o;
+        return any.equals(other.any);
+    }
+
+    @Override
+    public int hashCode() {
+        return any.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("typeUrl", typeUrl)
+                          .add("unpacked", isUnpacked())
+                          .toString();
+    }
+}
@@ -25,6 +25,7 @@ import io.spine.string.Stringifiers;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.Comparator;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.util.Timestamps.compare;
@@ -108,6 +109,39 @@ public final class Timestamps2 {
         return InstantConverter.INSTANCE;
     }
 
+    /**
+     * Obtains a comparator of timestamps in the chronological order.
+     *
+     * <p>The comparator compares the fields of timestamps directly, without validating and
+     * converting them, and is meant for sorting large lists of timestamps.
+     */
+    public static Comparator<Timestamp> comparator() {
+        return TimestampComparator.INSTANCE;
+    }
+
+    /**
+     * Compares timestamps by their seconds and nanoseconds.
+     */
+    private static final class TimestampComparator implements Comparator<Timestamp>, Serializable {
+
+        private static final long serialVersionUID = 0L;
+        private static final TimestampComparator INSTANCE = new TimestampComparator();
+
+        @Override
+        public int compare(Timestamp t1, Timestamp t2) {
+            return TimeNanos.compare(t1, t2);
+        }
+
+        @Override
+        public String toString() {
+            return "Timestamps2.comparator()";
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
     /**
      * Converts {@code Timestamp} to {@code Instant}.
      */
@@ -31,11 +31,11 @@ import com.google.common.graph.ImmutableGraph;
 import com.google.common.graph.MutableGraph;
 import com.google.errorprone.annotations.Immutable;
 
-import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -129,28 +129,32 @@ public final class PackageGraph implements Graph<PackageInfo> {
         return result;
     }
 
+    /**
+     * Builds the graph connecting each package with its direct parent, if the parent is
+     * among the passed packages.
+     *
+     * <p>The direct parent is found by its name, so the graph is built in linear time.
+     */
     private static Graph<PackageInfo> buildGraph(List<Package> packages) {
         MutableGraph<PackageInfo> graph = GraphBuilder
                 .directed()
                 .nodeOrder(ElementOrder.<PackageInfo>natural())
                 .build();
-        Queue<Package> queue = new ArrayDeque<>(packages);
-        Package first = queue.poll();
-        while (first != null) {
-            final Package current = first;
-            Optional<PackageInfo> directParent =
-                    graph.nodes()
-                         .stream()
-                         .filter((node) -> IsDirectParent.of(current)
-                                                         .test(node.getValue()))
-                         .findFirst();
-            PackageInfo newNode = PackageInfo.of(current);
-            if (directParent.isPresent()) {
-                graph.putEdge(newNode, directParent.get());
+        Map<String, PackageInfo> nodes = new HashMap<>(packages.size());
+        for (Package p : packages) {
+            nodes.putIfAbsent(p.getName(), PackageInfo.of(p));
+        }
+        for (PackageInfo node : nodes.values()) {
+            String name = node.getName();
+            int lastDot = name.lastIndexOf('.');
+            PackageInfo directParent = lastDot > 0
+                                       ? nodes.get(name.substring(0, lastDot))
+                                       : null;
+            if (directParent != null) {
+                graph.putEdge(node, directParent);
             } else {
-                graph.addNode(newNode);
+                graph.addNode(node);
             }
-            first = queue.poll();
         }
         return graph;
     }
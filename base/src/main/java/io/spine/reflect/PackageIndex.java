@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.reflect;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A trie of the packages {@linkplain Package#getPackages() known} to the {@code ClassLoader}
+ * of this class, with the nodes corresponding to the segments of package names.
+ *
+ * <p>The index is built on the first use and refreshed when a package which is not yet
+ * indexed is queried. Since the packages are only added by the class loading, only
+ * the new packages are put into the trie on a refresh.
+ *
+ * <p>The index also caches the results of {@linkplain #findAnnotation(Package, Class)
+ * annotation lookups}. The cached results are obtained without locking. The lookups which
+ * miss the cache, the refreshes, and the cache updates are performed under the lock of
+ * the index. The cache is invalidated each time new packages are indexed, because a new
+ * package may bring an annotation for its nested packages.
+ */
+final class PackageIndex {
+
+    private static final Splitter segments = Splitter.on('.');
+
+    private static final PackageIndex instance = new PackageIndex();
+
+    /** The root of the trie, which corresponds to the unnamed package. */
+    private final Node root = new Node();
+
+    /**
+     * The number of the packages {@linkplain Package#getPackages() known} at the last refresh.
+     *
+     * <p>Packages with the same name defined by different class loaders are all counted,
+     * while only the first of them is put into the trie.
+     */
+    private int seen;
+
+    /** Resolved annotations per annotation type and package name. */
+    private final Map<Class<? extends Annotation>, Map<String, Optional<? extends Annotation>>>
+            annotations = new ConcurrentHashMap<>();
+
+    /** Prevents instantiation from outside. */
+    private PackageIndex() {
+    }
+
+    /**
+     * Obtains the index of the packages known to the {@code ClassLoader} of this class.
+     */
+    static PackageIndex instance() {
+        return instance;
+    }
+
+    /**
+     * Finds an annotation of the specified type set directly to the package, or to one
+     * of the packages in which the package is nested, starting from the inner most.
+     */
+    <A extends Annotation> Optional<A> findAnnotation(Package pkg, Class<A> annotationClass) {
+        checkNotNull(pkg);
+        checkNotNull(annotationClass);
+        String name = pkg.getName();
+        Optional<? extends Annotation> cached = resolved(annotationClass).get(name);
+        if (cached == null) {
+            cached = lookUpAndCache(pkg, annotationClass);
+        }
+        Optional<A> result = cached.map(annotationClass::cast);
+        return result;
+    }
+
+    /**
+     * Obtains the cached lookups of the given annotation by the package names.
+     */
+    private Map<String, Optional<? extends Annotation>>
+    resolved(Class<? extends Annotation> annotationClass) {
+        return annotations.getOrDefault(annotationClass, ImmutableMap.of());
+    }
+
+    /**
+     * Looks up the annotation and caches the result.
+     *
+     * <p>The lookup may {@linkplain #refresh() refresh} the index and invalidate the cache.
+     * Running the lookup and the cache update under the same lock guarantees that a result
+     * obtained before a refresh is not put into the cache after the refresh.
+     */
+    private synchronized Optional<? extends Annotation>
+    lookUpAndCache(Package pkg, Class<? extends Annotation> annotationClass) {
+        String name = pkg.getName();
+        Optional<? extends Annotation> cached = resolved(annotationClass).get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<? extends Annotation> result = lookUp(pkg, annotationClass);
+        annotations.computeIfAbsent(annotationClass, cls -> new ConcurrentHashMap<>())
+                   .put(name, result);
+        return result;
+    }
+
+    private <A extends Annotation> Optional<A> lookUp(Package pkg, Class<A> annotationClass) {
+        A annotation = pkg.getAnnotation(annotationClass);
+        if (annotation != null) {
+            return Optional.of(annotation);
+        }
+        ImmutableList<Package> parents = parentsOf(pkg);
+        for (Package parent : parents.reverse()) {
+            A ofParent = parent.getAnnotation(annotationClass);
+            if (ofParent != null) {
+                return Optional.of(ofParent);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Obtains the packages in which the given package is nested, starting from the outer most.
+     */
+    synchronized ImmutableList<Package> parentsOf(Package pkg) {
+        checkNotNull(pkg);
+        if (seen == 0 || !contains(pkg)) {
+            refresh();
+        }
+        ImmutableList.Builder<Package> result = ImmutableList.builder();
+        Node node = root;
+        for (String segment : segments.split(pkg.getName())) {
+            if (node.value != null) {
+                result.add(node.value);
+            }
+            node = node.children.get(segment);
+            if (node == null) {
+                break;
+            }
+        }
+        return result.build();
+    }
+
+    private boolean contains(Package pkg) {
+        Node node = root;
+        for (String segment : segments.split(pkg.getName())) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.value != null;
+    }
+
+    /**
+     * Puts the newly loaded packages into the trie.
+     *
+     * <p>If any packages were added, clears the cached annotation lookups.
+     */
+    private void refresh() {
+        Package[] packages = Package.getPackages();
+        if (packages.length == seen) {
+            return;
+        }
+        seen = packages.length;
+        boolean added = false;
+        for (Package pkg : packages) {
+            added |= put(pkg);
+        }
+        if (added) {
+            annotations.clear();
+        }
+    }
+
+    private boolean put(Package pkg) {
+        Node node = root;
+        for (String segment : segments.split(pkg.getName())) {
+            node = node.children.computeIfAbsent(segment, s -> new Node());
+        }
+        if (node.value != null) {
+            return false;
+        }
+        node.value = pkg;
+        return true;
+    }
+
+    /**
+     * A node of the trie.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        /** The package with the name formed by the path to this node, if known. */
+        private @Nullable Package value;
+    }
+}
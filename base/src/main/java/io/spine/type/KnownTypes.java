@@ -20,25 +20,39 @@
 
 package io.spine.type;
 
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.errorprone.annotations.Immutable;
 import com.google.protobuf.Any;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
 import io.spine.annotation.Internal;
 import io.spine.code.java.ClassName;
-import io.spine.code.proto.FileSet;
+import io.spine.code.proto.LazyTypeSet;
 import io.spine.code.proto.Type;
 import io.spine.code.proto.TypeSet;
 import io.spine.security.InvocationGuard;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.stream.Collectors.toSet;
+import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.collect.Lists.newArrayList;
+import static io.spine.type.TypeName.PACKAGE_SEPARATOR;
 
 /**
  * All Protobuf types known to the application.
@@ -60,6 +74,18 @@ import static java.util.stream.Collectors.toSet;
  * </pre>
  *
  * <p>In the snippet above, {@code oldTypes} contains a subset or is equal to the {@code newTypes}.
+ *
+ * <p>The types are loaded from the classpath lazily. Only the names of the types are read when
+ * the instance is created. The descriptors of a type and of the types it depends on are
+ * linked when the type is requested for the first time. Methods which process all the types,
+ * such as {@link #getAllUrls()} or {@link #typeRegistry()}, link all the descriptors.
+ *
+ * <p>The URLs and the Java classes of the types listed in the {@linkplain TypeIndex type index}
+ * generated at build time are obtained without linking the descriptors at all.
+ *
+ * <p>The views of the types, such as {@linkplain #getAllUrls() all the type URLs} or
+ * {@linkplain #getAllFromPackage(String) the types of a package}, are computed once per instance,
+ * on the first request.
  */
 @Internal
 @Immutable
@@ -67,8 +93,40 @@ public class KnownTypes implements Serializable {
 
     private static final long serialVersionUID = 0L;
 
+    /**
+     * The types loaded from the classpath.
+     *
+     * @implNote The set links the descriptors of the types on demand, but never changes
+     *           the types it contains, so it's OK to tell Error Prone that the field is immutable.
+     *           The same applies to the memoizing suppliers and the cache below, which hold
+     *           the values computed from the types.
+     */
+    @SuppressWarnings({"Immutable", "TransientFieldNotInitialized"}) // see implNote
+    private final transient LazyTypeSet loadedTypes;
+
+    /** The types {@linkplain Holder#extendWith(TypeSet) added} to the loaded types. */
+    @SuppressWarnings("TransientFieldNotInitialized") // Instance is substituted on deserialization.
+    private final transient TypeSet moreTypes;
+
+    /** The index of the types loaded from the classpath, generated at build time. */
     @SuppressWarnings("TransientFieldNotInitialized") // Instance is substituted on deserialization.
-    private final transient TypeSet typeSet;
+    private final transient TypeIndex index;
+
+    /** All the known types. */
+    @SuppressWarnings({"Immutable", "TransientFieldNotInitialized"}) // see `loadedTypes`
+    private final transient Supplier<TypeSet> typeSet;
+
+    /** The URLs of all the types, ordered by their values. */
+    @SuppressWarnings({"Immutable", "TransientFieldNotInitialized"}) // see `loadedTypes`
+    private final transient Supplier<ImmutableSet<TypeUrl>> allUrls;
+
+    /** The URLs of the types, by the packages including the types directly or in subpackages. */
+    @SuppressWarnings({"Immutable", "TransientFieldNotInitialized"}) // see `loadedTypes`
+    private final transient Supplier<ImmutableSetMultimap<String, TypeUrl>> packages;
+
+    /** The names of the Java classes generated for the types, computed so far. */
+    @SuppressWarnings({"Immutable", "TransientFieldNotInitialized"}) // see `loadedTypes`
+    private final transient ConcurrentMap<TypeName, ClassName> classNames;
 
     /**
      * Retrieves the singleton instance of {@code KnownTypes}.
@@ -78,11 +136,19 @@ public class KnownTypes implements Serializable {
     }
 
     private KnownTypes() {
-        this(load());
+        this(LazyTypeSet.load(), TypeIndex.load(), TypeSet.newBuilder()
+                                                          .build());
     }
 
-    private KnownTypes(TypeSet types) {
-        this.typeSet = checkNotNull(types);
+    private KnownTypes(LazyTypeSet loadedTypes, TypeIndex index, TypeSet moreTypes) {
+        this.loadedTypes = checkNotNull(loadedTypes);
+        this.index = checkNotNull(index);
+        this.moreTypes = checkNotNull(moreTypes);
+        this.typeSet = memoize(() -> loadedTypes.all()
+                                                .union(moreTypes));
+        this.allUrls = memoize(this::indexUrls);
+        this.packages = memoize(this::indexPackages);
+        this.classNames = new ConcurrentHashMap<>();
     }
 
     private Object readResolve() {
@@ -90,20 +156,70 @@ public class KnownTypes implements Serializable {
     }
 
     private Set<Type<?, ?>> types() {
-        return typeSet.types();
+        return typeSet().types();
     }
 
+    /**
+     * Obtains all the known types.
+     *
+     * <p>Links the descriptors of all the types loaded from the classpath, unless
+     * they are already linked.
+     */
     private TypeSet typeSet() {
-        return typeSet;
+        return typeSet.get();
+    }
+
+    private ImmutableSet<TypeUrl> indexUrls() {
+        ImmutableSet<TypeUrl> result =
+                types().stream()
+                       .map(Type::url)
+                       .sorted(Comparator.comparing(TypeUrl::value))
+                       .collect(toImmutableSet());
+        return result;
+    }
+
+    /**
+     * Indexes each type URL by all the dot-separated prefixes of the type name.
+     *
+     * <p>For example, the type {@code spine.test.Task} is indexed by the {@code spine} and
+     * {@code spine.test} keys.
+     */
+    private ImmutableSetMultimap<String, TypeUrl> indexPackages() {
+        ImmutableSetMultimap.Builder<String, TypeUrl> result = ImmutableSetMultimap.builder();
+        for (TypeUrl url : allUrls.get()) {
+            String name = url.toName()
+                             .value();
+            int separator = name.indexOf(PACKAGE_SEPARATOR);
+            while (separator > 0) {
+                result.put(name.substring(0, separator), url);
+                separator = name.indexOf(PACKAGE_SEPARATOR, separator + 1);
+            }
+        }
+        return result.build();
     }
 
     /**
-     * Loads known types from the classpath.
+     * Obtains the name of the Java class generated for the type with the given name.
+     *
+     * <p>If the type is {@linkplain TypeIndex indexed}, no descriptors are linked. Otherwise,
+     * only the descriptors of the requested type and the types it depends on are linked.
+     *
+     * @return the name of the class or {@code null} if the type is unknown
      */
-    private static TypeSet load() {
-        FileSet protoDefinitions = FileSet.load();
-        TypeSet types = TypeSet.messagesAndEnums(protoDefinitions);
-        return types;
+    private @Nullable ClassName classNameOf(TypeName typeName) {
+        if (!moreTypes.contains(typeName)) {
+            Optional<ClassName> indexed = index.javaClassName(typeName);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+        ClassName cached = classNames.get(typeName);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<ClassName> found = find(typeName).map(Type::javaClassName);
+        found.ifPresent(className -> classNames.put(typeName, className));
+        return found.orElse(null);
     }
 
     /**
@@ -115,20 +231,90 @@ public class KnownTypes implements Serializable {
      * @throws UnknownTypeException if there is no such type known to the application
      */
     public ClassName getClassName(TypeUrl typeUrl) throws UnknownTypeException {
-        if (!instance().contains(typeUrl)) {
+        checkNotNull(typeUrl);
+        ClassName result = classNameOf(typeUrl.toName());
+        if (result == null) {
             throw new UnknownTypeException(typeUrl.getTypeName());
         }
-        ClassName result = instance().get(typeUrl);
         return result;
     }
 
+    /**
+     * Obtains the Java class generated for the Protobuf type with the given name.
+     *
+     * @throws UnknownTypeException
+     *         if the type is unknown, or there is no such class
+     */
+    Class<?> javaClass(TypeName typeName) throws UnknownTypeException {
+        ClassName className = classNameOf(typeName);
+        if (className == null) {
+            throw new UnknownTypeException(typeName.value());
+        }
+        try {
+            return Class.forName(className.value());
+        } catch (ClassNotFoundException e) {
+            throw new UnknownTypeException(typeName.value(), e);
+        }
+    }
+
+    /**
+     * Obtains the URL of the type with the given name.
+     *
+     * <p>If the type is {@linkplain TypeIndex indexed}, no descriptors are linked.
+     *
+     * @throws UnknownTypeException
+     *         if the type is unknown
+     */
+    TypeUrl urlOf(TypeName typeName) throws UnknownTypeException {
+        if (!moreTypes.contains(typeName)) {
+            Optional<TypeUrl> indexed = index.url(typeName);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+        TypeUrl result = find(typeName)
+                .map(Type::url)
+                .orElseThrow(() -> new UnknownTypeException(typeName.value()));
+        return result;
+    }
+
+    /**
+     * Retrieves Java class names generated for the Protobuf types with the given URLs.
+     *
+     * @param typeUrls
+     *         the URLs of the types
+     * @return the class names by the type URLs, in the order of the passed URLs
+     * @throws UnknownTypeException
+     *         if some of the types are not known to the application; the exception names all
+     *         such types
+     */
+    public ImmutableMap<TypeUrl, ClassName> resolveAll(Collection<TypeUrl> typeUrls)
+            throws UnknownTypeException {
+        checkNotNull(typeUrls);
+        ImmutableMap.Builder<TypeUrl, ClassName> result = ImmutableMap.builder();
+        List<String> unknown = newArrayList();
+        for (TypeUrl url : ImmutableSet.copyOf(typeUrls)) {
+            ClassName className = classNameOf(url.toName());
+            if (className == null) {
+                unknown.add(url.getTypeName());
+            } else {
+                result.put(url, className);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new UnknownTypeException(Joiner.on(", ")
+                                                 .join(unknown));
+        }
+        return result.build();
+    }
+
     /**
      * Retrieves Protobuf type URLs known to the application.
+     *
+     * <p>The URLs are ordered by their values.
      */
     public Set<TypeUrl> getAllUrls() {
-        return types().stream()
-                      .map(Type::url)
-                      .collect(toSet());
+        return allUrls.get();
     }
 
     /**
@@ -138,7 +324,7 @@ public class KnownTypes implements Serializable {
      * <p>The resulting registry contains all the known Protobuf message types.
      */
     public JsonFormat.TypeRegistry typeRegistry() {
-        return typeSet.toJsonPrinterRegistry();
+        return typeSet().toJsonPrinterRegistry();
     }
 
     /**
@@ -148,10 +334,9 @@ public class KnownTypes implements Serializable {
      * @return set of {@link TypeUrl TypeUrl}s of types that belong to the given package
      */
     public Set<TypeUrl> getAllFromPackage(String packageName) {
-        Set<TypeUrl> result = getAllUrls().stream()
-                                          .filter(url -> url.toName()
-                                                            .belongsTo(packageName))
-                                          .collect(toSet());
+        checkNotNull(packageName);
+        Set<TypeUrl> result = packages.get()
+                                      .get(packageName);
         return result;
     }
 
@@ -163,7 +348,7 @@ public class KnownTypes implements Serializable {
      */
     public boolean contains(TypeUrl typeUrl) {
         TypeName name = typeUrl.toName();
-        boolean result = typeSet().contains(name);
+        boolean result = moreTypes.contains(name) || loadedTypes.contains(name);
         return result;
     }
 
@@ -173,22 +358,14 @@ public class KnownTypes implements Serializable {
      * @see TypeSet#find(TypeName)
      */
     Optional<Type<?, ?>> find(TypeName typeName) {
-        Optional<Type<?, ?>> type = typeSet().find(typeName);
+        Optional<Type<?, ?>> added = moreTypes.find(typeName);
+        if (added.isPresent()) {
+            return added;
+        }
+        Optional<Type<?, ?>> type = loadedTypes.find(typeName);
         return type;
     }
 
-    private Type get(TypeName name) throws UnknownTypeException {
-        Type result = typeSet().find(name)
-                               .orElseThrow(() -> new UnknownTypeException(name.value()));
-        return result;
-    }
-
-    private ClassName get(TypeUrl typeUrl) {
-        Type type = get(typeUrl.toName());
-        ClassName result = type.javaClassName();
-        return result;
-    }
-
     /**
      * A holder of the {@link KnownTypes} instance.
      */
@@ -228,8 +405,8 @@ public class KnownTypes implements Serializable {
 
             lock.lock();
             try {
-                TypeSet newKnownTypes = instance.typeSet.union(moreKnownTypes);
-                instance = new KnownTypes(newKnownTypes);
+                TypeSet newMoreTypes = instance.moreTypes.union(moreKnownTypes);
+                instance = new KnownTypes(instance.loadedTypes, instance.index, newMoreTypes);
             } finally {
                 lock.unlock();
             }
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.Immutable;
+import io.spine.annotation.Internal;
+import io.spine.code.java.ClassName;
+import io.spine.code.proto.Type;
+import io.spine.code.proto.TypeSet;
+import io.spine.io.ResourceFiles;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+import static com.google.common.io.Files.createParentDirs;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+
+/**
+ * An index of Protobuf types, which maps the name of a type to its URL, the name of its Java
+ * class, and the name of the file declaring the type.
+ *
+ * <p>The index is generated at build time from the linked descriptors of the types, and is
+ * stored in the {@linkplain #FILE_NAME resource file} next to
+ * the {@linkplain io.spine.code.proto.FileDescriptors#KNOWN_TYPES descriptor set file}.
+ * At runtime, the index allows to obtain the URL and the Java class of a type without linking
+ * the descriptors.
+ *
+ * <p>The index file has the following binary format:
+ * <ol>
+ *     <li>the format marker;
+ *     <li>the table of type URL prefixes: the number of prefixes, and the prefixes;
+ *     <li>the table of file names: the number of files, and the file names;
+ *     <li>the number of types, and for each type: its name, the index of its URL prefix,
+ *         the index of its file, and the name of its Java class.
+ * </ol>
+ *
+ * <p>The numbers are written as {@code int}s, the strings are written in the
+ * {@linkplain DataOutputStream#writeUTF(String) modified UTF-8}. The tables and the types are
+ * sorted, so the same types always produce the same file.
+ */
+@Internal
+@Immutable
+public final class TypeIndex {
+
+    /**
+     * The name of the resource file with the index.
+     */
+    public static final String FILE_NAME = "known_types.index";
+
+    /** The marker of the current format of the index file. */
+    private static final int FORMAT = 0x53_54_49_01;
+
+    private static final TypeIndex EMPTY = new TypeIndex(ImmutableMap.of());
+
+    private final ImmutableMap<TypeName, Entry> entries;
+
+    private TypeIndex(ImmutableMap<TypeName, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Creates an index of the given types.
+     */
+    public static TypeIndex of(TypeSet types) {
+        checkNotNull(types);
+        ImmutableSortedMap.Builder<TypeName, Entry> entries =
+                ImmutableSortedMap.orderedBy(TypeIndex::compare);
+        for (Type<?, ?> type : types.types()) {
+            String file = type.descriptor()
+                              .getFile()
+                              .getName();
+            Entry entry = new Entry(type.url()
+                                        .getPrefix(),
+                                    type.javaClassName()
+                                        .value(),
+                                    file);
+            entries.put(type.name(), entry);
+        }
+        return new TypeIndex(entries.build());
+    }
+
+    /**
+     * Loads the indexes from all the {@linkplain #FILE_NAME index files} on the classpath.
+     *
+     * <p>If several files declare the same type, the first found declaration is used.
+     *
+     * @return the united index or an empty index if there are no index files
+     */
+    static TypeIndex load() {
+        List<URL> resources = Lists.newArrayList(ResourceFiles.loadAll(FILE_NAME));
+        if (resources.isEmpty()) {
+            return EMPTY;
+        }
+        Map<TypeName, Entry> entries = newHashMap();
+        for (URL resource : resources) {
+            TypeIndex index = loadFrom(resource);
+            index.entries.forEach(entries::putIfAbsent);
+        }
+        return new TypeIndex(ImmutableMap.copyOf(entries));
+    }
+
+    private static TypeIndex loadFrom(URL resource) {
+        try (InputStream stream = resource.openStream()) {
+            return read(stream);
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to load the type index from %s.", resource);
+        }
+    }
+
+    /**
+     * Reads the index from the given stream.
+     */
+    @VisibleForTesting
+    static TypeIndex read(InputStream stream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(stream));
+        int format = input.readInt();
+        if (format != FORMAT) {
+            throw new IOException(format("Unknown type index format: %08x.", format));
+        }
+        String[] prefixes = readTable(input);
+        String[] files = readTable(input);
+        int size = input.readInt();
+        ImmutableMap.Builder<TypeName, Entry> entries = ImmutableMap.builder();
+        for (int i = 0; i < size; i++) {
+            TypeName name = TypeName.of(input.readUTF());
+            String prefix = prefixes[input.readInt()];
+            String file = files[input.readInt()];
+            String javaClass = input.readUTF();
+            entries.put(name, new Entry(prefix, javaClass, file));
+        }
+        return new TypeIndex(entries.build());
+    }
+
+    private static String[] readTable(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        String[] result = new String[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = input.readUTF();
+        }
+        return result;
+    }
+
+    /**
+     * Writes the index into the given file.
+     *
+     * <p>If the file exists, it is overridden. Otherwise, the file and its parent directories
+     * are created.
+     */
+    public void writeTo(File destination) {
+        checkNotNull(destination);
+        try {
+            createParentDirs(destination);
+            try (OutputStream out = new FileOutputStream(destination)) {
+                writeTo(out);
+            }
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to write the type index to %s.",
+                                           destination);
+        }
+    }
+
+    /**
+     * Writes the index into the given stream.
+     */
+    @VisibleForTesting
+    void writeTo(OutputStream stream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+        List<String> prefixes = table(entry -> entry.prefix);
+        List<String> files = table(entry -> entry.file);
+        Map<String, Integer> prefixIndexes = positions(prefixes);
+        Map<String, Integer> fileIndexes = positions(files);
+        output.writeInt(FORMAT);
+        writeTable(output, prefixes);
+        writeTable(output, files);
+        output.writeInt(entries.size());
+        for (Map.Entry<TypeName, Entry> entry : entries.entrySet()) {
+            Entry value = entry.getValue();
+            output.writeUTF(entry.getKey()
+                                 .value());
+            output.writeInt(prefixIndexes.get(value.prefix));
+            output.writeInt(fileIndexes.get(value.file));
+            output.writeUTF(value.javaClass);
+        }
+        output.flush();
+    }
+
+    /**
+     * Obtains the sorted distinct values of the given property of the entries.
+     */
+    private List<String> table(Function<Entry, String> property) {
+        List<String> result = entries.values()
+                                     .stream()
+                                     .map(property)
+                                     .distinct()
+                                     .sorted()
+                                     .collect(toImmutableList());
+        return result;
+    }
+
+    private static Map<String, Integer> positions(List<String> table) {
+        Map<String, Integer> result = newHashMapWithExpectedSize(table.size());
+        for (int i = 0; i < table.size(); i++) {
+            result.put(table.get(i), i);
+        }
+        return result;
+    }
+
+    private static void writeTable(DataOutputStream output, List<String> table)
+            throws IOException {
+        output.writeInt(table.size());
+        for (String value : table) {
+            output.writeUTF(value);
+        }
+    }
+
+    /**
+     * Obtains the URL of the type with the given name.
+     */
+    Optional<TypeUrl> url(TypeName typeName) {
+        Optional<TypeUrl> result = entry(typeName)
+                .map(entry -> TypeUrl.create(entry.prefix, typeName.value()));
+        return result;
+    }
+
+    /**
+     * Obtains the name of the Java class of the type with the given name.
+     */
+    Optional<ClassName> javaClassName(TypeName typeName) {
+        Optional<ClassName> result = entry(typeName)
+                .map(entry -> ClassName.of(entry.javaClass));
+        return result;
+    }
+
+    private Optional<Entry> entry(TypeName typeName) {
+        checkNotNull(typeName);
+        Entry entry = entries.get(typeName);
+        return Optional.ofNullable(entry);
+    }
+
+    /**
+     * Obtains the number of types in the index.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private static int compare(TypeName left, TypeName right) {
+        return left.value()
+                   .compareTo(right.value());
+    }
+
+    /**
+     * The indexed properties of a type.
+     */
+    @Immutable
+    private static final class Entry {
+
+        private final String prefix;
+        private final String javaClass;
+        private final String file;
+
+        private Entry(String prefix, String javaClass, String file) {
+            this.prefix = prefix;
+            this.javaClass = javaClass;
+            this.file = file;
+        }
+    }
+}
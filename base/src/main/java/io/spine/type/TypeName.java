@@ -120,7 +120,8 @@ public final class TypeName extends StringTypeValue {
      * Creates URL instance corresponding to this type name.
      */
     public TypeUrl toUrl() {
-        return type().url();
+        return KnownTypes.instance()
+                         .urlOf(this);
     }
 
     /**
@@ -132,7 +133,8 @@ public final class TypeName extends StringTypeValue {
      *         there is no corresponding Java class
      */
     public Class<?> getJavaClass() throws UnknownTypeException {
-        return type().javaClass();
+        return KnownTypes.instance()
+                         .javaClass(this);
     }
 
     /**
@@ -78,7 +78,7 @@ public final class TypeUrl implements Serializable {
     /**
      * Create new {@code TypeUrl}.
      */
-    private static TypeUrl create(String prefix, String typeName) {
+    static TypeUrl create(String prefix, String typeName) {
         return new TypeUrl(prefix, typeName);
     }
 
@@ -202,7 +202,7 @@ public final class TypeUrl implements Serializable {
      * @throws UnknownTypeException if there is no corresponding Java class
      */
     public Class<?> getJavaClass() throws UnknownTypeException {
-        return type().javaClass();
+        return toName().getJavaClass();
     }
 
     /**
@@ -35,13 +35,18 @@ import io.spine.string.Stringifiers;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Throwables.getRootCause;
 import static io.spine.option.Options.option;
+import static io.spine.protobuf.TypeConverter.toAny;
 import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
 
 /**
@@ -71,15 +76,48 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
      */
     private @Nullable T originalState;
 
+    /**
+     * Indexes of the fields reported as changed since the last successful validation.
+     *
+     * <p>Used only if the builder {@linkplain #tracksChanges() tracks changes}.
+     */
+    private final BitSet changedSinceValidation = new BitSet();
+
+    /**
+     * Indexes of the fields reported as changed since the original state was set.
+     *
+     * <p>Used only if the builder {@linkplain #tracksChanges() tracks changes}.
+     */
+    private final BitSet changedSinceOriginal = new BitSet();
+
+    /**
+     * Tells if the state of the message builder passed the validation, except for the fields
+     * which {@linkplain #changedSinceValidation changed} after that.
+     */
+    private boolean validated;
+
     protected AbstractValidatingBuilder() {
         this.messageClass = getMessageClass(getClass());
         this.messageBuilder = createBuilder();
     }
 
+    /**
+     * Validates and builds {@code Message}.
+     *
+     * <p>If the builder {@linkplain #tracksChanges() tracks changes}, only the fields which
+     * were changed since the previous successful call to this method are validated, along with
+     * the message-level rules (such as {@code required_field} and {@code Oneof} declarations)
+     * which depend on these fields. Otherwise, the whole message is validated.
+     */
     @Override
     public T build() throws ValidationException {
         T message = internalBuild();
-        validateResult(message);
+        if (tracksChanges() && validated) {
+            validateChanges(message);
+        } else {
+            validateResult(message);
+        }
+        onValidated();
         return message;
     }
 
@@ -87,6 +125,46 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
     public void clear() {
         messageBuilder.clear();
         originalState = null;
+        resetChanges();
+    }
+
+    /**
+     * Tells if all the modifications of the message builder are reported
+     * through {@link #markChanged(FieldDescriptor)}.
+     *
+     * <p>Such builders re-validate only the changed fields on {@link #build()} and
+     * check if they are {@linkplain #isDirty() dirty} without building the message.
+     *
+     * <p>Returns {@code false} by default, which means the builder validates the whole message
+     * on every {@link #build()}. Generated validating builders override this method.
+     */
+    protected boolean tracksChanges() {
+        return false;
+    }
+
+    /**
+     * Reports a change of the passed field made to the {@linkplain #getMessageBuilder()
+     * message builder}.
+     *
+     * <p>The builders which {@linkplain #tracksChanges() track changes} must call this method
+     * (or {@link #validate(FieldDescriptor, Object, String) validate(..)}, or
+     * {@link #validateSetOnce(FieldDescriptor) validateSetOnce(..)}, which do it implicitly)
+     * on each modification of the message builder.
+     *
+     * @param field
+     *         the field which is changed
+     */
+    protected final void markChanged(FieldDescriptor field) {
+        checkNotNull(field);
+        boolean ownField = field.getContainingType()
+                                .equals(messageBuilder.getDescriptorForType());
+        if (ownField) {
+            int index = field.getIndex();
+            changedSinceValidation.set(index);
+            changedSinceOriginal.set(index);
+        } else {
+            validated = false;
+        }
     }
 
     /**
@@ -161,6 +239,7 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
     @Override
     public <V> void validate(FieldDescriptor descriptor, V fieldValue, String fieldName)
             throws ValidationException {
+        markChanged(descriptor);
         FieldContext fieldContext = FieldContext.create(descriptor);
         FieldValue valueToValidate = FieldValue.of(fieldValue, fieldContext);
         FieldValidator<?> validator = valueToValidate.createValidator();
@@ -171,10 +250,17 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
     /**
      * Checks whether any modifications have been made to the fields of message being built.
      *
+     * <p>If the builder {@linkplain #tracksChanges() tracks changes}, only the fields reported
+     * as changed are compared with the original state. In particular, if no changes were
+     * reported, the method returns {@code false} immediately.
+     *
      * @return {@code true} if any modifications have been made, {@code false} otherwise.
      */
     @Override
     public boolean isDirty() {
+        if (tracksChanges()) {
+            return anyChangedFieldDiffers();
+        }
         T message = internalBuild();
         boolean result = originalState != null
                          ? !originalState.equals(message)
@@ -182,6 +268,39 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
         return result;
     }
 
+    private boolean anyChangedFieldDiffers() {
+        Message original = originalState != null
+                           ? originalState
+                           : messageBuilder.getDefaultInstanceForType();
+        List<FieldDescriptor> fields = messageBuilder.getDescriptorForType()
+                                                     .getFields();
+        for (int index = changedSinceOriginal.nextSetBit(0);
+             index >= 0;
+             index = changedSinceOriginal.nextSetBit(index + 1)) {
+            FieldDescriptor field = fields.get(index);
+            if (!sameValue(field, messageBuilder.getField(field), original.getField(field))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compares the values of the field.
+     *
+     * <p>Map fields are represented by lists of entries, which are compared regardless of
+     * the order.
+     */
+    private static boolean sameValue(FieldDescriptor field, Object current, Object original) {
+        if (current == original) {
+            return true;
+        }
+        if (field.isMapField()) {
+            return new HashSet<>((List<?>) current).equals(new HashSet<>((List<?>) original));
+        }
+        return Objects.equals(current, original);
+    }
+
     @Override
     public void setOriginalState(T state) {
         checkNotNull(state);
@@ -189,6 +308,7 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
 
         messageBuilder.clear();
         messageBuilder.mergeFrom(state);
+        resetChanges();
     }
 
     protected B getMessageBuilder() {
@@ -199,6 +319,10 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
     @CanIgnoreReturnValue
     public ValidatingBuilder<T, B> mergeFrom(T message) {
         messageBuilder.mergeFrom(message);
+        for (FieldDescriptor field : message.getAllFields()
+                                            .keySet()) {
+            markChanged(field);
+        }
         return this;
     }
 
@@ -230,6 +354,40 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
         checkViolations(violations);
     }
 
+    private void validateChanges(T message) throws ValidationException {
+        if (changedSinceValidation.isEmpty()) {
+            return;
+        }
+        List<FieldDescriptor> fields = message.getDescriptorForType()
+                                              .getFields();
+        ImmutableList.Builder<FieldDescriptor> changed = ImmutableList.builder();
+        for (int index = changedSinceValidation.nextSetBit(0);
+             index >= 0;
+             index = changedSinceValidation.nextSetBit(index + 1)) {
+            changed.add(fields.get(index));
+        }
+        List<ConstraintViolation> violations = MessageValidator.newInstance(message)
+                                                               .validate(changed.build());
+        checkViolations(violations);
+    }
+
+    private void onValidated() {
+        if (tracksChanges()) {
+            validated = true;
+            changedSinceValidation.clear();
+        }
+    }
+
+    /**
+     * Forgets the reported changes, so that the next {@link #build()} validates
+     * the whole message.
+     */
+    private void resetChanges() {
+        validated = false;
+        changedSinceValidation.clear();
+        changedSinceOriginal.clear();
+    }
+
     /**
      * Validates the {@code set_once} field option.
      *
@@ -261,6 +419,7 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
      */
     @SuppressWarnings("unused") // Called by all actual validating builder subclasses.
     protected final void validateSetOnce(FieldDescriptor field) throws ValidationException {
+        markChanged(field);
         boolean shouldValidate = isSetOnce(field);
         if (shouldValidate) {
             boolean setOnceInapplicable = field.isRepeated() || field.isMapField();
@@ -275,6 +434,137 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
         }
     }
 
+    /**
+     * Ensures that the passed field is not set yet.
+     *
+     * <p>Called by the validating builders generated with inline constraint checks instead of
+     * {@link #validateSetOnce(FieldDescriptor) validateSetOnce(..)} for the fields which are
+     * known to be {@code (set_once)} at the build time.
+     *
+     * @param field
+     *         a singular field which is being changed
+     * @throws ValidationException
+     *         if the field is already set
+     */
+    @SuppressWarnings("unused") // Called by the generated code.
+    protected final void checkNotSet(FieldDescriptor field) throws ValidationException {
+        markChanged(field);
+        boolean valueAlreadySet = getMessageBuilder().hasField(field);
+        if (valueAlreadySet) {
+            throw violatedSetOnce(field);
+        }
+    }
+
+    /**
+     * Creates an exception for a required field which value is not set.
+     *
+     * <p>Called by the validating builders generated with inline constraint checks.
+     *
+     * @param field
+     *         the required field
+     * @param msgFormat
+     *         the format of the violation message
+     * @return new exception
+     */
+    @SuppressWarnings("unused") // Called by the generated code.
+    protected static ValidationException missingValue(FieldDescriptor field, String msgFormat) {
+        ConstraintViolation violation = ConstraintViolation
+                .newBuilder()
+                .setMsgFormat(msgFormat)
+                .setFieldPath(FieldContext.create(field)
+                                          .getFieldPath())
+                .build();
+        return new ValidationException(ImmutableList.of(violation));
+    }
+
+    /**
+     * Creates an exception for a value of a field which violates a constraint.
+     *
+     * <p>Called by the validating builders generated with inline constraint checks.
+     *
+     * @param field
+     *         the field which is being set
+     * @param value
+     *         the invalid value
+     * @param msgFormat
+     *         the format of the violation message
+     * @param params
+     *         the parameters of the violation message
+     * @return new exception
+     */
+    @SuppressWarnings("unused") // Called by the generated code.
+    protected static ValidationException invalidValue(FieldDescriptor field,
+                                                      Object value,
+                                                      String msgFormat,
+                                                      String... params) {
+        ConstraintViolation violation = ConstraintViolation
+                .newBuilder()
+                .setMsgFormat(msgFormat)
+                .addAllParam(ImmutableList.copyOf(params))
+                .setFieldPath(FieldContext.create(field)
+                                          .getFieldPath())
+                .setFieldValue(toAny(value))
+                .build();
+        return new ValidationException(ImmutableList.of(violation));
+    }
+
+    /**
+     * Tells if the number has more digits than allowed by the {@code (digits)} option.
+     *
+     * <p>Called by the validating builders generated with inline constraint checks.
+     *
+     * <p>The digits are counted in the shortest decimal representation of the number, which
+     * is produced by {@link Double#toString(double)}, without the trailing zeros of
+     * the fraction. An infinite value has too many integer digits. {@code NaN} has no digits.
+     *
+     * @param value
+     *         the number value
+     * @param integerMax
+     *         the maximum number of integer digits
+     * @param fractionMax
+     *         the maximum number of fraction digits
+     * @return {@code true} if there are too many digits, {@code false} otherwise
+     */
+    @SuppressWarnings("unused") // Called by the generated code.
+    protected static boolean exceedsDigits(double value, int integerMax, int fractionMax) {
+        if (Double.isNaN(value)) {
+            return false;
+        }
+        if (Double.isInfinite(value)) {
+            return true;
+        }
+        BigDecimal decimal = BigDecimal.valueOf(value);
+        return exceedsDigits(decimal, integerMax, fractionMax);
+    }
+
+    /**
+     * Tells if the number has more digits than allowed by the {@code (digits)} option.
+     *
+     * <p>The digits are counted in the shortest decimal representation of the number, which
+     * is produced by {@link Float#toString(float)}.
+     *
+     * @see #exceedsDigits(double, int, int)
+     */
+    @SuppressWarnings("unused") // Called by the generated code.
+    protected static boolean exceedsDigits(float value, int integerMax, int fractionMax) {
+        if (Float.isNaN(value)) {
+            return false;
+        }
+        if (Float.isInfinite(value)) {
+            return true;
+        }
+        BigDecimal decimal = new BigDecimal(Float.toString(value));
+        return exceedsDigits(decimal, integerMax, fractionMax);
+    }
+
+    private static boolean exceedsDigits(BigDecimal value, int integerMax, int fractionMax) {
+        BigDecimal digits = value.stripTrailingZeros();
+        int fractionDigits = Math.max(digits.scale(), 0);
+        int integerDigits = Math.max(digits.precision() - digits.scale(), 0);
+        boolean result = integerDigits > integerMax || fractionDigits > fractionMax;
+        return result;
+    }
+
     private static boolean isSetOnce(FieldDescriptor field) {
         Optional<Boolean> setOnceDeclaration = option(field, OptionsProto.setOnce);
         FieldDeclaration fieldDeclaration = new FieldDeclaration(field);
@@ -27,6 +27,7 @@ import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
 import io.spine.logging.Logging;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -100,6 +101,30 @@ final class AlternativeFieldValidator implements Logging {
         return violations.build();
     }
 
+    /**
+     * Tells if the {@code required_field} rules of the message refer to any of
+     * the passed fields.
+     *
+     * <p>If none of the referenced fields is changed, the result of a previous
+     * {@linkplain #validate() validation} remains the same.
+     */
+    boolean dependsOnAny(Collection<FieldDescriptor> fields) {
+        Map<FieldDescriptor, Object> options = message.options();
+        for (FieldDescriptor optionDescriptor : options.keySet()) {
+            boolean stringRule = OPTION_REQUIRED_FIELD.equals(optionDescriptor.getName())
+                    && optionDescriptor.getJavaType() == JavaType.STRING;
+            if (stringRule) {
+                String requiredFieldExpression = (String) options.get(optionDescriptor);
+                for (RequiredFieldOption option : parse(requiredFieldExpression)) {
+                    if (option.refersToAny(fields)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     private static ImmutableList<RequiredFieldOption> parse(String optionsDefinition) {
         ImmutableList.Builder<RequiredFieldOption> alternatives = ImmutableList.builder();
         String whiteSpaceRemoved = WHITESPACE.matcher(optionsDefinition)
@@ -195,6 +220,22 @@ final class AlternativeFieldValidator implements Logging {
             return fieldName != null;
         }
 
+        /**
+         * Tells if the option refers to any of the passed fields.
+         */
+        boolean refersToAny(Collection<FieldDescriptor> fields) {
+            for (FieldDescriptor field : fields) {
+                String name = field.getName();
+                boolean referred = isField()
+                                   ? name.equals(fieldName)
+                                   : getFieldNames().contains(name);
+                if (referred) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         boolean isCombination() {
             return fieldNames != null;
         }
@@ -33,6 +33,7 @@ import java.util.List;
 
 import static com.google.common.collect.Lists.newLinkedList;
 import static io.spine.validate.Validate.isNotDefault;
+import static java.lang.String.format;
 
 /**
  * Validates messages according to Spine custom Protobuf options and
@@ -143,10 +144,22 @@ abstract class FieldValidator<V> implements Logging {
     private void checkCanBeRequired() {
         boolean fieldIsRequired = isRequiredField();
         if (!canBeRequired && fieldIsRequired) {
-            _warn("Fields of type {} should not be declared as `(required)`.", field().typeName());
+            _warnOnce(fieldName(), () -> format(
+                    "Fields of type %s should not be declared as `(required)`.",
+                    field().typeName()));
         }
     }
 
+    /**
+     * Obtains the full name of the validated field.
+     *
+     * <p>Serves as the key for the warnings logged once per field.
+     */
+    private String fieldName() {
+        return declaration.descriptor()
+                          .getFullName();
+    }
+
     /**
      * Performs type-specific field validation.
      *
@@ -211,7 +224,9 @@ abstract class FieldValidator<V> implements Logging {
     protected void checkIfRequiredAndNotSet() {
         if (!isRequiredField()) {
             if (hasCustomMissingMessage()) {
-                log().warn("'if_missing' option is set without '(required) = true'");
+                _warnOnce(fieldName(), () -> format(
+                        "'if_missing' option is set without '(required) = true' for `%s`.",
+                        fieldName()));
             }
             return;
         }
@@ -21,10 +21,12 @@
 package io.spine.validate;
 
 import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Descriptors.OneofDescriptor;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -73,6 +75,49 @@ public class MessageValidator {
         return result.build();
     }
 
+    /**
+     * Validates the passed fields of the message along with the message-level rules
+     * which depend on these fields.
+     *
+     * <p>The rest of the message is assumed to be valid, e.g. because it passed
+     * the {@linkplain #validate() validation} before the passed fields were changed.
+     *
+     * @param fields
+     *         the fields of the validated message to check
+     * @return constraint violations found
+     */
+    List<ConstraintViolation> validate(Collection<FieldDescriptor> fields) {
+        ImmutableList.Builder<ConstraintViolation> result = ImmutableList.builder();
+        AlternativeFieldValidator altFieldValidator = new AlternativeFieldValidator(message);
+        if (altFieldValidator.dependsOnAny(fields)) {
+            result.addAll(altFieldValidator.validate());
+        }
+        for (OneofDescriptor oneof : message.oneofDescriptors()) {
+            if (containsFieldOf(oneof, fields)) {
+                OneofValidator validator = new OneofValidator(oneof, message);
+                result.addAll(validator.validate());
+            }
+        }
+        for (FieldDescriptor field : fields) {
+            if (field.getContainingOneof() == null) {
+                FieldValidator<?> fieldValidator = message.valueOf(field)
+                                                          .createValidator();
+                result.addAll(fieldValidator.validate());
+            }
+        }
+        return result.build();
+    }
+
+    private static boolean containsFieldOf(OneofDescriptor oneof,
+                                           Collection<FieldDescriptor> fields) {
+        for (FieldDescriptor field : fields) {
+            if (oneof.equals(field.getContainingOneof())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void validateAlternativeFields(ImmutableList.Builder<ConstraintViolation> result) {
         AlternativeFieldValidator altFieldValidator = new AlternativeFieldValidator(message);
         result.addAll(altFieldValidator.validate());
@@ -143,7 +143,14 @@ final class MessageValue {
         return Optional.of(fieldValue);
     }
 
-    private FieldValue valueOf(FieldDescriptor field) {
+    /**
+     * Obtains the value of the passed field.
+     *
+     * @param field
+     *         the field of the message
+     * @return a value of the field
+     */
+    FieldValue valueOf(FieldDescriptor field) {
         FieldContext fieldContext = context.forChild(field);
         FieldValue value = FieldValue.of(message.getField(field), fieldContext);
         return value;
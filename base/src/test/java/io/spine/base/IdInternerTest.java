@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.Sets;
+import com.google.protobuf.Any;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import io.spine.protobuf.AnyPacker;
+import io.spine.test.identifiers.UuidMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static io.spine.base.Identifier.newUuid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("IdInterner should")
+class IdInternerTest {
+
+    private IdInterner interner;
+
+    @BeforeEach
+    void setUp() {
+        interner = IdInterner.newInstance();
+    }
+
+    @Test
+    @DisplayName("resolve equal IDs to the first interned instance")
+    void resolveEqual() {
+        String value = newUuid();
+        StringValue first = StringValue.of(value);
+        StringValue second = StringValue.of(value);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.hitCount());
+        assertEquals(1, interner.missCount());
+        assertEquals(0.5, interner.hitRate());
+    }
+
+    @Test
+    @DisplayName("not resolve an ID to an equal instance of another class")
+    void notResolveOtherClass() {
+        StringValue generated = StringValue.of(newUuid());
+        DynamicMessage dynamic = DynamicMessage.newBuilder(generated)
+                                               .build();
+        interner.intern(generated);
+
+        assertSame(dynamic, interner.intern(dynamic));
+    }
+
+    @Test
+    @DisplayName("intern IDs of a class which is interned after an equal ID of another class")
+    void internAfterOtherClass() {
+        StringValue generated = StringValue.of(newUuid());
+        DynamicMessage dynamic = DynamicMessage.newBuilder(generated)
+                                               .build();
+        StringValue equalGenerated = StringValue.of(generated.getValue());
+        interner.intern(dynamic);
+
+        assertSame(generated, interner.intern(generated));
+        assertSame(generated, interner.intern(equalGenerated));
+    }
+
+    @Test
+    @DisplayName("intern unpacked IDs")
+    void internUnpacked() {
+        UuidMessage id = UuidMessage.newBuilder()
+                                    .setUuid(newUuid())
+                                    .build();
+        Any packed = Identifier.pack(id);
+
+        Object first = Identifier.unpack(packed, interner);
+        Object second = Identifier.unpack(packed, interner);
+        Message third = AnyPacker.unpack(packed, interner);
+
+        assertSame(first, second);
+        assertSame(first, third);
+    }
+
+    @Test
+    @DisplayName("intern UUID values")
+    void internUuidValues() {
+        String value = newUuid();
+        UuidFactory<UuidMessage> factory = UuidFactory.forClass(UuidMessage.class);
+
+        UuidMessage first = factory.newUuidOf(value, interner);
+        UuidMessage second = factory.newUuidOf(value, interner);
+
+        assertSame(first, second);
+        assertNotSame(first, factory.newUuidOf(value));
+    }
+
+    /**
+     * Checks the footprint of many unpacked duplicate IDs in terms of the retained instances.
+     */
+    @Test
+    @DisplayName("keep a single instance of each distinct ID")
+    void keepSingleInstance() {
+        int distinct = 100;
+        int copies = 1_000;
+        List<Any> packed = newArrayList();
+        for (int i = 0; i < distinct; i++) {
+            packed.add(Identifier.pack(newUuid()));
+        }
+        List<Object> retained = newArrayList();
+        for (int copy = 0; copy < copies; copy++) {
+            for (Any any : packed) {
+                retained.add(Identifier.unpack(any, interner));
+            }
+        }
+        Set<Object> instances = Sets.newIdentityHashSet();
+        instances.addAll(retained);
+
+        assertEquals(distinct, instances.size());
+        assertEquals(distinct, interner.missCount());
+        assertEquals((long) distinct * (copies - 1), interner.hitCount());
+    }
+}
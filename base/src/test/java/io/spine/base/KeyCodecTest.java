@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.UnsignedBytes;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.StringValue;
+import io.spine.test.identifiers.SeveralFieldsId;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KeyCodec should")
+class KeyCodecTest {
+
+    private static final Comparator<byte[]> byteOrder = UnsignedBytes.lexicographicalComparator();
+
+    @Nested
+    @DisplayName("preserve the order and decode")
+    class PreserveOrder {
+
+        @Test
+        @DisplayName("`Integer` IDs")
+        void integers() {
+            assertOrderAndRoundTrip(Integer.class, ImmutableList.of(
+                    Integer.MIN_VALUE, -256, -1, 0, 1, 255, 256, Integer.MAX_VALUE
+            ));
+        }
+
+        @Test
+        @DisplayName("`Long` IDs")
+        void longs() {
+            assertOrderAndRoundTrip(Long.class, ImmutableList.of(
+                    Long.MIN_VALUE, -1L, 0L, 1L, (long) Integer.MAX_VALUE + 1, Long.MAX_VALUE
+            ));
+        }
+
+        @Test
+        @DisplayName("`String` IDs")
+        void strings() {
+            assertOrderAndRoundTrip(String.class, ImmutableList.of(
+                    "", "\0", "\0\0", "a", "a\0", "a\0b", "ab", "b", "é", "中"
+            ));
+        }
+
+        @Test
+        @DisplayName("message IDs with several fields")
+        void messages() {
+            assertOrderAndRoundTrip(SeveralFieldsId.class, ImmutableList.of(
+                    severalFields("", -1, null),
+                    severalFields("", 0, null),
+                    severalFields("", 0, ""),
+                    severalFields("", 0, "a"),
+                    severalFields("a", Integer.MIN_VALUE, null),
+                    severalFields("a", 7, "b"),
+                    severalFields("b", 0, null)
+            ));
+        }
+
+        @Test
+        @DisplayName("message IDs with floating point fields")
+        void doubles() {
+            assertOrderAndRoundTrip(DoubleValue.class, ImmutableList.of(
+                    DoubleValue.of(Double.NEGATIVE_INFINITY),
+                    DoubleValue.of(-1.5),
+                    DoubleValue.of(-Double.MIN_VALUE),
+                    DoubleValue.of(0.0),
+                    DoubleValue.of(Double.MIN_VALUE),
+                    DoubleValue.of(2.5),
+                    DoubleValue.of(Double.POSITIVE_INFINITY)
+            ));
+        }
+
+        private <I> void assertOrderAndRoundTrip(Class<I> idClass, List<I> ascending) {
+            KeyCodec<I> codec = KeyCodec.forClass(idClass);
+            byte[] previous = null;
+            for (I id : ascending) {
+                byte[] key = codec.encode(id);
+                assertEquals(codec.sizeOf(id), key.length);
+                assertEquals(id, codec.decode(key));
+                if (previous != null) {
+                    assertTrue(byteOrder.compare(previous, key) < 0,
+                               () -> "The key of " + id + " is not greater than the previous one.");
+                }
+                previous = key;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("decode strings outside of the Basic Multilingual Plane")
+    void supplementaryCharacters() {
+        KeyCodec<String> codec = KeyCodec.forClass(String.class);
+        String value = "smile 😀";
+
+        assertEquals(value, codec.decode(codec.encode(value)));
+    }
+
+    @Test
+    @DisplayName("write keys one after another into a buffer of any byte order")
+    void writeIntoBuffer() {
+        KeyCodec<Long> codec = KeyCodec.forClass(Long.class);
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES)
+                                      .order(ByteOrder.LITTLE_ENDIAN);
+
+        codec.encode(-3L, buffer);
+        codec.encode(42L, buffer);
+        buffer.flip();
+
+        assertEquals(-3L, (long) codec.decode(buffer));
+        assertEquals(42L, (long) codec.decode(buffer));
+        assertEquals(ByteBuffer.wrap(codec.encode(42L)),
+                     ByteBuffer.wrap(buffer.array(), Long.BYTES, Long.BYTES));
+    }
+
+    @Test
+    @DisplayName("not change the buffer position if the key does not fit")
+    void keepPositionOnOverflow() {
+        KeyCodec<String> codec = KeyCodec.forClass(String.class);
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        buffer.put((byte) 1);
+
+        assertThrows(BufferOverflowException.class, () -> codec.encode("long value", buffer));
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    @DisplayName("reject message IDs with repeated fields")
+    void rejectRepeated() {
+        assertThrows(IllegalArgumentException.class, () -> KeyCodec.forClass(FieldMask.class));
+    }
+
+    @Test
+    @DisplayName("reject keys with trailing bytes")
+    void rejectTrailing() {
+        KeyCodec<Integer> codec = KeyCodec.forClass(Integer.class);
+        byte[] key = new byte[Integer.BYTES + 1];
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(key));
+    }
+
+    private static SeveralFieldsId severalFields(String string, int number,
+                                                @Nullable String message) {
+        SeveralFieldsId.Builder builder = SeveralFieldsId.newBuilder()
+                                                         .setString(string)
+                                                         .setNumber(number);
+        if (message != null) {
+            builder.setMessage(StringValue.of(message));
+        }
+        return builder.build();
+    }
+}
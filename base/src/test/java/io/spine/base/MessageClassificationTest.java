@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import io.spine.base.given.MessageFileEventsProto;
+import io.spine.code.proto.FileSet;
+import io.spine.test.identifiers.IdentifierTestProto;
+import io.spine.type.TypeName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.base.MessageClassifiers.classify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MessageClassification should")
+class MessageClassificationTest {
+
+    private static final TypeName SOME_EVENT = TypeName.of("spine.test.base.SomeEvent");
+    private static final TypeName UUID_MESSAGE =
+            TypeName.of("spine.test.identifiers.UuidMessage");
+
+    @Test
+    @DisplayName("classify the message types of a file set")
+    void classifyFileSet() {
+        MessageClassification classification = classify(FileSet.load());
+
+        assertTrue(classification.is(SOME_EVENT, EventMessage.class));
+        assertFalse(classification.is(SOME_EVENT, CommandMessage.class));
+        assertTrue(classification.is(UUID_MESSAGE, UuidValue.class));
+        assertTrue(classification.typesOf(EventMessage.class)
+                                 .contains(SOME_EVENT));
+    }
+
+    @Test
+    @DisplayName("match the results of the classifiers")
+    void matchClassifiers() {
+        FileDescriptorProto file = IdentifierTestProto.getDescriptor()
+                                                      .toProto();
+        MessageClassification classification = classify(file);
+        MessageClassifier uuidClassifier = MessageClassifiers.forInterface(UuidValue.class);
+
+        for (DescriptorProto message : file.getMessageTypeList()) {
+            boolean expected = uuidClassifier.test(message, file);
+            assertEquals(expected, classification.kindsOf(message, file)
+                                                 .contains(UuidValue.class));
+        }
+    }
+
+    @Test
+    @DisplayName("cache the classification of a file")
+    void cacheFile() {
+        FileDescriptorProto file = MessageFileEventsProto.getDescriptor()
+                                                         .toProto();
+
+        assertSame(classify(file), classify(file));
+    }
+}
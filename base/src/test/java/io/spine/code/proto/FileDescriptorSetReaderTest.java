@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo;
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("FileDescriptorSetReader should")
+class FileDescriptorSetReaderTest {
+
+    private static final FileDescriptorProto googleFile = file("google/test.proto", "google.test");
+    private static final FileDescriptorProto spineFile = file("spine/test.proto", "spine.test");
+
+    private Path descriptorSet;
+
+    @BeforeEach
+    void setUp(@TempDir Path directory) throws IOException {
+        descriptorSet = directory.resolve(FileDescriptors.KNOWN_TYPES);
+        FileDescriptorSet set = FileDescriptorSet
+                .newBuilder()
+                .addFile(googleFile)
+                .addFile(spineFile)
+                .build();
+        Files.write(descriptorSet, set.toByteArray());
+    }
+
+    @Test
+    @DisplayName("read all the files")
+    void readAll() {
+        List<FileDescriptorProto> files = FileDescriptorSetReader.of(descriptorSet)
+                                                                 .read();
+        assertThat(files).containsExactly(googleFile, spineFile)
+                         .inOrder();
+    }
+
+    @Test
+    @DisplayName("pass only the name and the package of a file to the filter")
+    void filterByHeader() {
+        List<FileDescriptorProto> headers = newArrayList();
+        FileDescriptorSetReader.of(descriptorSet)
+                               .filter(headers::add)
+                               .read();
+        assertThat(headers).containsExactly(header(googleFile), header(spineFile))
+                           .inOrder();
+    }
+
+    @Test
+    @DisplayName("skip the files rejected by the filter")
+    void filter() {
+        List<FileDescriptorProto> files =
+                FileDescriptorSetReader.of(descriptorSet)
+                                       .filter(file -> !file.getPackage()
+                                                            .startsWith("google"))
+                                       .read();
+        assertThat(files).containsExactly(spineFile);
+    }
+
+    @Test
+    @DisplayName("drop source code info if requested")
+    void skipSourceInfo() {
+        List<FileDescriptorProto> files = FileDescriptorSetReader.of(descriptorSet)
+                                                                 .skipSourceInfo()
+                                                                 .read();
+        assertThat(files).containsExactly(withoutSourceInfo(googleFile),
+                                          withoutSourceInfo(spineFile))
+                         .inOrder();
+        assertTrue(spineFile.hasSourceCodeInfo());
+    }
+
+    @Test
+    @DisplayName("read files into a descriptor set")
+    void readSet() {
+        FileDescriptorSet set = FileDescriptorSetReader.of(descriptorSet)
+                                                       .readSet();
+        assertThat(set.getFileList()).containsExactly(googleFile, spineFile);
+    }
+
+    @Test
+    @DisplayName("read a file which is replaced afterwards into the heap")
+    void inHeap() throws IOException {
+        List<FileDescriptorProto> files = FileDescriptorSetReader.of(descriptorSet)
+                                                                 .inHeap()
+                                                                 .read();
+        Files.delete(descriptorSet);
+        assertThat(files).containsExactly(googleFile, spineFile)
+                         .inOrder();
+    }
+
+    @Test
+    @DisplayName("throw ISE if the file cannot be read")
+    void missingFile() {
+        Path missing = descriptorSet.resolveSibling("missing.desc");
+        FileDescriptorSetReader reader = FileDescriptorSetReader.of(missing);
+        assertThrows(IllegalStateException.class, reader::read);
+    }
+
+    private static FileDescriptorProto header(FileDescriptorProto file) {
+        return FileDescriptorProto
+                .newBuilder()
+                .setName(file.getName())
+                .setPackage(file.getPackage())
+                .build();
+    }
+
+    private static FileDescriptorProto withoutSourceInfo(FileDescriptorProto file) {
+        return file.toBuilder()
+                   .clearSourceCodeInfo()
+                   .build();
+    }
+
+    private static FileDescriptorProto file(String name, String pkg) {
+        Location comment = Location
+                .newBuilder()
+                .addPath(FileDescriptorProto.MESSAGE_TYPE_FIELD_NUMBER)
+                .addPath(0)
+                .setLeadingComments(" A test message.")
+                .build();
+        FileDescriptorProto result = FileDescriptorProto
+                .newBuilder()
+                .setName(name)
+                .setPackage(pkg)
+                .addMessageType(DescriptorProto.newBuilder()
+                                               .setName("Message"))
+                .setSourceCodeInfo(SourceCodeInfo.newBuilder()
+                                                 .addLocation(comment))
+                .setSyntax("proto3")
+                .build();
+        return result;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Timestamp;
+import io.spine.option.EntityOption;
+import io.spine.type.TypeName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LazyTypeSet should")
+class LazyTypeSetTest {
+
+    private static final FileName ANY_PROTO = FileName.of("google/protobuf/any.proto");
+    private static final FileName TIMESTAMP_PROTO = FileName.of("google/protobuf/timestamp.proto");
+    private static final FileName DESCRIPTOR_PROTO =
+            FileName.of("google/protobuf/descriptor.proto");
+    private static final FileName OPTIONS_PROTO = FileName.of("spine/options.proto");
+
+    private LazyTypeSet typeSet;
+
+    @BeforeEach
+    void setUp() {
+        typeSet = LazyTypeSet.load();
+    }
+
+    @Test
+    @DisplayName("tell if it contains a type without linking files")
+    void containWithoutLinking() {
+        assertTrue(typeSet.contains(TypeName.of(Timestamp.class)));
+        assertTrue(typeSet.contains(TypeName.of(EntityOption.Kind.getDescriptor()
+                                                                 .getFullName())));
+        assertFalse(typeSet.contains(TypeName.of("unknown.Type")));
+
+        assertFalse(typeSet.isLinked(TIMESTAMP_PROTO));
+        assertFalse(typeSet.isLinked(OPTIONS_PROTO));
+    }
+
+    @Test
+    @DisplayName("link only the file declaring a requested type")
+    void linkRequested() {
+        Optional<Type<?, ?>> found = typeSet.find(TypeName.of(Timestamp.class));
+
+        assertTrue(found.isPresent());
+        assertEquals(Timestamp.getDescriptor()
+                              .getFullName(),
+                     found.get()
+                          .descriptor()
+                          .getFullName());
+        assertTrue(typeSet.isLinked(TIMESTAMP_PROTO));
+        assertFalse(typeSet.isLinked(ANY_PROTO));
+    }
+
+    @Test
+    @DisplayName("link the dependencies of the file declaring a requested type")
+    void linkDependencies() {
+        Optional<Type<?, ?>> found = typeSet.find(TypeName.of(EntityOption.class));
+
+        assertTrue(found.isPresent());
+        assertTrue(typeSet.isLinked(OPTIONS_PROTO));
+        assertTrue(typeSet.isLinked(DESCRIPTOR_PROTO));
+        assertFalse(typeSet.isLinked(ANY_PROTO));
+    }
+
+    @Test
+    @DisplayName("not find unknown types")
+    void notFindUnknown() {
+        assertFalse(typeSet.find(TypeName.of("unknown.Type"))
+                           .isPresent());
+    }
+
+    @Test
+    @DisplayName("contain the same types as an eagerly linked set")
+    void sameAsEager() {
+        TypeSet eager = TypeSet.messagesAndEnums(FileSet.load());
+        TypeSet lazy = typeSet.all();
+
+        assertEquals(eager.size(), lazy.size());
+        for (Type<?, ?> type : eager.types()) {
+            assertTrue(typeSet.contains(type.name()), type.name()
+                                                          .value());
+        }
+        assertTrue(typeSet.isLinked(ANY_PROTO));
+        assertTrue(lazy.find(TypeName.of(Any.class))
+                       .isPresent());
+    }
+
+    @Test
+    @DisplayName("fail on a cycle of dependencies")
+    void failOnCycle() {
+        LazyTypeSet cyclic = LazyTypeSet.of(ImmutableList.of(
+                file("given/first.proto", "First", "given/second.proto"),
+                file("given/second.proto", "Second", "given/first.proto")
+        ));
+        TypeName first = TypeName.of("given.First");
+
+        assertTrue(cyclic.contains(first));
+        assertThrows(IllegalStateException.class, () -> cyclic.find(first));
+    }
+
+    @Test
+    @DisplayName("fail on a file importing itself")
+    void failOnSelfImport() {
+        LazyTypeSet selfImporting = LazyTypeSet.of(ImmutableList.of(
+                file("given/self.proto", "Self", "given/self.proto")
+        ));
+
+        assertThrows(IllegalStateException.class,
+                     () -> selfImporting.find(TypeName.of("given.Self")));
+    }
+
+    private static FileDescriptorProto file(String name, String messageName, String dependency) {
+        return FileDescriptorProto
+                .newBuilder()
+                .setName(name)
+                .setPackage("given")
+                .setSyntax("proto3")
+                .addDependency(dependency)
+                .addMessageType(DescriptorProto.newBuilder()
+                                               .setName(messageName))
+                .build();
+    }
+}
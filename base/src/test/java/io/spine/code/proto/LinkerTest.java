@@ -23,12 +23,17 @@ package io.spine.code.proto;
 import com.google.common.collect.ImmutableList;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.List;
 
+import static com.google.common.collect.Lists.newArrayList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -79,4 +84,89 @@ class LinkerTest {
         assertTrue(linker.getRemaining()
                          .isEmpty());
     }
+
+    @Nested
+    @DisplayName("link files")
+    class LinkFiles {
+
+        @Test
+        @DisplayName("with missing dependencies as partially resolved")
+        void partial() throws DescriptorValidationException {
+            Linker linker = resolve(file("a.proto"),
+                                    file("b.proto", "a.proto", "missing.proto"),
+                                    file("c.proto", "b.proto"));
+
+            assertTrue(linker.getResolved()
+                             .contains(FileName.of("a.proto")));
+            assertTrue(linker.getPartiallyResolved()
+                             .containsAll(ImmutableList.of(FileName.of("b.proto"),
+                                                           FileName.of("c.proto"))));
+            assertTrue(linker.getUnresolved()
+                             .isEmpty());
+        }
+
+        @Test
+        @DisplayName("with cyclic dependencies as unresolved")
+        void unresolved() throws DescriptorValidationException {
+            Linker linker = resolve(file("a.proto", "b.proto"),
+                                    file("b.proto", "a.proto"),
+                                    file("c.proto", "a.proto"),
+                                    file("d.proto"));
+
+            assertEquals(1, linker.getResolved()
+                                  .size());
+            assertTrue(linker.getUnresolved()
+                             .containsAll(ImmutableList.of(FileName.of("a.proto"),
+                                                           FileName.of("b.proto"),
+                                                           FileName.of("c.proto"))));
+            assertTrue(linker.getRemaining()
+                             .isEmpty());
+        }
+
+        @Test
+        @DisplayName("of a large schema")
+        void largeSchema() throws DescriptorValidationException {
+            int size = 2_000;
+            List<FileDescriptorProto> files = newArrayList();
+            files.add(file(name(0)));
+            for (int i = 1; i < size; i++) {
+                int first = i / 2;
+                int second = i / 3;
+                FileDescriptorProto file = first == second
+                                           ? file(name(i), name(first))
+                                           : file(name(i), name(first), name(second));
+                files.add(file);
+            }
+            Linker linker = new Linker(files);
+            linker.resolve();
+
+            assertEquals(size, linker.getResolved()
+                                     .size());
+            FileDescriptor last = linker.getResolved()
+                                        .tryFind(FileName.of(name(size - 1)))
+                                        .orElseThrow(IllegalStateException::new);
+            assertEquals(2, last.getDependencies()
+                                .size());
+        }
+
+        private String name(int index) {
+            return "file" + index + ".proto";
+        }
+
+        private Linker resolve(FileDescriptorProto... files)
+                throws DescriptorValidationException {
+            Linker linker = new Linker(ImmutableList.copyOf(files));
+            linker.resolve();
+            return linker;
+        }
+
+        private FileDescriptorProto file(String name, String... dependencies) {
+            FileDescriptorProto result = FileDescriptorProto
+                    .newBuilder()
+                    .setName(name)
+                    .addAllDependency(ImmutableList.copyOf(dependencies))
+                    .build();
+            return result;
+        }
+    }
 }
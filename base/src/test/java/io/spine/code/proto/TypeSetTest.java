@@ -20,10 +20,13 @@
 
 package io.spine.code.proto;
 
+import com.google.protobuf.Any;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
 import com.google.protobuf.Descriptors.FileDescriptor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 @DisplayName("TypeSet should")
@@ -47,4 +50,18 @@ class TypeSetTest {
         assertFalse(TypeSet.messagesAndEnums(fileSet)
                            .isEmpty());
     }
+
+    @Test
+    @DisplayName("build a set of all the types of other sets")
+    void addAll() {
+        TypeSet messages = MessageType.allFrom(Any.getDescriptor()
+                                                  .getFile());
+        TypeSet enums = EnumType.allFrom(DescriptorProto.getDescriptor()
+                                                        .getFile());
+        TypeSet result = TypeSet.newBuilder()
+                                .addAll(messages)
+                                .addAll(enums)
+                                .build();
+        assertEquals(messages.union(enums), result);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LogLimits should")
+class LogLimitsTest {
+
+    @Test
+    @DisplayName("allow a key only once per class")
+    void oncePerKey() {
+        Object key = "once";
+        assertTrue(LogLimits.firstTime(LogLimitsTest.class, key));
+        assertFalse(LogLimits.firstTime(LogLimitsTest.class, key));
+        assertTrue(LogLimits.firstTime(String.class, key));
+    }
+
+    @Test
+    @DisplayName("allow every n-th attempt starting from the first")
+    void everyNth() {
+        Supplier<String> msg = () -> "sampled";
+        LogLimits limits = LogLimits.of(msg);
+        assertTrue(limits.allowsEvery(3));
+        assertFalse(limits.allowsEvery(3));
+        assertFalse(limits.allowsEvery(3));
+        assertTrue(limits.allowsEvery(3));
+    }
+
+    @Test
+    @DisplayName("allow the first attempt and then none within the period")
+    void oncePerPeriod() {
+        Supplier<String> msg = () -> "rate-limited";
+        LogLimits limits = LogLimits.of(msg);
+        Duration period = Duration.ofHours(1);
+        assertTrue(limits.allowsAfter(period));
+        assertFalse(limits.allowsAfter(period));
+    }
+
+    @Test
+    @DisplayName("not allow non-positive sampling rate")
+    void positiveRate() {
+        Supplier<String> msg = () -> "invalid";
+        assertThrows(IllegalArgumentException.class, () -> LogLimits.of(msg)
+                                                                    .allowsEvery(0));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static java.lang.String.format;
+
+@DisplayName("AddressSyntax should")
+class AddressSyntaxTest {
+
+    /** The number of random values checked by each differential test. */
+    private static final int SAMPLES = 20_000;
+
+    /**
+     * Parts from which random values are composed.
+     */
+    private static final ImmutableList<String> PARTS = ImmutableList.of(
+            "a", "Z", "0", "9", "5", "-", ".", "..", "_", "%", "+", "@", " ",
+            "xn--", "xn", "XN--", "com", "io", "a-b", "-a", "a-", "255", "256", "099", "00",
+            "\u00e9", "\u00a0", "\u2002", "\u3000", "\u3001", "\u2028", "\uf900", "\ufdd0",
+            "\uffff", "\ud83d\ude00", "\ud800", "\udb40\udc01"
+    );
+
+    private final Random random = new Random(42);
+
+    @Nested
+    @DisplayName("accept the same values as")
+    class SameAs {
+
+        @Test
+        @DisplayName("`EMAIL_ADDRESS` pattern")
+        void email() {
+            assertSame(Patterns.EMAIL_ADDRESS, AddressSyntax::isEmailAddress,
+                       AddressSyntaxTest.this::randomEmail);
+            assertSame(Patterns.EMAIL_ADDRESS, AddressSyntax::isEmailAddress,
+                       AddressSyntaxTest.this::randomValue);
+        }
+
+        @Test
+        @DisplayName("`HOST_NAME_PATTERN`")
+        void hostName() {
+            assertSame(Patterns.HOST_NAME_PATTERN, AddressSyntax::isHostName,
+                       AddressSyntaxTest.this::randomValue);
+        }
+
+        @Test
+        @DisplayName("`IP_ADDRESS` pattern")
+        void ipAddress() {
+            assertSame(Patterns.IP_ADDRESS, AddressSyntax::isIpAddress,
+                       AddressSyntaxTest.this::randomIpAddress);
+        }
+
+        @Test
+        @DisplayName("`DOMAIN_NAME` pattern")
+        void domainName() {
+            assertSame(Patterns.DOMAIN_NAME, AddressSyntax::isDomainName,
+                       AddressSyntaxTest.this::randomValue);
+            assertSame(Patterns.DOMAIN_NAME, AddressSyntax::isDomainName,
+                       AddressSyntaxTest.this::randomIpAddress);
+        }
+
+        private void assertSame(Pattern pattern,
+                                Predicate<CharSequence> syntax,
+                                Supplier<String> values) {
+            for (int i = 0; i < SAMPLES; i++) {
+                String value = values.get();
+                boolean expected = pattern.matcher(value)
+                                          .matches();
+                assertWithMessage(format("Value `%s`", value))
+                        .that(syntax.test(value))
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("reject host names with non-ASCII spaces")
+    void spaces() {
+        assertThat(AddressSyntax.isHostName("spine.io")).isTrue();
+        assertThat(AddressSyntax.isHostName("spine\u2002.io")).isFalse();
+        assertThat(AddressSyntax.isHostName("spine.\u3000io")).isFalse();
+    }
+
+    @Test
+    @DisplayName("count lengths of host name labels in code points")
+    void codePoints() {
+        StringBuilder label = new StringBuilder();
+        for (int i = 0; i < 63; i++) {
+            label.append("\ud83d\ude00");
+        }
+        assertThat(AddressSyntax.isHostName(label + ".io")).isTrue();
+        assertThat(AddressSyntax.isHostName(label + "a.io")).isFalse();
+    }
+
+    private String randomValue() {
+        StringBuilder result = new StringBuilder();
+        int count = random.nextInt(12);
+        for (int i = 0; i < count; i++) {
+            result.append(PARTS.get(random.nextInt(PARTS.size())));
+        }
+        return result.toString();
+    }
+
+    private String randomEmail() {
+        StringBuilder result = new StringBuilder();
+        appendRandom(result, "a.+_%-", random.nextInt(5));
+        result.append('@');
+        int labels = 1 + random.nextInt(3);
+        for (int i = 0; i < labels; i++) {
+            if (i > 0) {
+                result.append('.');
+            }
+            int maxLength = i == 0 ? 70 : 30;
+            appendRandom(result, "ab9-", random.nextInt(maxLength));
+        }
+        return result.toString();
+    }
+
+    private void appendRandom(StringBuilder builder, String chars, int count) {
+        for (int i = 0; i < count; i++) {
+            builder.append(chars.charAt(random.nextInt(chars.length())));
+        }
+    }
+
+    private String randomIpAddress() {
+        StringBuilder result = new StringBuilder();
+        int octets = 3 + random.nextInt(3);
+        for (int i = 0; i < octets; i++) {
+            if (i > 0) {
+                result.append('.');
+            }
+            int value = random.nextInt(300);
+            String octet = random.nextInt(4) == 0
+                           ? format("%03d", value)
+                           : String.valueOf(value);
+            result.append(octet);
+        }
+        return result.toString();
+    }
+}
@@ -20,10 +20,14 @@
 
 package io.spine.net;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.NullPointerTester;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+
 import static com.google.common.truth.Truth.assertThat;
 
 @DisplayName("Urls utility class should")
@@ -33,6 +37,11 @@ class UrlsTest extends UtilityClassTest<Urls> {
         super(Urls.class);
     }
 
+    @Override
+    protected void configure(NullPointerTester tester) {
+        tester.setDefault(Uri.class, Uri.getDefaultInstance());
+    }
+
     @Test
     @DisplayName("create new instances")
     void create() {
@@ -50,4 +59,29 @@ class UrlsTest extends UtilityClassTest<Urls> {
         Url url = Urls.create(expected);
         assertThat(Urls.toString(url)).isEqualTo(expected);
     }
+
+    @Test
+    @DisplayName("parse several URLs")
+    void parseAll() {
+        ImmutableList<String> urls = ImmutableList.of("spine.io", "http://teamdev.com");
+
+        ImmutableList<Uri> parsed = Urls.parseAll(urls);
+
+        assertThat(parsed).hasSize(2);
+        assertThat(parsed.get(0)
+                         .getHost()).isEqualTo("spine.io");
+        assertThat(parsed.get(1)
+                         .getHost()).isEqualTo("teamdev.com");
+    }
+
+    @Test
+    @DisplayName("print parsed URLs to an Appendable")
+    void print() throws IOException {
+        String spec = "http://admin@spine.io:80/index?key=value#frag";
+        StringBuilder out = new StringBuilder("URL: ");
+
+        Urls.print(Urls.parse(spec), out);
+
+        assertThat(out.toString()).isEqualTo("URL: " + spec);
+    }
 }
@@ -20,6 +20,7 @@
 
 package io.spine.protobuf;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.protobuf.Any;
 import com.google.protobuf.Message;
@@ -31,19 +32,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static io.spine.base.Identifier.newUuid;
+import static io.spine.protobuf.AnyPacker.enclosing;
 import static io.spine.protobuf.AnyPacker.pack;
 import static io.spine.protobuf.AnyPacker.unpack;
+import static io.spine.protobuf.AnyPacker.unpackAll;
 import static io.spine.protobuf.AnyPacker.unpackFunc;
 import static io.spine.testing.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.testing.TestValues.newUuidValue;
 import static io.spine.testing.Tests.assertHasPrivateParameterlessCtor;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("AnyPacker utility class should")
 class AnyPackerTest {
@@ -145,4 +153,36 @@ class AnyPackerTest {
 
         assertEquals(value, unpackFunc().apply(Any.pack(value)));
     }
+
+    @Test
+    @DisplayName("filter Any by the enclosed type")
+    void filter_by_enclosed_type() {
+        Any spineAny = pack(spineMsg);
+        Any googleAny = pack(googleMsg);
+
+        assertTrue(enclosing(MessageToPack.class).test(spineAny));
+        assertFalse(enclosing(MessageToPack.class).test(googleAny));
+        assertTrue(enclosing(TypeUrl.of(googleMsg)).test(googleAny));
+    }
+
+    @Test
+    @DisplayName("filter Any by the enclosed type regardless of the type URL prefix")
+    void filter_ignoring_prefix() {
+        Any foreignAny = Any.pack(spineMsg);
+
+        assertTrue(enclosing(MessageToPack.class).test(foreignAny));
+        assertFalse(enclosing(StringValue.class).test(foreignAny));
+        assertEquals(ImmutableList.of(spineMsg),
+                     unpackAll(Stream.of(foreignAny), MessageToPack.class).collect(toList()));
+    }
+
+    @Test
+    @DisplayName("unpack only Any of the given type")
+    void unpack_only_given_type() {
+        Stream<Any> stream = Stream.of(pack(spineMsg), pack(googleMsg), pack(spineMsg));
+
+        List<MessageToPack> unpacked = unpackAll(stream, MessageToPack.class).collect(toList());
+
+        assertEquals(ImmutableList.of(spineMsg, spineMsg), unpacked);
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.StringValue;
+import io.spine.test.protobuf.MessageToPack;
+import io.spine.type.TypeUrl;
+import io.spine.type.UnexpectedTypeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.testing.TestValues.newUuidValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LazyAny should")
+class LazyAnyTest {
+
+    private final MessageToPack message = MessageToPack.newBuilder()
+                                                       .setValue(newUuidValue())
+                                                       .build();
+    private final Any any = AnyPacker.pack(message);
+
+    @Test
+    @DisplayName("expose the type URL and the value without unpacking")
+    void exposeTypeAndValue() {
+        LazyAny lazy = LazyAny.of(any);
+
+        assertEquals(TypeUrl.of(message), lazy.typeUrl());
+        assertEquals(any.getValue(), lazy.value());
+        assertSame(any, lazy.any());
+        assertFalse(lazy.isUnpacked());
+    }
+
+    @Test
+    @DisplayName("check the type without unpacking")
+    void checkType() {
+        LazyAny lazy = LazyAny.of(any);
+
+        assertTrue(lazy.is(MessageToPack.class));
+        assertTrue(lazy.is(TypeUrl.of(message)));
+        assertFalse(lazy.is(StringValue.class));
+        assertFalse(lazy.isUnpacked());
+    }
+
+    @Test
+    @DisplayName("check the type regardless of the type URL prefix")
+    void checkTypeIgnoringPrefix() {
+        LazyAny lazy = LazyAny.of(Any.pack(message));
+
+        assertTrue(lazy.is(MessageToPack.class));
+        assertTrue(lazy.is(TypeUrl.of(message)));
+        assertFalse(lazy.is(StringValue.class));
+    }
+
+    @Test
+    @DisplayName("unpack the message once")
+    void unpackOnce() {
+        LazyAny lazy = LazyAny.of(any);
+
+        MessageToPack unpacked = lazy.unpack(MessageToPack.class);
+
+        assertEquals(message, unpacked);
+        assertTrue(lazy.isUnpacked());
+        assertSame(unpacked, lazy.unpack());
+        assertSame(unpacked, lazy.unpack(MessageToPack.class));
+    }
+
+    @Test
+    @DisplayName("keep the packed message")
+    void keepPacked() {
+        LazyAny lazy = LazyAny.pack(message);
+
+        assertEquals(any, lazy.any());
+        assertSame(message, lazy.unpack());
+    }
+
+    @Test
+    @DisplayName("not unpack into another type")
+    void notUnpackOtherType() {
+        LazyAny lazy = LazyAny.of(any);
+
+        assertThrows(UnexpectedTypeException.class, () -> lazy.unpack(StringValue.class));
+    }
+
+    @Test
+    @DisplayName("be equal to another instance wrapping the same Any")
+    void equality() {
+        LazyAny unpacked = LazyAny.of(any);
+        unpacked.unpack();
+
+        assertEquals(LazyAny.of(any), unpacked);
+        assertEquals(LazyAny.of(any)
+                            .hashCode(), unpacked.hashCode());
+        assertFalse(LazyAny.of(AnyPacker.pack(StringValue.of(newUuid())))
+                           .equals(unpacked));
+    }
+}
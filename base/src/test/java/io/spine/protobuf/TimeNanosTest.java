@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TimeNanos should")
+class TimeNanosTest extends UtilityClassTest<TimeNanos> {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    TimeNanosTest() {
+        super(TimeNanos.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester nullTester) {
+        nullTester.setDefault(Timestamp.class, Time.getCurrentTime())
+                  .setDefault(Duration.class, Durations2.ZERO);
+    }
+
+    @Nested
+    @DisplayName("convert")
+    class Convert {
+
+        @Test
+        @DisplayName("timestamps to nanoseconds and back")
+        void timestamps() {
+            Timestamp now = Time.getCurrentTime();
+            long nanos = TimeNanos.of(now);
+
+            assertEquals(Timestamps.toNanos(now), nanos);
+            assertEquals(now, TimeNanos.toTimestamp(nanos));
+        }
+
+        @Test
+        @DisplayName("timestamps before the epoch")
+        void beforeEpoch() {
+            long nanos = -SECOND / 2;
+            Timestamp timestamp = TimeNanos.toTimestamp(nanos);
+
+            assertEquals(-1, timestamp.getSeconds());
+            assertEquals(SECOND / 2, timestamp.getNanos());
+            assertEquals(nanos, TimeNanos.of(timestamp));
+        }
+
+        @Test
+        @DisplayName("the earliest representable timestamp")
+        void minValue() {
+            Timestamp timestamp = TimeNanos.toTimestamp(Long.MIN_VALUE);
+            assertEquals(Long.MIN_VALUE, TimeNanos.of(timestamp));
+        }
+
+        @Test
+        @DisplayName("negative durations")
+        void durations() {
+            Duration duration = Durations.fromNanos(-3 * SECOND / 2);
+            long nanos = TimeNanos.of(duration);
+
+            assertEquals(-3 * SECOND / 2, nanos);
+            assertEquals(duration, TimeNanos.toDuration(nanos));
+        }
+    }
+
+    @Test
+    @DisplayName("fail on overflow")
+    void overflow() {
+        Timestamp farFuture = Timestamp
+                .newBuilder()
+                .setSeconds(Long.MAX_VALUE / SECOND + 1)
+                .build();
+        assertThrows(ArithmeticException.class, () -> TimeNanos.of(farFuture));
+        assertThrows(ArithmeticException.class, () -> TimeNanos.add(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    @DisplayName("truncate to a unit")
+    void truncate() {
+        assertEquals(SECOND, TimeNanos.truncate(SECOND + 42, SECOND));
+        assertEquals(-SECOND, TimeNanos.truncate(-42, SECOND));
+        assertEquals(Long.MIN_VALUE, TimeNanos.truncate(Long.MIN_VALUE, 2));
+        assertThrows(ArithmeticException.class, () -> TimeNanos.truncate(Long.MIN_VALUE, 3));
+    }
+
+    @Test
+    @DisplayName("obtain the index of a time window")
+    void bucket() {
+        long minute = 60 * SECOND;
+        assertEquals(0, TimeNanos.bucket(minute - 1, minute));
+        assertEquals(-1, TimeNanos.bucket(-1, minute));
+        assertEquals(2, TimeNanos.bucket(3 * minute, minute / 2, minute));
+    }
+
+    @Test
+    @DisplayName("not accept non-positive units")
+    void positiveUnit() {
+        assertThrows(IllegalArgumentException.class, () -> TimeNanos.bucket(1, 0));
+    }
+
+    @Test
+    @DisplayName("sort timestamps chronologically")
+    void sort() {
+        Timestamp now = Time.getCurrentTime();
+        Timestamp earlier = Timestamps.subtract(now, Durations.fromNanos(1));
+        Timestamp later = Timestamps.add(now, Durations2.seconds(1));
+        List<Timestamp> timestamps = new ArrayList<>();
+        timestamps.add(later);
+        timestamps.add(now);
+        timestamps.add(earlier);
+
+        timestamps.sort(Timestamps2.comparator());
+
+        assertThat(timestamps).containsExactly(earlier, now, later)
+                              .inOrder();
+    }
+}
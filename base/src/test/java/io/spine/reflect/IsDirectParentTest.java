@@ -1,79 +0,0 @@
-/*
- * Copyright 2019, TeamDev. All rights reserved.
- *
- * Redistribution and use in source and/or binary forms, with or without
- * modification, must retain the above copyright notice and the following
- * disclaimer.
- *
- * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
- * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
- * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
- * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
- * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
- * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
- * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
- * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
- * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
- * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
- * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
- */
-
-package io.spine.reflect;
-
-import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
-
-import java.lang.annotation.Annotation;
-import java.util.Collection;
-import java.util.concurrent.Callable;
-import java.util.concurrent.locks.Lock;
-import java.util.function.Predicate;
-
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-
-@DisplayName("IsDirectParent predicate should")
-class IsDirectParentTest {
-
-    private static void assertDirectParent(Package parentCandidate, Package child) {
-        assertTrue(IsDirectParent.of(child)
-                                 .test(parentCandidate));
-    }
-
-    private static void assertNotDirectParent(Package parentCandidate, Package child) {
-        assertFalse(IsDirectParent.of(child)
-                                 .test(parentCandidate));
-    }
-
-    @Test
-    @DisplayName("accept direct parent package")
-    void directParent() {
-        Package javaUtilFunction = Predicate.class.getPackage();
-        Package javaUtil = Collection.class.getPackage();
-        assertDirectParent(javaUtil, javaUtilFunction);
-    }
-
-    @Test
-    @DisplayName("reject indirect parent package")
-    void rejectIndirectParent() {
-        Package javaUtilConcurrentLocks = Lock.class.getPackage();
-        Package javaUtil = Collection.class.getPackage();
-        assertNotDirectParent(javaUtil, javaUtilConcurrentLocks);
-    }
-
-    @Test
-    @DisplayName("reject sibling package")
-    void rejectSibling() {
-        Package javaUtilFunction = Predicate.class.getPackage();
-        Package javaUtilConcurrent = Callable.class.getPackage();
-        assertNotDirectParent(javaUtilConcurrent, javaUtilFunction);
-    }
-
-    @Test
-    @DisplayName("reject cousin package")
-    void rejectCousins() {
-        Package javaLangAnnotation = Annotation.class.getPackage();
-        Package javaUtilFunction = Predicate.class.getPackage();
-        assertNotDirectParent(javaUtilFunction, javaLangAnnotation);
-    }
-}
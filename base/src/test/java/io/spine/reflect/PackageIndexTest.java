@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.reflect;
+
+import com.google.common.collect.ImmutableList;
+import given.reflect.annotation.ValueAnnotation;
+import given.reflect.root.branch2.Branch2Class;
+import given.reflect.root.branch2.lorem.ipsum.Sub3Class;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+
+@DisplayName("PackageIndex should")
+class PackageIndexTest {
+
+    private final PackageIndex index = PackageIndex.instance();
+
+    @Test
+    @DisplayName("obtain known parents of a package starting from the outer most")
+    void parents() {
+        Package javaUtil = Collection.class.getPackage();
+        Package javaUtilConcurrent = Callable.class.getPackage();
+        Package atomic = AtomicLong.class.getPackage();
+
+        ImmutableList<Package> parents = index.parentsOf(atomic);
+
+        assertThat(parents).containsExactly(javaUtil, javaUtilConcurrent)
+                           .inOrder();
+    }
+
+    @Test
+    @DisplayName("not include the package itself or its nested packages")
+    void notSelf() {
+        Package javaUtil = Collection.class.getPackage();
+        Package javaUtilConcurrent = Callable.class.getPackage();
+
+        assertThat(index.parentsOf(javaUtil)).containsNoneOf(javaUtil, javaUtilConcurrent);
+    }
+
+    @Test
+    @DisplayName("find an annotation of the parent package and cache the result")
+    void findAnnotation() {
+        Package pkg = Sub3Class.class.getPackage();
+        // Make sure the annotated parent package is loaded.
+        assertThat(Branch2Class.class.getPackage()).isNotNull();
+
+        Optional<ValueAnnotation> found = index.findAnnotation(pkg, ValueAnnotation.class);
+        Optional<ValueAnnotation> cached = index.findAnnotation(pkg, ValueAnnotation.class);
+
+        assertThat(found.map(ValueAnnotation::value)).hasValue("Branch 2");
+        assertThat(cached.get()).isSameAs(found.get());
+    }
+}
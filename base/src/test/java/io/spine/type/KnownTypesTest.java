@@ -20,6 +20,8 @@
 
 package io.spine.type;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.truth.IterableSubject;
 import com.google.protobuf.Any;
@@ -47,6 +49,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -153,4 +156,50 @@ class KnownTypesTest {
                 () -> knownTypes.getClassName(unexpectedUrl)
         );
     }
+
+    @Test
+    @DisplayName("compute type URLs once")
+    void cacheUrls() {
+        assertSame(knownTypes.getAllUrls(), knownTypes.getAllUrls());
+    }
+
+    @Test
+    @DisplayName("obtain types of a package and its subpackages")
+    void typesFromParentPackage() {
+        TypeUrl task = TypeUrl.from(KnownTask.getDescriptor());
+
+        assertThat(knownTypes.getAllFromPackage("spine.test")).contains(task);
+        assertThat(knownTypes.getAllFromPackage("spine")).contains(task);
+    }
+
+    @Test
+    @DisplayName("resolve class names of several types preserving their order")
+    void resolveAll() {
+        TypeUrl task = TypeUrl.of(KnownTask.class);
+        TypeUrl any = TypeUrl.of(Any.class);
+        TypeUrl taskId = TypeUrl.of(KnownTaskId.class);
+
+        ImmutableMap<TypeUrl, ClassName> classNames =
+                knownTypes.resolveAll(ImmutableList.of(task, any, taskId));
+
+        assertThat(classNames.keySet())
+                .containsExactly(task, any, taskId)
+                .inOrder();
+        assertEquals(ClassName.of(KnownTask.class), classNames.get(task));
+        assertEquals(ClassName.of(Any.class), classNames.get(any));
+        assertEquals(ClassName.of(KnownTaskId.class), classNames.get(taskId));
+    }
+
+    @Test
+    @DisplayName("name all unknown types when resolving several types")
+    void throwOnUnknownTypes() {
+        TypeUrl first = TypeUrl.parse("prefix/unexpected.First");
+        TypeUrl second = TypeUrl.parse("prefix/unexpected.Second");
+        ImmutableList<TypeUrl> urls = ImmutableList.of(first, TypeUrl.of(Any.class), second);
+
+        UnknownTypeException exception =
+                assertThrows(UnknownTypeException.class, () -> knownTypes.resolveAll(urls));
+        assertThat(exception.getMessage()).contains(first.getTypeName());
+        assertThat(exception.getMessage()).contains(second.getTypeName());
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import io.spine.code.java.ClassName;
+import io.spine.code.proto.FileSet;
+import io.spine.code.proto.TypeSet;
+import io.spine.option.EntityOption;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TypeIndex should")
+class TypeIndexTest {
+
+    private static TypeSet types;
+    private static TypeIndex index;
+
+    @BeforeAll
+    static void createIndex() throws IOException {
+        types = TypeSet.messagesAndEnums(FileSet.load());
+        index = TypeIndex.read(new ByteArrayInputStream(write(TypeIndex.of(types))));
+    }
+
+    @Test
+    @DisplayName("contain all the indexed types")
+    void size() {
+        assertEquals(types.size(), index.size());
+    }
+
+    @Test
+    @DisplayName("obtain type URLs")
+    void urls() {
+        assertEquals(TypeUrl.of(Any.class), index.url(TypeName.of(Any.class))
+                                                 .get());
+        TypeUrl kindUrl = TypeUrl.from(EntityOption.Kind.getDescriptor());
+        assertEquals(kindUrl, index.url(kindUrl.toName())
+                                   .get());
+    }
+
+    @Test
+    @DisplayName("obtain Java class names")
+    void classNames() {
+        TypeName timestamp = TypeName.of(Timestamp.class);
+        assertEquals(ClassName.of(Timestamp.class), index.javaClassName(timestamp)
+                                                         .get());
+        TypeName kind = TypeUrl.from(EntityOption.Kind.getDescriptor())
+                               .toName();
+        assertEquals(ClassName.of(EntityOption.Kind.class), index.javaClassName(kind)
+                                                                 .get());
+    }
+
+    @Test
+    @DisplayName("not contain unknown types")
+    void unknown() {
+        TypeName unknown = TypeName.of("unknown.Type");
+        assertFalse(index.url(unknown)
+                         .isPresent());
+        assertFalse(index.javaClassName(unknown)
+                         .isPresent());
+    }
+
+    @Test
+    @DisplayName("produce the same file for the same types")
+    void deterministic() throws IOException {
+        assertArrayEquals(write(TypeIndex.of(types)), write(index));
+    }
+
+    @Test
+    @DisplayName("reject data of unknown format")
+    void unknownFormat() {
+        byte[] data = {1, 2, 3, 4, 0, 0, 0, 0};
+        assertThrows(IOException.class, () -> TypeIndex.read(new ByteArrayInputStream(data)));
+    }
+
+    private static byte[] write(TypeIndex index) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeTo(out);
+        return out.toByteArray();
+    }
+}
@@ -27,6 +27,7 @@ import com.google.common.truth.MapSubject;
 import com.google.protobuf.BoolValue;
 import com.google.protobuf.FloatValue;
 import com.google.protobuf.Int32Value;
+import com.google.protobuf.StringValue;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.UInt32Value;
 import com.google.protobuf.util.Timestamps;
@@ -35,6 +36,7 @@ import io.spine.base.Time;
 import io.spine.protobuf.Durations2;
 import io.spine.string.Stringifiers;
 import io.spine.validate.builders.StringValueVBuilder;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -47,9 +49,12 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.validate.AbstractValidatingBuilder.convertToList;
 import static io.spine.validate.AbstractValidatingBuilder.convertToMap;
+import static io.spine.validate.AbstractValidatingBuilder.exceedsDigits;
 import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("AbstractValidatingBuilder should")
 class AbstractValidatingBuilderTest {
@@ -198,4 +203,108 @@ class AbstractValidatingBuilderTest {
         assertThrows(ConversionException.class,
                      () -> builder.convert(notInt, Int32Value.class));
     }
+
+    @Nested
+    @DisplayName("track changes and")
+    class TrackChanges {
+
+        private StringValueVBuilder builder;
+
+        @BeforeEach
+        void setUp() {
+            builder = StringValueVBuilder.newBuilder();
+        }
+
+        @Test
+        @DisplayName("not be dirty if nothing changed")
+        void notDirty() {
+            assertFalse(builder.isDirty());
+
+            builder.setOriginalState(StringValue.of("original"));
+            assertFalse(builder.isDirty());
+        }
+
+        @Test
+        @DisplayName("be dirty if a field is changed")
+        void dirty() {
+            builder.setValue("changed");
+            assertTrue(builder.isDirty());
+        }
+
+        @Test
+        @DisplayName("not be dirty if a field is set to its original value")
+        void sameValue() {
+            String value = "same";
+            builder.setOriginalState(StringValue.of(value));
+            builder.setValue(value);
+            assertFalse(builder.isDirty());
+        }
+
+        @Test
+        @DisplayName("reset changes on `clear()`")
+        void clear() {
+            builder.setValue("to be cleared");
+            builder.clear();
+            assertFalse(builder.isDirty());
+        }
+
+        @Test
+        @DisplayName("build messages after previous successful builds")
+        void rebuild() {
+            StringValue first = builder.setValue("first")
+                                       .build();
+            StringValue second = builder.setValue("second")
+                                        .build();
+            assertEquals("first", first.getValue());
+            assertEquals("second", second.getValue());
+            assertEquals(second, builder.build());
+        }
+    }
+
+    @Nested
+    @DisplayName("count digits of")
+    class CountDigits {
+
+        @Test
+        @DisplayName("fractional numbers")
+        void fractional() {
+            assertFalse(exceedsDigits(12345.67, 5, 2));
+            assertFalse(exceedsDigits(-12345.67, 5, 2));
+            assertTrue(exceedsDigits(123456.7, 5, 2));
+            assertTrue(exceedsDigits(1.234, 5, 2));
+        }
+
+        @Test
+        @DisplayName("integral numbers")
+        void integral() {
+            assertFalse(exceedsDigits(12345.0, 5, 2));
+            assertTrue(exceedsDigits(123456.0, 5, 2));
+            assertFalse(exceedsDigits(100.0f, 3, 1));
+        }
+
+        @Test
+        @DisplayName("numbers in the scientific notation")
+        void scientific() {
+            assertTrue(exceedsDigits(1.2345678E7, 5, 2));
+            assertTrue(exceedsDigits(1.0E7, 5, 2));
+            assertTrue(exceedsDigits(0.001, 5, 2));
+            assertFalse(exceedsDigits(0.001, 5, 3));
+            assertTrue(exceedsDigits(1.0E-4f, 5, 3));
+        }
+
+        @Test
+        @DisplayName("floats without the widening artifacts")
+        void floats() {
+            assertFalse(exceedsDigits(0.1f, 1, 1));
+            assertFalse(exceedsDigits(-99.99f, 2, 2));
+        }
+
+        @Test
+        @DisplayName("special values")
+        void special() {
+            assertFalse(exceedsDigits(Double.NaN, 1, 1));
+            assertTrue(exceedsDigits(Double.POSITIVE_INFINITY, 5, 2));
+            assertTrue(exceedsDigits(Float.NEGATIVE_INFINITY, 5, 2));
+        }
+    }
 }
@@ -38,8 +38,15 @@ public final class StringValueVBuilder
         return new StringValueVBuilder();
     }
 
+    @Override
+    protected boolean tracksChanges() {
+        return true;
+    }
+
     @CanIgnoreReturnValue
     public StringValueVBuilder setValue(String value) {
+        markChanged(StringValue.getDescriptor()
+                               .findFieldByNumber(StringValue.VALUE_FIELD_NUMBER));
         getMessageBuilder().setValue(value);
         return this;
     }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protodoc;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.getLastModifiedTime;
+
+/**
+ * The source files formatted by a previous run of the {@link ProtoJavadocPlugin}.
+ *
+ * <p>For each formatted file, the time of its last modification, its size and the hash of its
+ * content are remembered. A file is considered formatted if it has neither been modified nor
+ * resized since, or if it has the same content as after the formatting.
+ *
+ * <p>The state is stored in a properties file between the runs. Only the files
+ * {@linkplain #isFormatted(Path) checked} or {@linkplain #record(Path) recorded} during
+ * the current run are stored.
+ *
+ * <p>The instances of this class are safe for use from several threads.
+ */
+final class FormattedFiles {
+
+    private static final HashFunction hashing = Hashing.sha256();
+    private static final char SEPARATOR = ':';
+
+    private final Path stateFile;
+    private final Path rootDir;
+    private final Properties previous;
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+
+    private FormattedFiles(Path stateFile, Path rootDir, Properties previous) {
+        this.stateFile = stateFile;
+        this.rootDir = rootDir;
+        this.previous = previous;
+    }
+
+    /**
+     * Loads the formatted files of the given directory from the state file.
+     *
+     * <p>If the state file does not exist, no files are considered formatted.
+     *
+     * @param stateFile
+     *         the file storing the state between the runs
+     * @param rootDir
+     *         the directory with the formatted files
+     */
+    static FormattedFiles load(Path stateFile, Path rootDir) throws IOException {
+        checkNotNull(stateFile);
+        checkNotNull(rootDir);
+        Properties properties = new Properties();
+        if (exists(stateFile)) {
+            try (InputStream in = Files.newInputStream(stateFile)) {
+                properties.load(in);
+            }
+        }
+        return new FormattedFiles(stateFile, rootDir, properties);
+    }
+
+    /**
+     * Checks if the file has been formatted and has not changed since.
+     *
+     * <p>Reads the file only if its modification time or size has changed.
+     */
+    boolean isFormatted(Path file) throws IOException {
+        String key = keyOf(file);
+        String entry = previous.getProperty(key);
+        if (entry == null) {
+            return false;
+        }
+        int separator = entry.lastIndexOf(SEPARATOR);
+        String stamp = entry.substring(0, separator);
+        String hash = entry.substring(separator + 1);
+        String currentStamp = stampOf(file);
+        if (stamp.equals(currentStamp)) {
+            current.put(key, entry);
+            return true;
+        }
+        if (hash.equals(hashOf(file))) {
+            current.put(key, currentStamp + SEPARATOR + hash);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remembers the current state of the formatted file.
+     */
+    void record(Path file) throws IOException {
+        String entry = stampOf(file) + SEPARATOR + hashOf(file);
+        current.put(keyOf(file), entry);
+    }
+
+    /**
+     * Writes the state into the state file.
+     */
+    void store() throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(current);
+        Files.createDirectories(stateFile.getParent());
+        try (OutputStream out = Files.newOutputStream(stateFile)) {
+            properties.store(out, null);
+        }
+    }
+
+    private String keyOf(Path file) {
+        return rootDir.relativize(file)
+                      .toString();
+    }
+
+    /**
+     * Obtains the time of the last modification and the size of the file.
+     */
+    private static String stampOf(Path file) throws IOException {
+        long millis = getLastModifiedTime(file).toMillis();
+        long size = Files.size(file);
+        return millis + "/" + size;
+    }
+
+    private static String hashOf(Path file) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        return hashing.hashBytes(content)
+                      .toString();
+    }
+}
@@ -21,30 +21,30 @@
 package io.spine.tools.protodoc;
 
 import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.spine.code.java.FileName;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 
 import static java.lang.System.lineSeparator;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.nio.file.Files.newBufferedReader;
-import static java.nio.file.Files.newBufferedWriter;
 
 /**
  * A formatter for Javadocs.
  *
  * <p>The formatter executes {@linkplain FormattingAction formatting actions}
  * for the Javadoc lines in a source file.
+ *
+ * <p>The source is formatted in memory. The file is rewritten only if the formatting
+ * changes it.
  */
 class JavadocFormatter {
 
-    private static final String TEMP_FILE_NAME = "temp_file_for_formatting.java";
-
     /**
      * The formatting actions to perform.
      */
@@ -60,28 +60,43 @@ class JavadocFormatter {
      * <p>If the file is not a {@code .java} source, does noting.
      *
      * @param path the path to the file
+     * @return {@code true} if the file was rewritten, {@code false} otherwise
      */
-    void format(Path path) throws IOException {
+    @CanIgnoreReturnValue
+    boolean format(Path path) throws IOException {
         if (!FileName.isJava(path)) {
-            return;
+            return false;
         }
+        String source = new String(Files.readAllBytes(path), UTF_8);
+        String formatted = formatSource(source);
+        if (formatted.equals(source)) {
+            return false;
+        }
+        Files.write(path, formatted.getBytes(UTF_8));
+        return true;
+    }
 
-        Path folder = path.getParent();
-        Path tempPath = folder.resolve(TEMP_FILE_NAME);
-
-        try (BufferedReader reader = newBufferedReader(path, UTF_8);
-             BufferedWriter writer = newBufferedWriter(tempPath, UTF_8)) {
-
+    /**
+     * Formats the Javadocs in the specified source code.
+     *
+     * <p>Each line of the result, including the last one, ends with the system line separator.
+     *
+     * @param source the source code to format
+     * @return the formatted source code
+     */
+    String formatSource(String source) {
+        StringBuilder result = new StringBuilder(source.length());
+        try (BufferedReader reader = new BufferedReader(new StringReader(source))) {
             Optional<String> resultPart = getNextPart(reader);
             while (resultPart.isPresent()) {
-                writer.write(resultPart.get());
-                writer.newLine();
+                result.append(resultPart.get())
+                      .append(lineSeparator());
                 resultPart = getNextPart(reader);
             }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
         }
-
-        Files.delete(path);
-        Files.move(tempPath, tempPath.resolveSibling(path));
+        return result.toString();
     }
 
     /**
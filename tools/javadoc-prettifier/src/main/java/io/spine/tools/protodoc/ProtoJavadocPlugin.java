@@ -20,7 +20,9 @@
 package io.spine.tools.protodoc;
 
 import com.google.common.collect.ImmutableList;
+import io.spine.code.java.FileName;
 import io.spine.tools.gradle.SpinePlugin;
+import io.spine.tools.gradle.TaskName;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
@@ -28,7 +30,10 @@ import org.gradle.api.Task;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.spine.tools.gradle.TaskName.COMPILE_JAVA;
 import static io.spine.tools.gradle.TaskName.COMPILE_TEST_JAVA;
 import static io.spine.tools.gradle.TaskName.FORMAT_PROTO_DOC;
@@ -59,6 +64,10 @@ import static java.lang.String.format;
  * <p>All {@code .java} files in the specified directories (and subdirectories) will be formatted.
  * So, if the folders contain not only the sources generated basing on Protobuf definitions,
  * they will be formatted either.
+ *
+ * <p>The files are formatted in parallel. The plugin remembers the formatted files in
+ * the build directory, so that the files, which have not changed since the previous build,
+ * are not formatted again.
  */
 public class ProtoJavadocPlugin extends SpinePlugin {
 
@@ -96,32 +105,81 @@ public class ProtoJavadocPlugin extends SpinePlugin {
         }
 
         JavadocFormatter formatter = new JavadocFormatter(
-                ImmutableList.of(new BacktickFormatting(),
-                                 new PreTagFormatting())
+                ImmutableList.of(new SinglePassFormatting())
         );
+        Path rootDir = file.toPath();
         try {
             log().debug("Starting Javadocs formatting in `{}`.", genProtoDir);
-            Files.walkFileTree(file.toPath(), new FormattingFileVisitor(formatter));
+            FormattedFiles formattedFiles = FormattedFiles.load(stateFile(project, taskType),
+                                                                rootDir);
+            ImmutableList<Path> sources = javaSources(rootDir);
+            sources.parallelStream()
+                   .forEach(source -> format(source, formatter, formattedFiles));
+            formattedFiles.store();
         } catch (IOException e) {
             String errMsg = format("Failed to format the sources in `%s`.", genProtoDir);
             throw new IllegalStateException(errMsg, e);
         }
     }
 
+    private static ImmutableList<Path> javaSources(Path rootDir) throws IOException {
+        try (Stream<Path> files = Files.walk(rootDir)) {
+            ImmutableList<Path> result = files.filter(FileName::isJava)
+                                              .filter(Files::isRegularFile)
+                                              .collect(toImmutableList());
+            return result;
+        }
+    }
+
+    /**
+     * Formats the source file unless it is already formatted.
+     */
+    private void format(Path source, JavadocFormatter formatter, FormattedFiles formattedFiles) {
+        try {
+            if (formattedFiles.isFormatted(source)) {
+                return;
+            }
+            log().debug("Performing formatting for the file: {}", source);
+            formatter.format(source);
+            formattedFiles.record(source);
+        } catch (IOException e) {
+            String errMsg = format("Failed to format the source `%s`.", source);
+            throw new IllegalStateException(errMsg, e);
+        }
+    }
+
+    /**
+     * Obtains the file which stores the {@linkplain FormattedFiles formatted files} of the task
+     * between the builds.
+     */
+    private static Path stateFile(Project project, TaskType taskType) {
+        Path result = project.getBuildDir()
+                             .toPath()
+                             .resolve(PROTO_JAVADOC_EXTENSION_NAME)
+                             .resolve(taskType.taskName.getValue() + ".properties");
+        return result;
+    }
+
     private enum TaskType {
-        MAIN {
+        MAIN(FORMAT_PROTO_DOC) {
             @Override
             String getGenProtoDir(Project project) {
                 return getAbsoluteMainGenProtoDir(project);
             }
         },
-        TEST {
+        TEST(FORMAT_TEST_PROTO_DOC) {
             @Override
             String getGenProtoDir(Project project) {
                 return getAbsoluteTestGenProtoDir(project);
             }
         };
 
+        private final TaskName taskName;
+
+        TaskType(TaskName taskName) {
+            this.taskName = taskName;
+        }
+
         abstract String getGenProtoDir(Project project);
     }
 }
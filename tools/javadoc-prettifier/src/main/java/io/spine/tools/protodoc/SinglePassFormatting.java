@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protodoc;
+
+import static io.spine.tools.protodoc.BacktickFormatting.BACKTICK;
+import static io.spine.tools.protodoc.PreTagFormatting.CLOSING_PRE;
+import static io.spine.tools.protodoc.PreTagFormatting.OPENING_PRE;
+import static java.lang.System.lineSeparator;
+
+/**
+ * A formatting action, which performs the formatting of both {@link BacktickFormatting} and
+ * {@link PreTagFormatting} without regular expressions.
+ *
+ * <p>The text is scanned once to replace the text in backticks. The {@code <pre>} tags
+ * generated by the Protobuf compiler are then removed from the same buffer.
+ *
+ * <p>The result is the same as the result of {@code BacktickFormatting} followed by
+ * {@code PreTagFormatting}.
+ */
+final class SinglePassFormatting implements FormattingAction {
+
+    private static final char BACKTICK_CHAR = BACKTICK.charAt(0);
+    private static final String CODE_TAG_START = "{@code ";
+    private static final char CODE_TAG_END = '}';
+    private static final String JAVADOC_START = "/**";
+    private static final String JAVADOC_END = "*/";
+
+    @Override
+    public String execute(String text) {
+        StringBuilder result = replaceBackticks(text);
+        removeGeneratedPreTags(result);
+        return result.toString();
+    }
+
+    /**
+     * Replaces the text in backticks with the text in {@code code} tag.
+     *
+     * <p>As in {@link BacktickFormatting}, a text in backticks cannot span several lines.
+     */
+    private static StringBuilder replaceBackticks(String text) {
+        String separator = lineSeparator();
+        int length = text.length();
+        StringBuilder result = new StringBuilder(length + length / 2);
+        int lineEnd = lineEnd(text, 0, separator);
+        int position = 0;
+        while (position < length) {
+            if (position >= lineEnd) {
+                lineEnd = lineEnd(text, lineEnd + separator.length(), separator);
+            }
+            int opening = text.indexOf(BACKTICK_CHAR, position);
+            if (opening < 0) {
+                break;
+            }
+            if (opening >= lineEnd) {
+                result.append(text, position, lineEnd);
+                position = lineEnd;
+                continue;
+            }
+            int closing = text.indexOf(BACKTICK_CHAR, opening + 1);
+            if (closing < 0 || closing >= lineEnd) {
+                result.append(text, position, lineEnd);
+                position = lineEnd;
+                continue;
+            }
+            result.append(text, position, opening)
+                  .append(CODE_TAG_START)
+                  .append(text, opening + 1, closing)
+                  .append(CODE_TAG_END);
+            position = closing + 1;
+        }
+        if (position < length) {
+            result.append(text, position, length);
+        }
+        return result;
+    }
+
+    private static int lineEnd(String text, int from, String separator) {
+        int index = text.indexOf(separator, from);
+        return index < 0 ? text.length() : index;
+    }
+
+    /**
+     * Removes the first opening and the last closing {@code <pre>} tags, if the Javadoc
+     * is wrapped into them by the Protobuf compiler.
+     *
+     * @see PreTagFormatting
+     */
+    private static void removeGeneratedPreTags(StringBuilder javadoc) {
+        int length = javadoc.length();
+        if (!startsWith(javadoc, JAVADOC_START, 0) || !endsWithJavadocEnd(javadoc)) {
+            return;
+        }
+        int opening = JAVADOC_START.length();
+        while (opening < length && isSpaceOrStar(javadoc.charAt(opening))) {
+            opening++;
+        }
+        if (!startsWith(javadoc, OPENING_PRE, opening)) {
+            return;
+        }
+        if (!hasGeneratedClosingPre(javadoc, opening + OPENING_PRE.length())) {
+            return;
+        }
+        int closing = javadoc.lastIndexOf(CLOSING_PRE);
+        javadoc.delete(closing, closing + CLOSING_PRE.length());
+        javadoc.delete(opening, opening + OPENING_PRE.length());
+    }
+
+    /**
+     * Checks if there is a closing {@code <pre>} tag after the given index, which is followed
+     * by a space or an asterisk and then by the end of the Javadoc.
+     */
+    private static boolean hasGeneratedClosingPre(StringBuilder javadoc, int from) {
+        int lastAllowed = javadoc.length() - JAVADOC_END.length() - CLOSING_PRE.length() - 1;
+        int closing = javadoc.indexOf(CLOSING_PRE, from);
+        while (closing >= 0 && closing <= lastAllowed) {
+            if (isSpaceOrStar(javadoc.charAt(closing + CLOSING_PRE.length()))) {
+                return true;
+            }
+            closing = javadoc.indexOf(CLOSING_PRE, closing + 1);
+        }
+        return false;
+    }
+
+    private static boolean endsWithJavadocEnd(StringBuilder javadoc) {
+        int start = javadoc.length() - JAVADOC_END.length();
+        return start >= JAVADOC_START.length() && startsWith(javadoc, JAVADOC_END, start);
+    }
+
+    private static boolean startsWith(StringBuilder text, String prefix, int offset) {
+        if (offset + prefix.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the character is matched by {@code [\s*]} in a regular expression.
+     */
+    private static boolean isSpaceOrStar(char c) {
+        return c == '*' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B'
+                || c == '\f' || c == '\r';
+    }
+}
@@ -39,6 +39,7 @@ import static io.spine.tools.protodoc.BacktickFormatting.wrapWithCodeTag;
 import static java.lang.System.lineSeparator;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junitpioneer.jupiter.TempDirectory.TempDir;
 
 @ExtendWith(TempDirectory.class)
@@ -81,6 +82,15 @@ class JavadocFormatterTest {
         assertEquals(TEXT_IN_BACKTICKS, getFormattingResult(TEXT_IN_BACKTICKS));
     }
 
+    @Test
+    @DisplayName("not rewrite file which is already formatted")
+    void notRewriteFormatted() throws IOException {
+        Path path = createJavaFile();
+        Files.write(path, ImmutableList.of(getJavadoc(TEXT_IN_CODE_TAG)));
+
+        assertFalse(backtickFormatter.format(path));
+    }
+
     private static String getJavadoc(String javadocText) {
         return "/** " + javadocText + " */";
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protodoc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static java.lang.System.lineSeparator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("SinglePassFormatting should")
+class SinglePassFormattingTest {
+
+    private final FormattingAction formatting = new SinglePassFormatting();
+    private final FormattingAction backticks = new BacktickFormatting();
+    private final FormattingAction preTags = new PreTagFormatting();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "`true`",
+            "`true` some other text `false`",
+            "`$`",
+            "unpaired ` backtick",
+            "`a` and `b` and `",
+            "/** <pre> Doc goes here </pre> <code>string field = 1;</code> */",
+            "/** Doc header <pre> Preformated doc </pre> <code>string field = 1;</code> */",
+            "/** smth */",
+            "/**\n * <pre>\n * Doc with `code`.\n * </pre>\n *\n * <code>int32 a = 1;</code>\n */",
+            "/** <pre> first </pre> <pre> second </pre> */",
+            "/** <pre> no space after closing tag </pre>*/",
+            "/**<pre></pre> */"
+    })
+    @DisplayName("format the text as the backtick and `<pre>` formatting in turn")
+    void formatAsSeparateActions(String text) {
+        String javadoc = text.replace("\n", lineSeparator());
+        String expected = preTags.execute(backticks.execute(javadoc));
+        assertEquals(expected, formatting.execute(javadoc));
+    }
+
+    @Test
+    @DisplayName("not handle text in backticks spanning several lines")
+    void notHandleMultiLineText() {
+        String text = "`opening" + lineSeparator() + "closing`";
+        assertEquals(text, formatting.execute(text));
+    }
+}
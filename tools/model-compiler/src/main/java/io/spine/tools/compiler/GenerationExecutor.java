@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * Runs the code generation for a number of items either sequentially or in parallel.
+ *
+ * <p>In the parallel mode, the items are processed by a bounded pool of threads, the size of
+ * which defaults to the number of available processors.
+ *
+ * <p>Regardless of the mode, the results are returned in the order of the items, and
+ * the generation errors are passed to the error handler in the order of the items as well.
+ * Each item is generated independently, so the generated code does not depend on the mode.
+ */
+public final class GenerationExecutor {
+
+    private static final String THREAD_NAME_FORMAT = "spine-code-generation-%d";
+
+    private final int threads;
+
+    private GenerationExecutor(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Creates an executor which processes the items one by one in the calling thread.
+     */
+    public static GenerationExecutor sequential() {
+        return new GenerationExecutor(1);
+    }
+
+    /**
+     * Creates an executor which processes the items using as many threads as there are
+     * available processors.
+     */
+    public static GenerationExecutor parallel() {
+        int processors = Runtime.getRuntime()
+                                .availableProcessors();
+        return parallel(processors);
+    }
+
+    /**
+     * Creates an executor which processes the items using the given number of threads.
+     */
+    public static GenerationExecutor parallel(int threads) {
+        checkArgument(threads > 0, "The number of threads must be positive. Passed: %s.",
+                      threads);
+        return new GenerationExecutor(threads);
+    }
+
+    /**
+     * Creates a {@linkplain #parallel() parallel} executor if the passed flag is {@code true},
+     * or a {@linkplain #sequential() sequential} one otherwise.
+     */
+    public static GenerationExecutor of(boolean parallel) {
+        return parallel ? parallel() : sequential();
+    }
+
+    /**
+     * Generates the code for each of the passed items.
+     *
+     * <p>If the generation for an item fails, the error is passed to the error handler, which
+     * may rethrow it to stop the processing. In the sequential mode, the error handler is
+     * called right after the failure. In the parallel mode, the error handler is called after
+     * all the items are processed.
+     *
+     * @param items
+     *         the items to generate the code for
+     * @param generation
+     *         the function generating the code for an item
+     * @param onError
+     *         the handler of the generation errors
+     * @param <T>
+     *         the type of the items
+     * @param <R>
+     *         the type of the generation results
+     * @return the results of the generation in the order of the items, or
+     *         {@code Optional.empty()} for the items for which the generation failed
+     */
+    public <T, R> ImmutableList<Optional<R>>
+    generate(List<T> items,
+             Function<? super T, ? extends R> generation,
+             BiConsumer<? super T, RuntimeException> onError) {
+        checkNotNull(items);
+        checkNotNull(generation);
+        checkNotNull(onError);
+        if (threads == 1 || items.size() < 2) {
+            return generateSequentially(items, generation, onError);
+        }
+        return generateInParallel(items, generation, onError);
+    }
+
+    private static <T, R> ImmutableList<Optional<R>>
+    generateSequentially(List<T> items,
+                         Function<? super T, ? extends R> generation,
+                         BiConsumer<? super T, RuntimeException> onError) {
+        ImmutableList.Builder<Optional<R>> results = ImmutableList.builder();
+        for (T item : items) {
+            Outcome<R> outcome = Outcome.of(item, generation);
+            outcome.reportTo(item, onError);
+            results.add(outcome.result());
+        }
+        return results.build();
+    }
+
+    private <T, R> ImmutableList<Optional<R>>
+    generateInParallel(List<T> items,
+                       Function<? super T, ? extends R> generation,
+                       BiConsumer<? super T, RuntimeException> onError) {
+        List<Callable<Outcome<R>>> tasks =
+                items.stream()
+                     .map(item -> (Callable<Outcome<R>>) () -> Outcome.of(item, generation))
+                     .collect(toImmutableList());
+        ExecutorService executor = newExecutor(Math.min(threads, items.size()));
+        try {
+            List<Future<Outcome<R>>> futures = executor.invokeAll(tasks);
+            ImmutableList.Builder<Optional<R>> results = ImmutableList.builder();
+            for (int i = 0; i < futures.size(); i++) {
+                Outcome<R> outcome = futures.get(i)
+                                            .get();
+                outcome.reportTo(items.get(i), onError);
+                results.add(outcome.result());
+            }
+            return results.build();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException("The code generation was interrupted.", e);
+        } catch (ExecutionException e) {
+            // Cannot happen as `Outcome` catches all the runtime exceptions.
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat(THREAD_NAME_FORMAT)
+                .setDaemon(true)
+                .build();
+        ExecutorService result = Executors.newFixedThreadPool(threads, threadFactory);
+        return result;
+    }
+
+    /**
+     * The outcome of the generation for one item.
+     */
+    private static final class Outcome<R> {
+
+        private final @Nullable R result;
+        private final @Nullable RuntimeException error;
+
+        private Outcome(@Nullable R result, @Nullable RuntimeException error) {
+            this.result = result;
+            this.error = error;
+        }
+
+        private static <T, R> Outcome<R> of(T item, Function<? super T, ? extends R> generation) {
+            try {
+                R result = generation.apply(item);
+                return new Outcome<>(result, null);
+            } catch (RuntimeException e) {
+                return new Outcome<>(null, e);
+            }
+        }
+
+        private <T> void reportTo(T item, BiConsumer<? super T, RuntimeException> onError) {
+            if (error != null) {
+                onError.accept(item, error);
+            }
+        }
+
+        private Optional<R> result() {
+            return Optional.ofNullable(result);
+        }
+    }
+}
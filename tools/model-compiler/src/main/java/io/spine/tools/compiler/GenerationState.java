@@ -0,0 +1,267 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.code.proto.FileName;
+import io.spine.code.proto.FileSet;
+import io.spine.logging.Logging;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The state of a code generation task, which allows to regenerate only the code for the proto
+ * files changed since the previous run of the task.
+ *
+ * <p>For each processed proto file, the state stores the fingerprint of the file descriptor and
+ * the files generated from it. The fingerprint of a file covers its dependencies and the settings
+ * of the generation, so that changing either of them causes the file to be processed again.
+ *
+ * <p>A typical usage looks as follows:
+ * <pre>
+ *     GenerationState state = GenerationState.load(stateFile, targetDir, settings);
+ *     FileSet changed = state.changedFiles(allFiles);
+ *     for (FileDescriptor file : changed.files()) {
+ *         List&lt;File&gt; generated = generate(file);
+ *         state.record(file, generated);
+ *     }
+ *     state.store();
+ * </pre>
+ *
+ * <p>The generated files are stored relative to the target directory of the generation.
+ */
+public final class GenerationState implements Logging {
+
+    private static final String FINGERPRINT_PREFIX = "fingerprint.";
+    private static final String OUTPUT_PREFIX = "output.";
+    private static final char OUTPUT_SEPARATOR = ',';
+
+    private final File stateFile;
+    private final Path targetDir;
+    private final String settings;
+
+    /** The state stored by the previous run of the task. */
+    private final Properties previous;
+
+    /** The state of the current run of the task. */
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+
+    /** The fingerprints of the files calculated during the current run of the task. */
+    private final Map<FileName, String> fingerprints = new ConcurrentHashMap<>();
+
+    private GenerationState(File stateFile, File targetDir, String settings, Properties previous) {
+        this.stateFile = stateFile;
+        this.targetDir = targetDir.toPath()
+                                  .toAbsolutePath();
+        this.settings = settings;
+        this.previous = previous;
+    }
+
+    /**
+     * Loads the state of a code generation task.
+     *
+     * <p>If the state file does not exist, all the files are considered changed.
+     *
+     * @param stateFile
+     *         the file storing the state
+     * @param targetDir
+     *         the directory into which the code is generated
+     * @param settings
+     *         the string representation of the generation settings
+     */
+    public static GenerationState load(File stateFile, File targetDir, String settings) {
+        checkNotNull(stateFile);
+        checkNotNull(targetDir);
+        checkNotNull(settings);
+        Properties properties = new Properties();
+        if (stateFile.exists()) {
+            try (InputStream in = new FileInputStream(stateFile)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new IllegalStateException(
+                        "Unable to read the generation state from " + stateFile, e);
+            }
+        }
+        return new GenerationState(stateFile, targetDir, settings, properties);
+    }
+
+    /**
+     * Selects the files which should be processed by the current run of the task.
+     *
+     * <p>A file is selected if its fingerprint differs from the one stored by the previous
+     * run, or if some of the files generated from it by the previous run no longer exist.
+     * The previously generated files of the selected files are deleted.
+     *
+     * <p>The files generated from the files, which are no longer present in the passed set,
+     * are deleted as well.
+     *
+     * <p>The state of the unchanged files is carried over to the current run.
+     */
+    public FileSet changedFiles(FileSet files) {
+        checkNotNull(files);
+        ImmutableList.Builder<FileName> changed = ImmutableList.builder();
+        for (FileDescriptor file : files.files()) {
+            String name = file.getName();
+            String fingerprint = fingerprint(file);
+            String previousFingerprint = previous.getProperty(FINGERPRINT_PREFIX + name);
+            ImmutableSet<String> outputs = previousOutputs(name);
+            if (fingerprint.equals(previousFingerprint) && allExist(outputs)) {
+                current.put(FINGERPRINT_PREFIX + name, fingerprint);
+                current.put(OUTPUT_PREFIX + name, previous.getProperty(OUTPUT_PREFIX + name, ""));
+            } else {
+                deleteAll(outputs);
+                changed.add(FileName.from(file));
+            }
+        }
+        deleteRemoved(files);
+        FileSet result = files.find(changed.build());
+        _debug("{} of {} proto files changed since the previous generation.",
+               result.size(), files.size());
+        return result;
+    }
+
+    /**
+     * Records the files generated from the passed proto file.
+     *
+     * <p>If the generation for a file fails, the file should not be recorded, so that
+     * the next run of the task processes it again.
+     */
+    public void record(FileDescriptor file, Iterable<File> generated) {
+        checkNotNull(file);
+        checkNotNull(generated);
+        String name = file.getName();
+        ImmutableList.Builder<String> outputs = ImmutableList.builder();
+        for (File output : generated) {
+            String relative = targetDir.relativize(output.toPath()
+                                                         .toAbsolutePath())
+                                       .toString()
+                                       .replace(File.separatorChar, '/');
+            outputs.add(relative);
+        }
+        current.put(FINGERPRINT_PREFIX + name, fingerprint(file));
+        current.put(OUTPUT_PREFIX + name, Joiner.on(OUTPUT_SEPARATOR)
+                                                .join(outputs.build()));
+    }
+
+    /**
+     * Writes the state of the current run to the state file.
+     */
+    public void store() {
+        Properties properties = new Properties();
+        properties.putAll(current);
+        try {
+            Files.createDirectories(stateFile.getParentFile()
+                                             .toPath());
+            try (OutputStream out = new FileOutputStream(stateFile)) {
+                properties.store(out, null);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Unable to write the generation state to " + stateFile, e);
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the file, which covers the file descriptor,
+     * the fingerprints of its dependencies and the generation settings.
+     */
+    private String fingerprint(FileDescriptor file) {
+        FileName name = FileName.from(file);
+        String known = fingerprints.get(name);
+        if (known != null) {
+            return known;
+        }
+        Hasher hasher = Hashing.sha256()
+                               .newHasher()
+                               .putString(settings, UTF_8)
+                               .putBytes(file.toProto()
+                                             .toByteArray());
+        for (FileDescriptor dependency : file.getDependencies()) {
+            hasher.putString(fingerprint(dependency), UTF_8);
+        }
+        String result = hasher.hash()
+                              .toString();
+        fingerprints.put(name, result);
+        return result;
+    }
+
+    private ImmutableSet<String> previousOutputs(String fileName) {
+        String outputs = previous.getProperty(OUTPUT_PREFIX + fileName, "");
+        ImmutableSet<String> result =
+                ImmutableSet.copyOf(Splitter.on(OUTPUT_SEPARATOR)
+                                            .omitEmptyStrings()
+                                            .split(outputs));
+        return result;
+    }
+
+    private boolean allExist(Iterable<String> outputs) {
+        for (String output : outputs) {
+            if (!targetDir.resolve(output)
+                          .toFile()
+                          .exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void deleteRemoved(FileSet files) {
+        for (String key : previous.stringPropertyNames()) {
+            if (key.startsWith(FINGERPRINT_PREFIX)) {
+                String name = key.substring(FINGERPRINT_PREFIX.length());
+                if (!files.contains(FileName.of(name))) {
+                    deleteAll(previousOutputs(name));
+                }
+            }
+        }
+    }
+
+    private void deleteAll(Iterable<String> outputs) {
+        for (String output : outputs) {
+            Path file = targetDir.resolve(output);
+            try {
+                _debug("Deleting the previously generated file {}.", file);
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to delete the file " + file, e);
+            }
+        }
+    }
+}
@@ -25,22 +25,15 @@ import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.java.ClassName;
 import io.spine.code.java.SourceFile;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.impl.AbstractJavaSource;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.AnnotationTargetSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.util.Exceptions.illegalStateWithCauseOf;
-import static java.nio.file.Files.exists;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 
 /**
  * Abstract base class for the annotators of the generated Java sources.
@@ -63,16 +56,26 @@ public abstract class Annotator {
      */
     private final Path genProtoDir;
 
+    /**
+     * The rewrites of the Java sources, into which the annotator registers its changes.
+     */
+    private final SourceRewrites rewrites;
+
     protected Annotator(ClassName annotation,
                         ImmutableList<FileDescriptor> descriptors,
-                        Path genProtoDir) {
+                        Path genProtoDir,
+                        SourceRewrites rewrites) {
         this.annotation = checkNotNull(annotation);
         this.descriptors = checkNotNull(descriptors);
         this.genProtoDir = checkNotNull(genProtoDir);
+        this.rewrites = checkNotNull(rewrites);
     }
 
     /**
      * Annotates the Java sources generated from Protobuf.
+     *
+     * <p>The changes to the sources are registered in the {@link SourceRewrites}, which apply
+     * the changes of all the annotators at once.
      */
     public abstract void annotate();
 
@@ -100,6 +103,9 @@ public abstract class Annotator {
     /**
      * Rewrites a Java source with the specified path after applying a {@link SourceVisitor}.
      *
+     * <p>The source is not rewritten immediately. Instead, the visitor is registered in
+     * the {@link SourceRewrites} to be applied together with the visitors of other annotators.
+     *
      * <p>If the specified path does not exist, does nothing.
      *
      * @param sourcePathPrefix
@@ -109,34 +115,10 @@ public abstract class Annotator {
      * @param visitor
      *         the source visitor
      */
-    static <T extends JavaSource<T>>
+    final <T extends JavaSource<T>>
     void rewriteSource(Path sourcePathPrefix, SourceFile sourceFile, SourceVisitor<T> visitor) {
         Path absoluteSourcePath = sourcePathPrefix.resolve(sourceFile.getPath());
-        if (exists(absoluteSourcePath)) {
-            @SuppressWarnings("unchecked" /* There is no way to specify generic parameter
-                                             for `AbstractJavaSource.class` value. */)
-            AbstractJavaSource<T> javaSource = (AbstractJavaSource<T>) parse(absoluteSourcePath);
-            visitor.accept(javaSource);
-            rewrite(javaSource, absoluteSourcePath);
-        }
-    }
-
-    private static <T extends JavaSource<T>>
-    void rewrite(AbstractJavaSource<T> javaSource, Path destination) {
-        String resultingSource = javaSource.toString();
-        try {
-            Files.write(destination, ImmutableList.of(resultingSource), TRUNCATE_EXISTING);
-        } catch (IOException e) {
-            throw illegalStateWithCauseOf(e);
-        }
-    }
-
-    private static AbstractJavaSource<?> parse(Path sourcePath) {
-        try {
-            return Roaster.parse(AbstractJavaSource.class, sourcePath.toFile());
-        } catch (FileNotFoundException e) {
-            throw illegalStateWithCauseOf(e);
-        }
+        rewrites.add(absoluteSourcePath, visitor);
     }
 
     /**
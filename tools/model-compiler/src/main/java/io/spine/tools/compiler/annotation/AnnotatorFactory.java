@@ -25,6 +25,7 @@ import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.java.ClassName;
 import io.spine.code.proto.FileDescriptors;
 import io.spine.code.proto.FileSet;
+import io.spine.tools.compiler.GenerationExecutor;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -55,6 +56,11 @@ public final class AnnotatorFactory {
      */
     private final Path genGrpcDir;
 
+    /**
+     * The rewrites of the Java sources, collected from all the created annotators.
+     */
+    private final SourceRewrites rewrites = new SourceRewrites();
+
     private AnnotatorFactory(Collection<FileDescriptor> fileDescriptors,
                              Path genProtoDir,
                              Path genGrpcDir) {
@@ -79,22 +85,34 @@ public final class AnnotatorFactory {
     }
 
     Annotator createFileAnnotator(ClassName annotation, ApiOption option) {
-        return new FileAnnotator(annotation, option, fileDescriptors, genProtoDir, genGrpcDir);
+        return new FileAnnotator(annotation, option, fileDescriptors,
+                                 genProtoDir, genGrpcDir, rewrites);
     }
 
     Annotator createMessageAnnotator(ClassName annotation, ApiOption option) {
-        return new MessageAnnotator(annotation, option, fileDescriptors, genProtoDir);
+        return new MessageAnnotator(annotation, option, fileDescriptors, genProtoDir, rewrites);
     }
 
     Annotator createFieldAnnotator(ClassName annotation, ApiOption option) {
-        return new FieldAnnotator(annotation, option, fileDescriptors, genProtoDir);
+        return new FieldAnnotator(annotation, option, fileDescriptors, genProtoDir, rewrites);
     }
 
     Annotator createServiceAnnotator(ClassName annotation, ApiOption option) {
-        return new ServiceAnnotator(annotation, option, fileDescriptors, genGrpcDir);
+        return new ServiceAnnotator(annotation, option, fileDescriptors, genGrpcDir, rewrites);
     }
 
     Annotator createPatternAnnotator(ClassName annotation, ClassNamePattern pattern) {
-        return new PatternAnnotator(annotation, pattern, fileDescriptors, genProtoDir);
+        return new PatternAnnotator(annotation, pattern, fileDescriptors, genProtoDir, rewrites);
+    }
+
+    /**
+     * Applies the changes registered by the annotators created so far to the Java sources.
+     *
+     * @param executor
+     *         the executor to rewrite the source files with
+     */
+    void rewriteSources(GenerationExecutor executor) {
+        checkNotNull(executor);
+        rewrites.rewriteAll(executor);
     }
 }
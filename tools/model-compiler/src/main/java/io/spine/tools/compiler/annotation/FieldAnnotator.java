@@ -57,8 +57,9 @@ class FieldAnnotator extends OptionAnnotator<FieldDescriptor> {
     FieldAnnotator(ClassName annotation,
                    ApiOption option,
                    ImmutableList<FileDescriptor> fileDescriptors,
-                   Path genProtoDir) {
-        super(annotation, option, fileDescriptors, genProtoDir);
+                   Path genProtoDir,
+                   SourceRewrites rewrites) {
+        super(annotation, option, fileDescriptors, genProtoDir, rewrites);
     }
 
     @Override
@@ -49,8 +49,9 @@ class FileAnnotator extends OptionAnnotator<FileDescriptor> {
                   ApiOption option,
                   ImmutableList<FileDescriptor> files,
                   Path genProtoDir,
-                  Path genGrpcDir) {
-        super(annotation, option, files, genProtoDir);
+                  Path genGrpcDir,
+                  SourceRewrites rewrites) {
+        super(annotation, option, files, genProtoDir, rewrites);
         checkNotNull(genGrpcDir);
         this.genGrpcDir = genGrpcDir;
     }
@@ -49,8 +49,9 @@ class MessageAnnotator extends OptionAnnotator<Descriptor> {
     MessageAnnotator(ClassName annotation,
                      ApiOption option,
                      ImmutableList<FileDescriptor> files,
-                     Path genProtoDir) {
-        super(annotation, option, files, genProtoDir);
+                     Path genProtoDir,
+                     SourceRewrites rewrites) {
+        super(annotation, option, files, genProtoDir, rewrites);
     }
 
     @Override
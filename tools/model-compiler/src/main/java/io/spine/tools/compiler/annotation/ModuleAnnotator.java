@@ -23,31 +23,42 @@ package io.spine.tools.compiler.annotation;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.spine.code.java.ClassName;
+import io.spine.tools.compiler.GenerationExecutor;
 import org.checkerframework.checker.regex.qual.Regex;
 
 import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.collect.Sets.newLinkedHashSet;
 
 /**
  * A source code annotation facade.
+ *
+ * <p>The annotation is performed in two phases. First, all the {@linkplain Job jobs} register
+ * the changes they need to make to the generated sources. Then, each affected source file is
+ * parsed, changed and written once, with the files processed by the given
+ * {@link GenerationExecutor}.
  */
 public final class ModuleAnnotator {
 
     private final AnnotatorFactory annotatorFactory;
     private final ImmutableSet<Job> jobs;
+    private final GenerationExecutor executor;
 
     private ModuleAnnotator(Builder builder) {
         this.annotatorFactory = builder.annotatorFactory;
         this.jobs = ImmutableSet.copyOf(builder.jobs);
+        this.executor = builder.executor;
     }
 
     /**
-     * Executes the {@linkplain Job annotation jobs}.
+     * Executes the {@linkplain Job annotation jobs} and rewrites the affected sources.
+     *
+     * <p>The changes of the jobs are applied in the order in which the jobs were added.
      */
     public void annotate() {
         jobs.forEach(job -> job.execute(annotatorFactory));
+        annotatorFactory.rewriteSources(executor);
     }
 
     /**
@@ -174,12 +185,13 @@ public final class ModuleAnnotator {
         private AnnotatorFactory annotatorFactory;
         private ImmutableSet<@Regex String> internalPatterns;
         private ClassName internalAnnotation;
+        private GenerationExecutor executor = GenerationExecutor.sequential();
 
         /**
          * Prevents direct instantiation.
          */
         private Builder() {
-            this.jobs = newHashSet();
+            this.jobs = newLinkedHashSet();
         }
 
         public Builder setAnnotatorFactory(AnnotatorFactory annotatorFactory) {
@@ -233,6 +245,20 @@ public final class ModuleAnnotator {
             return this;
         }
 
+        /**
+         * Specifies the executor to rewrite the annotated source files with.
+         *
+         * <p>If not set, the files are rewritten {@linkplain GenerationExecutor#sequential()
+         * sequentially}.
+         *
+         * @param executor
+         *         the executor to use
+         */
+        public Builder setExecutor(GenerationExecutor executor) {
+            this.executor = checkNotNull(executor);
+            return this;
+        }
+
         /**
          * Creates a new instance of {@code ModuleAnnotator}.
          *
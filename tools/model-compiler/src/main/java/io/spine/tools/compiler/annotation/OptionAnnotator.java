@@ -57,8 +57,9 @@ public abstract class OptionAnnotator<D extends GenericDescriptor> extends Annot
     protected OptionAnnotator(ClassName annotation,
                               ApiOption option,
                               ImmutableList<FileDescriptor> fileDescriptors,
-                              Path genProtoDir) {
-        super(annotation, fileDescriptors, genProtoDir);
+                              Path genProtoDir,
+                              SourceRewrites rewrites) {
+        super(annotation, fileDescriptors, genProtoDir, rewrites);
         this.option = checkNotNull(option);
     }
 
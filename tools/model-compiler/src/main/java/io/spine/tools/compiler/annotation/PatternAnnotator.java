@@ -47,8 +47,9 @@ final class PatternAnnotator extends Annotator {
     PatternAnnotator(ClassName annotation,
                      ClassNamePattern pattern,
                      ImmutableList<FileDescriptor> fileDescriptors,
-                     Path genProtoDir) {
-        super(annotation, fileDescriptors, genProtoDir);
+                     Path genProtoDir,
+                     SourceRewrites rewrites) {
+        super(annotation, fileDescriptors, genProtoDir, rewrites);
         this.pattern = pattern;
     }
 
@@ -42,8 +42,9 @@ class ServiceAnnotator extends OptionAnnotator<ServiceDescriptor> {
     ServiceAnnotator(ClassName annotation,
                      ApiOption option,
                      ImmutableList<FileDescriptor> fileDescriptors,
-                     Path genProtoDir) {
-        super(annotation, option, fileDescriptors, genProtoDir);
+                     Path genProtoDir,
+                     SourceRewrites rewrites) {
+        super(annotation, option, fileDescriptors, genProtoDir, rewrites);
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.annotation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.tools.compiler.GenerationExecutor;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.impl.AbstractJavaSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.exists;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+
+/**
+ * The rewrites of the Java sources requested by the {@linkplain Annotator annotators}.
+ *
+ * <p>The annotators only register the {@linkplain SourceVisitor visitors} for the source files.
+ * When all the annotators are done, each source file is parsed once, all the visitors
+ * registered for the file are applied in the order of registration, and the file is written
+ * back only if the visitors changed it.
+ */
+final class SourceRewrites {
+
+    /** The visitors by the absolute paths of the source files. Guarded by {@code this}. */
+    private final Map<Path, List<SourceVisitor<?>>> visitors = newLinkedHashMap();
+
+    /**
+     * Registers the visitor for the source file with the given path.
+     */
+    synchronized void add(Path sourcePath, SourceVisitor<?> visitor) {
+        checkNotNull(sourcePath);
+        checkNotNull(visitor);
+        visitors.computeIfAbsent(sourcePath, path -> newArrayList())
+                .add(visitor);
+    }
+
+    /**
+     * Rewrites all the source files for which the visitors were registered.
+     *
+     * <p>The registered visitors are cleared.
+     *
+     * <p>If the rewriting of some files fails, the error for the first of them in the order of
+     * registration is thrown.
+     *
+     * @param executor
+     *         the executor running the rewriting of the source files
+     */
+    void rewriteAll(GenerationExecutor executor) {
+        checkNotNull(executor);
+        ImmutableList<Map.Entry<Path, List<SourceVisitor<?>>>> files;
+        synchronized (this) {
+            files = ImmutableList.copyOf(visitors.entrySet());
+            visitors.clear();
+        }
+        executor.generate(files,
+                          file -> rewrite(file.getKey(), file.getValue()),
+                          (file, e) -> {
+                              throw e;
+                          });
+    }
+
+    /**
+     * Applies the visitors to the source file with the given path.
+     *
+     * <p>If the file does not exist, does nothing.
+     *
+     * @return {@code true} if the file was rewritten, {@code false} otherwise
+     */
+    private static boolean rewrite(Path sourcePath, List<SourceVisitor<?>> visitors) {
+        if (!exists(sourcePath)) {
+            return false;
+        }
+        AbstractJavaSource<?> javaSource = parse(sourcePath);
+        String original = javaSource.toString();
+        for (SourceVisitor<?> visitor : visitors) {
+            apply(visitor, javaSource);
+        }
+        String result = javaSource.toString();
+        if (result.equals(original)) {
+            return false;
+        }
+        try {
+            Files.write(sourcePath, ImmutableList.of(result), TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked" /* There is no way to specify generic parameter
+                                     for `AbstractJavaSource.class` value. */)
+    private static <T extends JavaSource<T>>
+    void apply(SourceVisitor<?> visitor, AbstractJavaSource<?> javaSource) {
+        SourceVisitor<T> typedVisitor = (SourceVisitor<T>) visitor;
+        typedVisitor.accept((AbstractJavaSource<T>) javaSource);
+    }
+
+    private static AbstractJavaSource<?> parse(Path sourcePath) {
+        try {
+            String source = new String(Files.readAllBytes(sourcePath), UTF_8);
+            return Roaster.parse(AbstractJavaSource.class, source);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+}
@@ -20,14 +20,11 @@
 
 package io.spine.tools.compiler.archive;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.zip.ZipFile;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -89,16 +86,17 @@ public final class ArchiveFile {
     }
 
     /**
-     * Opens an {@code InputStream} from this file.
+     * Opens this file for reading the entries.
      *
-     * <p>It is a responsibility of the client to close the stream when it is no longer needed.
+     * <p>It is a responsibility of the client to close the returned file when it is no
+     * longer needed.
      *
-     * @return a buffered stream of the archive content
+     * @return the opened archive
      */
-    InputStream open() {
+    ZipFile open() {
         try {
-            return new BufferedInputStream(new FileInputStream(file));
-        } catch (FileNotFoundException e) {
+            return new ZipFile(file);
+        } catch (IOException e) {
             throw illegalStateWithCauseOf(e);
         }
     }
@@ -24,9 +24,10 @@ import io.spine.logging.Logging;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.io.ByteStreams.toByteArray;
@@ -34,13 +35,16 @@ import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 
 /**
  * A process of an entry lookup inside of an archive.
+ *
+ * <p>The entries are looked up by the central directory of the archive, so only the found entry
+ * is read.
  */
 final class EntryLookup implements Closeable, Logging {
 
-    private final ZipInputStream stream;
+    private final ZipFile zipFile;
 
-    private EntryLookup(ZipInputStream stream) {
-        this.stream = stream;
+    private EntryLookup(ZipFile zipFile) {
+        this.zipFile = zipFile;
     }
 
     /**
@@ -50,16 +54,13 @@ final class EntryLookup implements Closeable, Logging {
      */
     static EntryLookup open(ArchiveFile archiveFile) {
         checkNotNull(archiveFile);
-        ZipInputStream stream = new ZipInputStream(archiveFile.open());
-        return new EntryLookup(stream);
+        ZipFile zipFile = archiveFile.open();
+        return new EntryLookup(zipFile);
     }
 
     /**
      * Finds an entry with the given name in the archive.
      *
-     * <p>This method should only be called once in the lifetime of an {@code EntryLookup}.
-     * All subsequent calls will always return an empty result.
-     *
      * @param name
      *         the name of the entry in terms of {@code ZipEntry.getName()}
      * @return a snapshot of the found entry or {@code Optional.empty()} if there is no such entry
@@ -73,36 +74,32 @@ final class EntryLookup implements Closeable, Logging {
     }
 
     private Optional<ArchiveEntry> doFindEntry(String name) throws IOException {
-        for (ZipEntry entry = stream.getNextEntry();
-             entry != null;
-             entry = stream.getNextEntry()) {
-            String entryName = entry.getName();
-            if (name.equals(entryName)) {
-                _debug("Reading ZIP entry `{}`.", entryName);
-                ArchiveEntry read = readEntry();
-                return Optional.of(read);
-            }
+        ZipEntry entry = zipFile.getEntry(name);
+        if (entry == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        _debug("Reading ZIP entry `{}`.", name);
+        ArchiveEntry read = readEntry(entry);
+        return Optional.of(read);
     }
 
-    private ArchiveEntry readEntry() throws IOException {
-        // When being read, a `ZipStream` reports to be out of data when the *current entry* is
-        // over, not when the whole archive is read.
-        byte[] bytes = toByteArray(stream);
-        return ArchiveEntry.of(bytes);
+    private ArchiveEntry readEntry(ZipEntry entry) throws IOException {
+        try (InputStream stream = zipFile.getInputStream(entry)) {
+            byte[] bytes = toByteArray(stream);
+            return ArchiveEntry.of(bytes);
+        }
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Closes the underlying file stream.
+     * <p>Closes the underlying archive.
      *
      * @throws IOException
-     *         if {@code InputStream.close()} throws an {@code IOException}
+     *         if {@code ZipFile.close()} throws an {@code IOException}
      */
     @Override
     public void close() throws IOException {
-        stream.close();
+        zipFile.close();
     }
 }
@@ -20,58 +20,77 @@
 
 package io.spine.tools.compiler.descriptor;
 
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
-import io.spine.code.proto.FileDescriptorSets;
+import io.spine.code.proto.FileDescriptorSetReader;
 import io.spine.logging.Logging;
 import io.spine.tools.compiler.archive.ArchiveEntry;
 import io.spine.tools.compiler.archive.ArchiveFile;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static io.spine.code.proto.FileDescriptors.KNOWN_TYPES;
 import static io.spine.tools.compiler.archive.ArchiveFile.isArchive;
-import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static io.spine.util.Exceptions.newIllegalStateException;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toList;
 
 /**
  * A set of {@code FileDescriptorSet}s.
+ *
+ * <p>The descriptor sets read from archives are cached by the path and the last modification
+ * time of the archive, so that an unchanged dependency is read only once per JVM. The cache is
+ * bounded by the total serialized size of the descriptor sets.
  */
 public final class FileDescriptorSuperset implements Logging {
 
-    private final Set<FileDescriptorSet> descriptors;
+    /** The maximum total serialized size of the cached descriptor sets, in bytes. */
+    private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+    private static final Cache<ArchiveKey, Optional<FileDescriptorSet>> archives =
+            CacheBuilder.newBuilder()
+                        .maximumWeight(MAX_CACHED_BYTES)
+                        .weigher(FileDescriptorSuperset::weigh)
+                        .build();
+
+    private final List<FileDescriptorSet> descriptors;
 
     /**
      * Creates a new instance of {@code FileDescriptorSuperset}.
      */
     public FileDescriptorSuperset() {
-        this.descriptors = newHashSet();
+        this.descriptors = newArrayList();
     }
 
     /**
      * Flattens this superset into a single descriptor set.
      *
-     * <p>The descriptors in the output set are de-duplicated and unordered.
+     * <p>The descriptors are de-duplicated by the file name and the hash of the file content.
+     * The descriptors in the output set go in the order of the descriptor sets they were
+     * added with.
      *
      * @return the result of the sets merging
      */
     public MergedDescriptorSet merge() {
-        Set<FileDescriptorProto> allFiles = descriptors
-                .stream()
-                .flatMap(set -> set.getFileList().stream())
-                .collect(toSet());
+        Map<FileKey, FileDescriptorProto> allFiles = newLinkedHashMap();
+        for (FileDescriptorSet set : descriptors) {
+            for (FileDescriptorProto file : set.getFileList()) {
+                allFiles.putIfAbsent(new FileKey(file), file);
+            }
+        }
         FileDescriptorSet descriptorSet = FileDescriptorSet
                 .newBuilder()
-                .addAllFile(allFiles)
+                .addAllFile(allFiles.values())
                 .build();
         return new MergedDescriptorSet(descriptorSet);
     }
@@ -81,6 +100,37 @@ public final class FileDescriptorSuperset implements Logging {
                 .ifPresent(this::addFiles);
     }
 
+    /**
+     * Adds the descriptors from the file which is going to be overwritten with the merge result.
+     *
+     * <p>Unlike the dependencies, the file is read into the heap rather than mapped into memory,
+     * so that it can be replaced on any platform.
+     */
+    public void addFromMergeTarget(File descriptorSetFile) {
+        checkNotNull(descriptorSetFile);
+        if (KNOWN_TYPES.equals(descriptorSetFile.getName())) {
+            checkArgument(descriptorSetFile.exists());
+            FileDescriptorSet fileSet = FileDescriptorSetReader.of(descriptorSetFile.toPath())
+                                                               .inHeap()
+                                                               .readSet();
+            addFiles(fileSet);
+        }
+    }
+
+    /**
+     * Reads the descriptor sets from the given dependencies in parallel.
+     *
+     * <p>The descriptor sets are added in the order of the dependencies.
+     */
+    public void addFromDependencies(Collection<File> dependencyFiles) {
+        checkNotNull(dependencyFiles);
+        List<Optional<FileDescriptorSet>> sets = dependencyFiles
+                .parallelStream()
+                .map(this::readDependency)
+                .collect(toList());
+        sets.forEach(set -> set.ifPresent(this::addFiles));
+    }
+
     private void addFiles(FileDescriptorSet fileSet) {
         descriptors.add(fileSet);
     }
@@ -112,20 +162,28 @@ public final class FileDescriptorSuperset implements Logging {
     }
 
     private static Optional<FileDescriptorSet> readFromArchive(File archiveFile) {
+        ArchiveKey key = new ArchiveKey(archiveFile);
+        Optional<FileDescriptorSet> cached = archives.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
         ArchiveFile archive = ArchiveFile.from(archiveFile);
-        return archive.findEntry(KNOWN_TYPES)
-                      .map(ArchiveEntry::asDescriptorSet);
+        Optional<FileDescriptorSet> result = archive.findEntry(KNOWN_TYPES)
+                                                    .map(ArchiveEntry::asDescriptorSet);
+        archives.put(key, result);
+        return result;
+    }
+
+    @SuppressWarnings("unused") // The key is required by the `Weigher` contract.
+    private static int weigh(ArchiveKey key, Optional<FileDescriptorSet> descriptors) {
+        return descriptors.map(FileDescriptorSet::getSerializedSize)
+                          .orElse(0);
     }
 
     private static FileDescriptorSet read(File file) {
         checkArgument(file.exists());
-        Path path = file.toPath();
-        try {
-            byte[] bytes = Files.readAllBytes(path);
-            return FileDescriptorSets.parse(bytes);
-        } catch (IOException e) {
-            throw illegalStateWithCauseOf(e);
-        }
+        return FileDescriptorSetReader.of(file.toPath())
+                                      .readSet();
     }
 
     private static Optional<FileDescriptorSet> readFromPlainFile(File file) {
@@ -136,4 +194,74 @@ public final class FileDescriptorSuperset implements Logging {
             return Optional.empty();
         }
     }
+
+    /**
+     * Identifies a version of an archive file.
+     */
+    private static final class ArchiveKey {
+
+        private final String path;
+        private final long lastModified;
+
+        private ArchiveKey(File file) {
+            this.path = file.getAbsolutePath();
+            this.lastModified = file.lastModified();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ArchiveKey)) {
+                return false;
+            }
+            ArchiveKey other = (ArchiveKey) o;
+            return lastModified == other.lastModified && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(path, lastModified);
+        }
+    }
+
+    /**
+     * Identifies a file descriptor by the file name and the hash of the descriptor.
+     *
+     * <p>The hash of a descriptor is computed once per instance by Protobuf, so the keys of
+     * the descriptors from the {@linkplain #archives cached} sets are cheap to obtain.
+     * The descriptors themselves are compared only if the names and the hashes match.
+     */
+    private static final class FileKey {
+
+        private final String name;
+        private final int contentHash;
+        private final FileDescriptorProto file;
+
+        private FileKey(FileDescriptorProto file) {
+            this.name = file.getName();
+            this.contentHash = file.hashCode();
+            this.file = file;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FileKey)) {
+                return false;
+            }
+            FileKey other = (FileKey) o;
+            return contentHash == other.contentHash
+                    && name.equals(other.name)
+                    && file.equals(other.file);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name, contentHash);
+        }
+    }
 }
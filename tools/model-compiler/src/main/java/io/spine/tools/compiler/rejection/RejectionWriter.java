@@ -19,6 +19,7 @@
  */
 package io.spine.tools.compiler.rejection;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
@@ -82,8 +83,11 @@ public class RejectionWriter implements Logging {
 
     /**
      * Initiates writing.
+     *
+     * @return the written file
      */
-    public void write() {
+    @CanIgnoreReturnValue
+    public File write() {
         try {
             Logger log = log();
             log.debug("Creating the output directory {}", outputDirectory.getPath());
@@ -114,11 +118,24 @@ public class RejectionWriter implements Logging {
             log.debug("Writing {}", className);
             javaFile.writeTo(outputDirectory);
             log.debug("Rejection {} written successfully", className);
+            File result = javaFileOf(javaFile);
+            return result;
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    /**
+     * Obtains the file into which the passed Java file is written.
+     */
+    private File javaFileOf(JavaFile javaFile) {
+        String relativePath = javaFile.toJavaFileObject()
+                                      .toUri()
+                                      .getPath();
+        File result = new File(outputDirectory, relativePath);
+        return result;
+    }
+
     private MethodSpec constructor() {
         log().debug("Creating the constructor for the type '{}'",
                     declaration.simpleJavaClassName());
@@ -41,6 +41,7 @@ abstract class AbstractMethodGroup implements MethodGroup {
     private static final String FIELD_DESCRIPTOR_NAME = "fieldDescriptor";
 
     private final int fieldIndex;
+    private final boolean inlineConstraints;
 
     /** The class name of the message containing the field. */
     private final ClassName messageClass;
@@ -48,6 +49,7 @@ abstract class AbstractMethodGroup implements MethodGroup {
 
     AbstractMethodGroup(AbstractMethodGroupBuilder builder) {
         this.fieldIndex = builder.getFieldIndex();
+        this.inlineConstraints = builder.inlinesConstraints();
         this.messageClass = builder.getGenericClassName();
         String javaPackage = checkNotNull(builder.getJavaPackage());
         String javaClass = checkNotNull(builder.getJavaClass());
@@ -94,6 +96,13 @@ abstract class AbstractMethodGroup implements MethodGroup {
                 .returns(builderClass());
     }
 
+    /**
+     * Tells if the generated methods check the constraints known at the build time inline.
+     */
+    final boolean inlinesConstraints() {
+        return inlineConstraints;
+    }
+
     /** Return the code block, which obtains the {@linkplain #fieldIndex field}. */
     private CodeBlock getFieldByIndex() {
         return CodeBlock.of("$T.getDescriptor().getFields().get($L)", messageClass, fieldIndex);
@@ -121,6 +130,28 @@ abstract class AbstractMethodGroup implements MethodGroup {
         return codeBlock.toString();
     }
 
+    /**
+     * Creates the code which checks the passed value against the constraints
+     * known at the build time.
+     */
+    static CodeBlock constraintChecks(InlineConstraints constraints, String fieldValue) {
+        checkNotNull(constraints);
+        checkNotNull(fieldValue);
+        return constraints.checks(fieldValue, FIELD_DESCRIPTOR_NAME);
+    }
+
+    /** Creates a statement that calls the {@code checkNotSet} method. */
+    static String checkNotSet() {
+        CodeBlock codeBlock = CodeBlock.of("checkNotSet($N)", FIELD_DESCRIPTOR_NAME);
+        return codeBlock.toString();
+    }
+
+    /** Creates a statement that calls the {@code markChanged} method. */
+    static String markChanged() {
+        CodeBlock codeBlock = CodeBlock.of("markChanged($N)", FIELD_DESCRIPTOR_NAME);
+        return codeBlock.toString();
+    }
+
     /** Creates a statement that calls the {@code validateSetOnce} method. */
     static String validateSetOnce() {
         CodeBlock codeBlock = CodeBlock.of("validateSetOnce($N)", FIELD_DESCRIPTOR_NAME);
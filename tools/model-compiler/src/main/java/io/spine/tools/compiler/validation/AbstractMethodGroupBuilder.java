@@ -40,6 +40,7 @@ abstract class AbstractMethodGroupBuilder<T extends MethodGroup> {
     private ClassName genericClassName;
     private FieldDescriptor field;
     private FieldType fieldType;
+    private boolean inlineConstraints;
 
     /**
      * Builds a method constructor for the specified field.
@@ -87,6 +88,11 @@ abstract class AbstractMethodGroupBuilder<T extends MethodGroup> {
         return this;
     }
 
+    AbstractMethodGroupBuilder setInlineConstraints(boolean inlineConstraints) {
+        this.inlineConstraints = inlineConstraints;
+        return this;
+    }
+
     int getFieldIndex() {
         return fieldIndex;
     }
@@ -116,6 +122,10 @@ abstract class AbstractMethodGroupBuilder<T extends MethodGroup> {
         return fieldType;
     }
 
+    boolean inlinesConstraints() {
+        return inlineConstraints;
+    }
+
     /**
      * Checks the builder fields.
      */
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.validation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.GeneratedMessage.GeneratedExtension;
+import com.google.protobuf.Message;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import io.spine.code.proto.FieldDeclaration;
+import io.spine.code.proto.MessageType;
+import io.spine.code.proto.Option;
+import io.spine.option.DigitsOption;
+import io.spine.option.IfMissingOption;
+import io.spine.option.MaxOption;
+import io.spine.option.MinOption;
+import io.spine.option.OptionsProto;
+import io.spine.option.PatternOption;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * Constraints of a singular field, which are checked by the code of a generated validating
+ * builder instead of the runtime validation.
+ *
+ * <p>The constraints are read from the field declaration at the build time. Supported are
+ * {@code (required)} strings, {@code (pattern)}, {@code (min)}, {@code (max)}
+ * and {@code (digits)} of floating point numbers.
+ *
+ * <p>A field which declares any other validation option, is a message, or is an entity or
+ * a command ID, cannot be checked inline. Such a field is validated by
+ * the {@link io.spine.validate.AbstractValidatingBuilder#validate(FieldDescriptor, Object, String)
+ * runtime engine}, which also takes into account the validation rules discovered dynamically.
+ *
+ * <p>The generated code throws a {@code ValidationException} on the first found violation.
+ */
+final class InlineConstraints {
+
+    /**
+     * The validation options which are only supported by the runtime validation.
+     */
+    private static final ImmutableList<GeneratedExtension<FieldOptions, ?>> RUNTIME_ONLY =
+            ImmutableList.of(OptionsProto.decimalMin,
+                             OptionsProto.decimalMax,
+                             OptionsProto.when,
+                             OptionsProto.valid,
+                             OptionsProto.ifInvalid);
+
+    private static final String PATTERN_SUFFIX = "_PATTERN";
+
+    private final FieldDescriptor field;
+    private final JavaType type;
+
+    private InlineConstraints(FieldDescriptor field) {
+        this.field = field;
+        this.type = field.getJavaType();
+    }
+
+    /**
+     * Obtains the constraints of the passed field if all of them can be checked inline.
+     *
+     * @param field
+     *         the singular field
+     * @return the constraints of the field or {@code Optional.empty()} if the field should be
+     *         validated by the runtime engine
+     */
+    static Optional<InlineConstraints> of(FieldDescriptor field) {
+        checkNotNull(field);
+        boolean supported = supportsType(field)
+                && !isRequiredId(field)
+                && !hasRuntimeOnlyOptions(field)
+                && numbersParse(field);
+        return supported
+               ? Optional.of(new InlineConstraints(field))
+               : Optional.empty();
+    }
+
+    /**
+     * Obtains the declarations of constants holding the compiled {@code (pattern)}s of
+     * the fields which are checked inline.
+     */
+    static ImmutableList<FieldSpec> patternConstants(MessageType type) {
+        ImmutableList.Builder<FieldSpec> result = ImmutableList.builder();
+        for (FieldDeclaration field : type.fields()) {
+            of(field.descriptor()).flatMap(InlineConstraints::patternConstant)
+                                  .ifPresent(result::add);
+        }
+        return result.build();
+    }
+
+    /**
+     * Tells if the field is {@code (set_once)}.
+     *
+     * <p>A field is {@code (set_once)} if it either declares the option explicitly or is
+     * an entity ID which does not declare the option.
+     */
+    static boolean isSetOnce(FieldDescriptor field) {
+        Option<Boolean> setOnce = Option.from(field, OptionsProto.setOnce);
+        boolean implicit = new FieldDeclaration(field).isEntityId() && !setOnce.isExplicitlySet();
+        return setOnce.value() || implicit;
+    }
+
+    private static boolean supportsType(FieldDescriptor field) {
+        if (field.isRepeated()) {
+            return false;
+        }
+        switch (field.getJavaType()) {
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case STRING:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isRequiredId(FieldDescriptor field) {
+        FieldDeclaration declaration = new FieldDeclaration(field);
+        return declaration.isEntityId() || declaration.isCommandId();
+    }
+
+    private static boolean hasRuntimeOnlyOptions(FieldDescriptor field) {
+        FieldOptions options = field.getOptions();
+        for (GeneratedExtension<FieldOptions, ?> option : RUNTIME_ONLY) {
+            if (options.hasExtension(option)) {
+                return true;
+            }
+        }
+        boolean integerDigits = options.hasExtension(OptionsProto.digits)
+                && (field.getJavaType() == JavaType.INT || field.getJavaType() == JavaType.LONG);
+        return integerDigits;
+    }
+
+    /**
+     * Checks that the {@code (min)} and {@code (max)} values can be parsed at the build time.
+     *
+     * <p>Otherwise, the runtime validation reports the error.
+     */
+    private static boolean numbersParse(FieldDescriptor field) {
+        InlineConstraints constraints = new InlineConstraints(field);
+        try {
+            constraints.min()
+                       .ifPresent(constraints::literal);
+            constraints.max()
+                       .ifPresent(constraints::literal);
+            return true;
+        } catch (NumberFormatException ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * Obtains the declaration of the constant holding the compiled {@code (pattern)}.
+     */
+    Optional<FieldSpec> patternConstant() {
+        String regex = pattern().getRegex();
+        if (type != JavaType.STRING || regex.isEmpty()) {
+            return Optional.empty();
+        }
+        FieldSpec result = FieldSpec
+                .builder(Pattern.class, patternConstantName(), PRIVATE, STATIC, FINAL)
+                .initializer("$T.compile($S)", Pattern.class, regex)
+                .build();
+        return Optional.of(result);
+    }
+
+    /**
+     * Obtains the code checking the passed value.
+     *
+     * <p>The code expects the field descriptor to be declared in the variable with
+     * the passed name.
+     *
+     * @param value
+     *         the name of the variable with the value of the field
+     * @param descriptor
+     *         the name of the variable with the descriptor of the field
+     * @return the checks or an empty code block if the field has no constraints
+     */
+    CodeBlock checks(String value, String descriptor) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (type == JavaType.STRING) {
+            addRequiredCheck(code, value, descriptor);
+            addPatternCheck(code, value, descriptor);
+        } else {
+            addRangeChecks(code, value, descriptor);
+            addDigitsCheck(code, value, descriptor);
+        }
+        return code.build();
+    }
+
+    private void addRequiredCheck(CodeBlock.Builder code, String value, String descriptor) {
+        if (!Option.from(field, OptionsProto.required)
+                   .value()) {
+            return;
+        }
+        IfMissingOption ifMissing = Option.from(field, OptionsProto.ifMissing)
+                                          .value();
+        String msgFormat = msgFormat(ifMissing, ifMissing.getMsgFormat());
+        code.beginControlFlow("if ($N.isEmpty())", value)
+            .addStatement("throw missingValue($N, $S)", descriptor, msgFormat)
+            .endControlFlow();
+    }
+
+    private void addPatternCheck(CodeBlock.Builder code, String value, String descriptor) {
+        PatternOption pattern = pattern();
+        String regex = pattern.getRegex();
+        if (regex.isEmpty()) {
+            return;
+        }
+        String msgFormat = msgFormat(pattern, pattern.getMsgFormat());
+        code.beginControlFlow("if (!$N.matcher($N).matches())", patternConstantName(), value)
+            .addStatement("throw invalidValue($N, $N, $S, $S)",
+                          descriptor, value, msgFormat, regex)
+            .endControlFlow();
+    }
+
+    private void addRangeChecks(CodeBlock.Builder code, String value, String descriptor) {
+        Optional<MinOption> min = min();
+        if (min.isPresent()) {
+            MinOption option = min.get();
+            String msgFormat = msgFormat(option, option.getMsgFormat());
+            code.beginControlFlow("if ($T.compare($N, $L) < 0)",
+                                  boxedType(), value, literal(option))
+                .addStatement("throw invalidValue($N, $N, $S, $S)",
+                              descriptor, value, msgFormat, option.getValue())
+                .endControlFlow();
+        }
+        Optional<MaxOption> max = max();
+        if (max.isPresent()) {
+            MaxOption option = max.get();
+            String msgFormat = msgFormat(option, option.getMsgFormat());
+            code.beginControlFlow("if ($T.compare($N, $L) > 0)",
+                                  boxedType(), value, literal(option))
+                .addStatement("throw invalidValue($N, $N, $S, $S)",
+                              descriptor, value, msgFormat, option.getValue())
+                .endControlFlow();
+        }
+    }
+
+    private void addDigitsCheck(CodeBlock.Builder code, String value, String descriptor) {
+        DigitsOption digits = Option.from(field, OptionsProto.digits)
+                                    .value();
+        int integerMax = digits.getIntegerMax();
+        int fractionMax = digits.getFractionMax();
+        if (integerMax < 1 || fractionMax < 1) {
+            return;
+        }
+        String msgFormat = msgFormat(digits, digits.getMsgFormat());
+        code.beginControlFlow("if (exceedsDigits($N, $L, $L))",
+                              value, integerMax, fractionMax)
+            .addStatement("throw invalidValue($N, $N, $S, $S, $S)",
+                          descriptor, value, msgFormat,
+                          String.valueOf(integerMax), String.valueOf(fractionMax))
+            .endControlFlow();
+    }
+
+    private PatternOption pattern() {
+        return Option.from(field, OptionsProto.pattern)
+                     .value();
+    }
+
+    private Optional<MinOption> min() {
+        MinOption min = Option.from(field, OptionsProto.min)
+                              .value();
+        return min.getValue()
+                  .isEmpty()
+               ? Optional.empty()
+               : Optional.of(min);
+    }
+
+    private Optional<MaxOption> max() {
+        MaxOption max = Option.from(field, OptionsProto.max)
+                              .value();
+        return max.getValue()
+                  .isEmpty()
+               ? Optional.empty()
+               : Optional.of(max);
+    }
+
+    private String patternConstantName() {
+        return field.getName()
+                    .toUpperCase(Locale.ROOT) + PATTERN_SUFFIX;
+    }
+
+    /**
+     * Obtains the name of the wrapper class, which is used to compare the field values.
+     *
+     * <p>The {@code compare(..)} methods of the wrappers give the same results as
+     * the runtime validation, including the comparison of {@code NaN} and negative zero.
+     */
+    private Class<? extends Number> boxedType() {
+        switch (type) {
+            case INT:
+                return Integer.class;
+            case LONG:
+                return Long.class;
+            case FLOAT:
+                return Float.class;
+            case DOUBLE:
+                return Double.class;
+            default:
+                throw new IllegalStateException("Not a number type: " + type);
+        }
+    }
+
+    private String literal(MinOption option) {
+        return literal(option.getValue());
+    }
+
+    private String literal(MaxOption option) {
+        return literal(option.getValue());
+    }
+
+    /**
+     * Converts the value of a range option into a Java literal of the field type.
+     *
+     * @throws NumberFormatException
+     *         if the value cannot be converted into the field type or is not finite
+     */
+    private String literal(String value) {
+        switch (type) {
+            case INT:
+                return String.valueOf(Integer.parseInt(value));
+            case LONG:
+                return Long.parseLong(value) + "L";
+            case FLOAT:
+                float floatValue = Float.parseFloat(value);
+                checkFinite(Float.isFinite(floatValue), value);
+                return floatValue + "F";
+            case DOUBLE:
+                double doubleValue = Double.parseDouble(value);
+                checkFinite(Double.isFinite(doubleValue), value);
+                return doubleValue + "D";
+            default:
+                throw new IllegalStateException("Not a number type: " + type);
+        }
+    }
+
+    private static void checkFinite(boolean finite, String value) {
+        if (!finite) {
+            throw new NumberFormatException("Not a finite number: " + value);
+        }
+    }
+
+    /**
+     * Obtains the violation message format, which is either a custom one or the default
+     * message of the option.
+     */
+    private static String msgFormat(Message option, String customMsg) {
+        if (!customMsg.isEmpty()) {
+            return customMsg;
+        }
+        String defaultMsg = option.getDescriptorForType()
+                                  .getOptions()
+                                  .getExtension(OptionsProto.defaultMessage);
+        return defaultMsg;
+    }
+}
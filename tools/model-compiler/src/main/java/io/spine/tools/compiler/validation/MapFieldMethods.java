@@ -215,6 +215,7 @@ class MapFieldMethods extends AbstractMethodGroup implements Logging {
                 .addStatement(createGetConvertedMapValue(),
                               Map.class, keyTypeName, valueTypeName,
                               keyTypeName, valueTypeName)
+                .addStatement(markChanged())
                 .addStatement(putAllStatement)
                 .addStatement(returnThis())
                 .build();
@@ -228,6 +229,8 @@ class MapFieldMethods extends AbstractMethodGroup implements Logging {
                                       getMessageBuilder(), methodName, KEY);
         MethodSpec result = newBuilderSetter(methodName)
                 .addParameter(keyTypeName, KEY)
+                .addStatement(descriptorDeclaration())
+                .addStatement(markChanged())
                 .addStatement(removeFromMap)
                 .addStatement(returnThis())
                 .build();
@@ -238,6 +241,8 @@ class MapFieldMethods extends AbstractMethodGroup implements Logging {
         String methodName = clearer().format(javaFieldName);
         String clearMap = format("%s.%s()", getMessageBuilder(), methodName);
         MethodSpec result = newBuilderSetter(methodName)
+                .addStatement(descriptorDeclaration())
+                .addStatement(markChanged())
                 .addStatement(clearMap)
                 .addStatement(returnThis())
                 .build();
@@ -279,6 +279,8 @@ final class RepeatedFieldMethods extends AbstractMethodGroup implements Logging
         String addValue = format("%s.%s(%s)", getMessageBuilder(), methodName, INDEX);
         MethodSpec result = newBuilderSetter(methodName)
                 .addParameter(TypeName.INT, INDEX)
+                .addStatement(descriptorDeclaration())
+                .addStatement(markChanged())
                 .addStatement(addValue)
                 .addStatement(returnThis())
                 .build();
@@ -304,6 +306,8 @@ final class RepeatedFieldMethods extends AbstractMethodGroup implements Logging
         String methodName = clearer().format(javaFieldName);
         String clearField = format("%s.%s()", getMessageBuilder(), clearer().format(javaFieldName));
         MethodSpec result = newBuilderSetter(methodName)
+                .addStatement(descriptorDeclaration())
+                .addStatement(markChanged())
                 .addStatement(clearField)
                 .addStatement(returnThis())
                 .build();
@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
 import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeName;
@@ -33,6 +34,7 @@ import io.spine.logging.Logging;
 import io.spine.tools.compiler.field.AccessorTemplates;
 import io.spine.tools.compiler.field.type.FieldType;
 import io.spine.validate.ValidationException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
 
@@ -57,6 +59,12 @@ class SingularFieldMethods extends AbstractMethodGroup implements Logging {
     private final FieldDescriptor field;
     private final FieldName javaFieldName;
 
+    /**
+     * The constraints of the field checked by the generated code or {@code null}
+     * if the field is validated by the runtime validation.
+     */
+    private final @Nullable InlineConstraints constraints;
+
     /**
      * Constructs the instance by the passed builder.
      *
@@ -70,6 +78,10 @@ class SingularFieldMethods extends AbstractMethodGroup implements Logging {
         this.field = builder.getField();
         this.fieldTypeName = fieldType.getTypeName();
         this.javaFieldName = FieldName.from(io.spine.code.proto.FieldName.of(field.toProto()));
+        this.constraints = inlinesConstraints()
+                           ? InlineConstraints.of(field)
+                                              .orElse(null)
+                           : null;
     }
 
     /**
@@ -103,15 +115,13 @@ class SingularFieldMethods extends AbstractMethodGroup implements Logging {
         ParameterSpec parameter = createParameterSpec(field.toProto(), false);
 
         String descriptorDeclaration = descriptorDeclaration();
-        String validateStatement = validateStatement(javaFieldName.value(), javaFieldName);
         String setStatement = format("%s.%s(%s)", getMessageBuilder(), methodName, javaFieldName);
         MethodSpec methodSpec =
                 newBuilderSetter(methodName)
                         .addParameter(parameter)
                         .addException(ValidationException.class)
                         .addStatement(descriptorDeclaration)
-                        .addStatement(validateSetOnce())
-                        .addStatement(validateStatement)
+                        .addCode(checks(javaFieldName.value(), true))
                         .addStatement(setStatement)
                         .addStatement(returnThis())
                         .build();
@@ -139,7 +149,9 @@ class SingularFieldMethods extends AbstractMethodGroup implements Logging {
         MethodSpec methodSpec =
                 newBuilderSetter(methodName)
                         .addStatement(descriptorDeclaration())
-                        .addStatement(validateSetOnce())
+                        .addStatement(inlinesConstraints()
+                                      ? setOnceCheck()
+                                      : validateSetOnce())
                         .addStatement(methodBody)
                         .addStatement(returnThis())
                         .build();
@@ -169,7 +181,7 @@ class SingularFieldMethods extends AbstractMethodGroup implements Logging {
                           .addException(ConversionException.class)
                           .addStatement(descriptorDeclaration())
                           .addStatement(convertStatement.value())
-                          .addStatement(validateStatement(convertedVariableName, javaFieldName))
+                          .addCode(checks(convertedVariableName, false))
                           .addStatement(setStatement)
                           .addStatement(returnThis())
                           .build();
@@ -177,6 +189,43 @@ class SingularFieldMethods extends AbstractMethodGroup implements Logging {
         return methodSpec;
     }
 
+    /**
+     * Obtains the code checking the new value of the field.
+     *
+     * <p>If the builder inlines constraints, checks the constraints known at the build time,
+     * falling back to the runtime validation for the fields which cannot be checked inline.
+     * Otherwise, always defers to the runtime validation.
+     *
+     * @param value
+     *         the name of the variable holding the new value
+     * @param checkSetOnce
+     *         if {@code true}, the {@code (set_once)} option is checked as well
+     */
+    private CodeBlock checks(String value, boolean checkSetOnce) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (inlinesConstraints()) {
+            code.addStatement(checkSetOnce ? setOnceCheck() : markChanged());
+        } else if (checkSetOnce) {
+            code.addStatement(validateSetOnce());
+        }
+        if (constraints != null) {
+            code.add(constraintChecks(constraints, value));
+        } else {
+            code.addStatement(validateStatement(value, javaFieldName));
+        }
+        return code.build();
+    }
+
+    /**
+     * Obtains the statement, which checks {@code (set_once)} if the field is known to have
+     * the option, or just reports the change otherwise.
+     */
+    private String setOnceCheck() {
+        return InlineConstraints.isSetOnce(field)
+               ? checkNotSet()
+               : markChanged();
+    }
+
     private ParameterSpec createParameterSpec(FieldDescriptorProto field, boolean raw) {
         TypeName methodParamType = raw
                                  ? stringClassName()
@@ -56,14 +56,20 @@ final class VBuilderCode implements Logging {
     private final Indent indent;
     private final MessageType type;
     private final SimpleClassName vbClass;
+    private final boolean inlineConstraints;
 
     private final TypeSpec.Builder classBuilder;
     private final String javaPackage;
 
     VBuilderCode(File targetDir, Indent indent, MessageType type) {
+        this(targetDir, indent, type, false);
+    }
+
+    VBuilderCode(File targetDir, Indent indent, MessageType type, boolean inlineConstraints) {
         this.targetDir = checkNotNull(targetDir);
         this.indent = checkNotNull(indent);
         this.type = checkNotNull(type);
+        this.inlineConstraints = inlineConstraints;
         this.vbClass = type.validatingBuilderClass();
         this.classBuilder = TypeSpec.classBuilder(vbClass.value());
         this.javaPackage = type.javaPackage()
@@ -91,7 +97,7 @@ final class VBuilderCode implements Logging {
         ClassName baseClass = ClassName.get(AbstractValidatingBuilder.class);
         ClassName messageClass = messageClass();
         ClassName messageBuilderClass = builderClass();
-        Collection<MethodSpec> methods = methodsOf(type);
+        Collection<MethodSpec> methods = methodsOf(type, inlineConstraints);
 
         ParameterizedTypeName superClass =
                 ParameterizedTypeName.get(baseClass, messageClass, messageBuilderClass);
@@ -99,6 +105,9 @@ final class VBuilderCode implements Logging {
         classBuilder.addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .superclass(superClass)
                     .addMethods(methods);
+        if (inlineConstraints) {
+            classBuilder.addFields(InlineConstraints.patternConstants(type));
+        }
         return classBuilder;
     }
 
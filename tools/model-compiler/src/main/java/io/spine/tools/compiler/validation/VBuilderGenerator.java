@@ -21,21 +21,30 @@
 package io.spine.tools.compiler.validation;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.generate.Indent;
 import io.spine.code.proto.FileSet;
 import io.spine.code.proto.MessageType;
 import io.spine.code.proto.SourceFile;
 import io.spine.code.proto.TypeSet;
 import io.spine.logging.Logging;
+import io.spine.tools.compiler.GenerationExecutor;
+import io.spine.tools.compiler.GenerationState;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 
 import java.io.File;
+import java.util.Optional;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Sets.newHashSet;
 import static java.lang.String.format;
 
 /**
@@ -54,6 +63,12 @@ public final class VBuilderGenerator implements Logging {
     /** Indentation for the generated code. */
     private final Indent indent;
 
+    /** If {@code true}, the constraints known at the build time are checked inline. */
+    private final boolean inlineConstraints;
+
+    /** Runs the generation of the validating builders for the processed types. */
+    private final GenerationExecutor executor;
+
     /**
      * Creates new instance of the generator.
      *
@@ -65,9 +80,54 @@ public final class VBuilderGenerator implements Logging {
      *         the indentation for generated code
      */
     public VBuilderGenerator(File protoSrcDir, File targetDir, Indent indent) {
+        this(protoSrcDir, targetDir, indent, false);
+    }
+
+    /**
+     * Creates new instance of the generator.
+     *
+     * @param protoSrcDir
+     *         the directory with proto source files
+     * @param targetDir
+     *         an absolute path to the folder, serving as a target for the code generation
+     * @param indent
+     *         the indentation for generated code
+     * @param inlineConstraints
+     *         if {@code true}, the generated setters check the constraints known at
+     *         the build time as plain Java code instead of calling the runtime validation
+     */
+    public VBuilderGenerator(File protoSrcDir,
+                             File targetDir,
+                             Indent indent,
+                             boolean inlineConstraints) {
+        this(protoSrcDir, targetDir, indent, inlineConstraints, GenerationExecutor.sequential());
+    }
+
+    /**
+     * Creates new instance of the generator.
+     *
+     * @param protoSrcDir
+     *         the directory with proto source files
+     * @param targetDir
+     *         an absolute path to the folder, serving as a target for the code generation
+     * @param indent
+     *         the indentation for generated code
+     * @param inlineConstraints
+     *         if {@code true}, the generated setters check the constraints known at
+     *         the build time as plain Java code instead of calling the runtime validation
+     * @param executor
+     *         the executor running the generation for the processed types
+     */
+    public VBuilderGenerator(File protoSrcDir,
+                             File targetDir,
+                             Indent indent,
+                             boolean inlineConstraints,
+                             GenerationExecutor executor) {
         this.protoSrcDir = protoSrcDir;
         this.targetDir = targetDir;
         this.indent = indent;
+        this.inlineConstraints = inlineConstraints;
+        this.executor = checkNotNull(executor);
         _debug("Initiating generation of validating builders. " +
                        "Proto src dir: {} Target dir: {}", protoSrcDir, targetDir);
     }
@@ -76,27 +136,82 @@ public final class VBuilderGenerator implements Logging {
         _debug("Generating validating builders for types from {}.", descriptorSetFile);
 
         FileSet fileSet = FileSet.parse(descriptorSetFile);
+        ImmutableList<MessageType> customTypes = customTypes(fileSet);
+        generate(customTypes);
+    }
+
+    /**
+     * Generates validating builders only for the types declared in the files which changed
+     * since the previous generation.
+     *
+     * <p>The validating builders generated from the changed files by the previous generation
+     * are deleted prior to the generation.
+     *
+     * @param descriptorSetFile
+     *         the descriptor set file with the types to process
+     * @param state
+     *         the state of the previous generation, which is updated by this generation
+     */
+    public void process(File descriptorSetFile, GenerationState state) {
+        _debug("Generating validating builders for changed types from {}.", descriptorSetFile);
+
+        FileSet fileSet = FileSet.parse(descriptorSetFile);
+        FileSet changed = state.changedFiles(fileSet);
+        ImmutableList<MessageType> customTypes = customTypes(changed);
+        ImmutableList<Optional<File>> results = generate(customTypes);
+        ListMultimap<FileDescriptor, File> generated = ArrayListMultimap.create();
+        Set<FileDescriptor> failed = newHashSet();
+        for (int i = 0; i < customTypes.size(); i++) {
+            FileDescriptor file = customTypes.get(i)
+                                             .descriptor()
+                                             .getFile();
+            Optional<File> written = results.get(i);
+            if (written.isPresent()) {
+                generated.put(file, written.get());
+            } else {
+                failed.add(file);
+            }
+        }
+        for (FileDescriptor file : changed.files()) {
+            // Failed files are not recorded to be processed again by the next generation.
+            if (!failed.contains(file)) {
+                state.record(file, generated.get(file));
+            }
+        }
+        state.store();
+    }
+
+    private ImmutableList<MessageType> customTypes(FileSet fileSet) {
         ImmutableCollection<MessageType> messageTypes = TypeSet.onlyMessages(fileSet);
-        ImmutableList<MessageType> customTypes =
+        ImmutableList<MessageType> result =
                 messageTypes.stream()
                             .filter(MessageType::isCustom)
                             .filter(MessageType::isNotRejection)
                             .filter(new SourceProtoBelongsToModule(protoSrcDir))
                             .collect(toImmutableList());
-        generate(customTypes);
+        return result;
     }
 
-    private void generate(ImmutableCollection<MessageType> messages) {
-
-        for (MessageType messageType : messages) {
-            try {
-                VBuilderCode code = new VBuilderCode(targetDir, indent, messageType);
-                code.write();
-            } catch (RuntimeException e) {
-                logError(messageType, e);
-            }
-        }
+    /**
+     * Generates the validating builders for the passed types.
+     *
+     * <p>The generation errors are logged in the order of the types.
+     *
+     * @return the generated files in the order of the types, or {@code Optional.empty()} for
+     *         the types for which the generation failed
+     */
+    @CanIgnoreReturnValue
+    private ImmutableList<Optional<File>> generate(ImmutableList<MessageType> messages) {
+        ImmutableList<Optional<File>> result =
+                executor.generate(messages, this::write, this::logError);
         _debug("Validating builder generation is finished.");
+        return result;
+    }
+
+    private File write(MessageType messageType) {
+        VBuilderCode code = new VBuilderCode(targetDir, indent, messageType, inlineConstraints);
+        File result = code.write();
+        return result;
     }
 
     private void logError(MessageType type, RuntimeException e) {
@@ -46,15 +46,31 @@ import static io.spine.tools.compiler.validation.Methods.returnThis;
 final class VBuilderMethods {
 
     private final MessageType type;
+    private final boolean inlineConstraints;
     @SuppressWarnings("DuplicateStringLiteralInspection") // local semantic.
     private static final String MERGE_FROM_METHOD_PARAMETER_NAME = "message";
 
-    private VBuilderMethods(MessageType messageType) {
+    private VBuilderMethods(MessageType messageType, boolean inlineConstraints) {
         this.type = messageType;
+        this.inlineConstraints = inlineConstraints;
     }
 
     static ImmutableList<MethodSpec> methodsOf(MessageType type) {
-        VBuilderMethods methods = new VBuilderMethods(type);
+        return methodsOf(type, false);
+    }
+
+    /**
+     * Creates the methods of the validating builder for the passed type.
+     *
+     * @param type
+     *         the type for which the builder is generated
+     * @param inlineConstraints
+     *         if {@code true}, the setters check the constraints known at the build time
+     *         instead of calling the runtime validation
+     * @return the generated methods
+     */
+    static ImmutableList<MethodSpec> methodsOf(MessageType type, boolean inlineConstraints) {
+        VBuilderMethods methods = new VBuilderMethods(type, inlineConstraints);
         return methods.all();
     }
 
@@ -67,6 +83,7 @@ final class VBuilderMethods {
         return ImmutableList.<MethodSpec>builder()
                 .add(privateConstructor())
                 .add(newBuilderMethod())
+                .add(tracksChangesMethod())
                 .addAll(fieldMethods())
                 .add(mergeFromMethod())
                 .build();
@@ -91,6 +108,21 @@ final class VBuilderMethods {
         return buildMethod;
     }
 
+    /**
+     * Creates the method which tells that all the modifications made by the generated methods
+     * are reported to the base class.
+     */
+    private static MethodSpec tracksChangesMethod() {
+        MethodSpec result = MethodSpec
+                .methodBuilder("tracksChanges")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(boolean.class)
+                .addStatement("return true")
+                .build();
+        return result;
+    }
+
     private ClassName validatingBuilderClass() {
         return ClassName.get(type.javaPackage()
                                  .value(), type.validatingBuilderClass()
@@ -203,6 +235,7 @@ final class VBuilderMethods {
                     .setJavaPackage(type.javaPackage()
                                         .value())
                     .setGenericClassName(messageClass())
+                    .setInlineConstraints(inlineConstraints)
                     .build();
             return methodGroup;
         }
@@ -20,17 +20,32 @@
 
 package io.spine.tools.gradle.compiler;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.spine.code.proto.FileSet;
+import io.spine.code.proto.TypeSet;
 import io.spine.tools.compiler.descriptor.FileDescriptorSuperset;
 import io.spine.tools.gradle.ConfigurationName;
 import io.spine.tools.gradle.SpinePlugin;
 import io.spine.tools.type.MoreKnownTypes;
+import io.spine.type.TypeIndex;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.artifacts.Configuration;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.Set;
 
+import static io.spine.code.proto.FileDescriptors.KNOWN_TYPES;
 import static io.spine.tools.gradle.ConfigurationName.RUNTIME;
 import static io.spine.tools.gradle.ConfigurationName.TEST_RUNTIME;
 import static io.spine.tools.gradle.TaskName.GENERATE_PROTO;
@@ -38,8 +53,11 @@ import static io.spine.tools.gradle.TaskName.GENERATE_TEST_PROTO;
 import static io.spine.tools.gradle.TaskName.GENERATE_TEST_VALIDATING_BUILDERS;
 import static io.spine.tools.gradle.TaskName.MERGE_DESCRIPTOR_SET;
 import static io.spine.tools.gradle.TaskName.MERGE_TEST_DESCRIPTOR_SET;
+import static io.spine.tools.gradle.compiler.Extension.getGenerationStateFile;
 import static io.spine.tools.gradle.compiler.Extension.getMainDescriptorSetPath;
 import static io.spine.tools.gradle.compiler.Extension.getTestDescriptorSetPath;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * A Gradle plugin which merges the descriptor file with all the descriptor files from
@@ -47,9 +65,19 @@ import static io.spine.tools.gradle.compiler.Extension.getTestDescriptorSetPath;
  *
  * <p>The merge result is used to {@linkplain
  * io.spine.tools.type.MoreKnownTypes#extendWith(java.io.File) extend the known type registry}.
+ *
+ * <p>Next to the merged descriptor set file, the plugin writes the {@linkplain TypeIndex index}
+ * of the types, which allows to resolve the types at runtime without linking the descriptors.
+ *
+ * <p>As the descriptor set file is merged in place, Gradle cannot consider the merging tasks
+ * up to date. Instead, the tasks remember the fingerprint of the merge result and skip merging
+ * if neither the descriptor set file nor the classpath changed since the previous merge.
  */
 public class DescriptorSetMergerPlugin extends SpinePlugin {
 
+    private static final String CLASSPATH_KEY = "classpath";
+    private static final String RESULT_KEY = "result";
+
     @Override
     public void apply(Project project) {
         createMainTask(project);
@@ -57,33 +85,52 @@ public class DescriptorSetMergerPlugin extends SpinePlugin {
     }
 
     private void createMainTask(Project project) {
+        Configuration configuration = configuration(project, RUNTIME);
+        String descriptorSetPath = getMainDescriptorSetPath(project);
+        File stateFile = getGenerationStateFile(project, MERGE_DESCRIPTOR_SET.getValue());
         newTask(MERGE_DESCRIPTOR_SET,
-                createMergingAction(configuration(project, RUNTIME),
-                                    getMainDescriptorSetPath(project)))
+                createMergingAction(configuration, descriptorSetPath, stateFile))
                 .insertAfterTask(GENERATE_PROTO)
+                .withLazyInputFiles(() -> configuration)
+                .withLazyInputFiles(() -> descriptorSetPath)
+                .withOutputFile(() -> indexFileOf(new File(descriptorSetPath)))
+                .withOutputFile(() -> stateFile)
                 .applyNowTo(project);
     }
 
     private void createTestTask(Project project) {
+        Configuration configuration = configuration(project, TEST_RUNTIME);
+        String descriptorSetPath = getTestDescriptorSetPath(project);
+        File stateFile = getGenerationStateFile(project, MERGE_TEST_DESCRIPTOR_SET.getValue());
         newTask(MERGE_TEST_DESCRIPTOR_SET,
-                createMergingAction(configuration(project, TEST_RUNTIME),
-                                    getTestDescriptorSetPath(project)))
+                createMergingAction(configuration, descriptorSetPath, stateFile))
                 .insertAfterTask(GENERATE_TEST_PROTO)
                 .insertBeforeTask(GENERATE_TEST_VALIDATING_BUILDERS)
+                .withLazyInputFiles(() -> configuration)
+                .withLazyInputFiles(() -> descriptorSetPath)
+                .withOutputFile(() -> indexFileOf(new File(descriptorSetPath)))
+                .withOutputFile(() -> stateFile)
                 .applyNowTo(project);
     }
 
     private static Action<Task> createMergingAction(Configuration configuration,
-                                                    String descriptorSetPath) {
+                                                    String descriptorSetPath,
+                                                    File stateFile) {
         return task -> {
             File descriptorSet = new File(descriptorSetPath);
-            FileDescriptorSuperset superset = new FileDescriptorSuperset();
-            configuration.forEach(superset::addFromDependency);
-            if (descriptorSet.exists()) {
-                superset.addFromDependency(descriptorSet);
+            Set<File> dependencies = configuration.getFiles();
+            String classpath = fingerprint(dependencies);
+            if (!isMerged(descriptorSet, classpath, stateFile)) {
+                FileDescriptorSuperset superset = new FileDescriptorSuperset();
+                superset.addFromDependencies(dependencies);
+                if (descriptorSet.exists()) {
+                    superset.addFromMergeTarget(descriptorSet);
+                }
+                superset.merge()
+                        .writeTo(descriptorSet);
+                writeTypeIndex(descriptorSet);
+                writeState(descriptorSet, classpath, stateFile);
             }
-            superset.merge()
-                    .writeTo(descriptorSet);
 
             // Extend `KnownTypes` with all the type definitions from all the descriptors
             // found in the classpath of the project being built.
@@ -91,6 +138,95 @@ public class DescriptorSetMergerPlugin extends SpinePlugin {
         };
     }
 
+    /**
+     * Verifies if the descriptor set file is the result of the previous merge with
+     * the same classpath.
+     */
+    private static boolean isMerged(File descriptorSet, String classpath, File stateFile) {
+        if (!descriptorSet.exists() || !stateFile.exists()) {
+            return false;
+        }
+        Properties state = new Properties();
+        try (InputStream in = new FileInputStream(stateFile)) {
+            state.load(in);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        boolean result = classpath.equals(state.getProperty(CLASSPATH_KEY))
+                && fingerprint(descriptorSet).equals(state.getProperty(RESULT_KEY))
+                && indexFileOf(descriptorSet).exists();
+        return result;
+    }
+
+    private static void writeState(File descriptorSet, String classpath, File stateFile) {
+        Properties state = new Properties();
+        state.setProperty(CLASSPATH_KEY, classpath);
+        state.setProperty(RESULT_KEY, fingerprint(descriptorSet));
+        try {
+            Files.createDirectories(stateFile.getParentFile()
+                                             .toPath());
+            try (OutputStream out = new FileOutputStream(stateFile)) {
+                state.store(out, null);
+            }
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the classpath.
+     *
+     * <p>The files, e.g. JARs, are fingerprinted by the paths, the sizes and the modification
+     * time. Rewriting a file in a directory does not change the size or the modification time
+     * of the directory. Thus, the directories are fingerprinted by the paths and the content of
+     * the descriptor set files in them, which are merged by {@link FileDescriptorSuperset}.
+     */
+    private static String fingerprint(Collection<File> classpath) {
+        Hasher hasher = Hashing.sha256()
+                               .newHasher();
+        for (File file : classpath) {
+            hasher.putString(file.getAbsolutePath(), UTF_8);
+            if (file.isDirectory()) {
+                File descriptorSet = new File(file, KNOWN_TYPES);
+                if (descriptorSet.isFile()) {
+                    hasher.putString(fingerprint(descriptorSet), UTF_8);
+                }
+            } else {
+                hasher.putLong(file.length())
+                      .putLong(file.lastModified());
+            }
+        }
+        String result = hasher.hash()
+                              .toString();
+        return result;
+    }
+
+    private static String fingerprint(File file) {
+        try {
+            byte[] content = Files.readAllBytes(file.toPath());
+            String result = Hashing.sha256()
+                                   .hashBytes(content)
+                                   .toString();
+            return result;
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private static File indexFileOf(File descriptorSet) {
+        return new File(descriptorSet.getParentFile(), TypeIndex.FILE_NAME);
+    }
+
+    /**
+     * Writes the {@linkplain TypeIndex index} of the types from the given descriptor set file
+     * next to the file.
+     */
+    private static void writeTypeIndex(File descriptorSet) {
+        TypeSet types = TypeSet.messagesAndEnums(FileSet.parse(descriptorSet));
+        TypeIndex.of(types)
+                 .writeTo(indexFileOf(descriptorSet));
+    }
+
     private static Configuration configuration(Project project, ConfigurationName name) {
         return project.getConfigurations()
                       .getByName(name.getValue());
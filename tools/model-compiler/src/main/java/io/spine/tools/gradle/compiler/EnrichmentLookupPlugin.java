@@ -20,6 +20,7 @@
 package io.spine.tools.gradle.compiler;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.Resources;
 import io.spine.tools.compiler.enrichment.EnrichmentLookup;
 import io.spine.tools.gradle.GradleTask;
 import io.spine.tools.gradle.SpinePlugin;
@@ -49,6 +50,9 @@ import static io.spine.tools.gradle.compiler.Extension.getTestTargetGenResources
  * <p>There can be several event types:
  *
  * <p>{@code ENRICHMENT_TYPE_NAME=FIRST_EVENT_TYPE_NAME,SECOND_EVENT_TYPE_NAME}
+ *
+ * <p>The lookup tasks are up to date, if the descriptor set files did not change since
+ * the previous lookup.
  */
 public class EnrichmentLookupPlugin extends SpinePlugin {
 
@@ -65,6 +69,9 @@ public class EnrichmentLookupPlugin extends SpinePlugin {
         return newTask(FIND_ENRICHMENTS, mainScopeAction)
                 .insertAfterTask(COMPILE_JAVA)
                 .insertBeforeTask(PROCESS_RESOURCES)
+                .withLazyInputFiles(() -> getMainDescriptorSetPath(project))
+                .withOutputFile(() -> propertiesFile(getMainTargetGenResourcesDir(project)))
+                .cacheable()
                 .applyNowTo(project);
     }
 
@@ -74,9 +81,16 @@ public class EnrichmentLookupPlugin extends SpinePlugin {
         return newTask(FIND_TEST_ENRICHMENTS, testScopeAction)
                 .insertAfterTask(COMPILE_TEST_JAVA)
                 .insertBeforeTask(PROCESS_TEST_RESOURCES)
+                .withLazyInputFiles(() -> getTestDescriptorSetPath(project))
+                .withOutputFile(() -> propertiesFile(getTestTargetGenResourcesDir(project)))
+                .cacheable()
                 .applyNowTo(project);
     }
 
+    private static File propertiesFile(String targetDir) {
+        return new File(targetDir, Resources.ENRICHMENTS);
+    }
+
     private Action<Task> testScopeActionFor(Project project) {
         _debug("Initializing the enrichment lookup for the \"test\" source code");
         return task -> findEnrichmentsAndWriteProps(getTestDescriptorSetPath(project),
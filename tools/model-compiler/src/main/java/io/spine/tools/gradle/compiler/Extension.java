@@ -49,6 +49,9 @@ import static io.spine.util.Exceptions.newIllegalStateException;
         "ClassWithTooManyFields" /* OK for a Gradle extension to have a flat structure. */})
 public class Extension {
 
+    private static final String GENERATION_STATE_DIR = "generation";
+    private static final String GENERATION_STATE_EXTENSION = ".properties";
+
     /**
      * The absolute path to the main target generated resources directory.
      */
@@ -135,11 +138,31 @@ public class Extension {
      */
     public boolean generateValidatingBuilders = true;
 
+    /**
+     * The flag which determines if the validating builders check the constraints known at
+     * the build time as plain Java code.
+     *
+     * <p>If {@code true}, the setters of the generated builders check the {@code (required)},
+     * {@code (pattern)}, {@code (min)}, {@code (max)}, {@code (digits)} and {@code (set_once)}
+     * constraints without the reflective runtime validation. Fields with other constraints
+     * are still validated at runtime.
+     */
+    public boolean inlineConstraints = false;
+
     /**
      * The indent for the generated code in the validating builders.
      */
     public Indent indent = Indent.of4();
 
+    /**
+     * The flag which determines if the validating builders and the rejections are generated
+     * in parallel.
+     *
+     * <p>If {@code true}, the code is generated using as many threads as there are available
+     * processors. The generated code is the same as in the sequential mode.
+     */
+    public boolean parallelCodeGeneration = false;
+
     /**
      * The absolute paths to directories to delete.
      *
@@ -252,6 +275,18 @@ public class Extension {
                                          .testSpine());
     }
 
+    /**
+     * Obtains the file storing the {@linkplain io.spine.tools.compiler.GenerationState state}
+     * of the code generation performed by the task with the given name.
+     *
+     * <p>The file is located in the directory for the temporary Spine build artifacts.
+     */
+    public static File getGenerationStateFile(Project project, String taskName) {
+        File stateDir = new File(def(project).tempArtifacts(), GENERATION_STATE_DIR);
+        File result = new File(stateDir, taskName + GENERATION_STATE_EXTENSION);
+        return result;
+    }
+
     private static String pathOrDefault(String path, Object defaultValue) {
         return isNullOrEmpty(path)
                ? defaultValue.toString()
@@ -264,6 +299,18 @@ public class Extension {
         return result;
     }
 
+    public static boolean isInlineConstraints(Project project) {
+        boolean result = spineProtobuf(project).inlineConstraints;
+        log().debug("The current constraint inlining setting is {}", result);
+        return result;
+    }
+
+    public static boolean isParallelCodeGeneration(Project project) {
+        boolean result = spineProtobuf(project).parallelCodeGeneration;
+        log().debug("The current parallel code generation setting is {}", result);
+        return result;
+    }
+
     public static Indent getIndent(Project project) {
         Indent result = spineProtobuf(project).indent;
         log().debug("The current indent is {}", result.getSize());
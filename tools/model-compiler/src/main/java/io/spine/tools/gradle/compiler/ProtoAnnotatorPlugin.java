@@ -22,6 +22,7 @@ package io.spine.tools.gradle.compiler;
 
 import com.google.common.collect.ImmutableSet;
 import io.spine.code.java.ClassName;
+import io.spine.tools.compiler.GenerationExecutor;
 import io.spine.tools.compiler.annotation.AnnotatorFactory;
 import io.spine.tools.compiler.annotation.ModuleAnnotator;
 import io.spine.tools.gradle.SpinePlugin;
@@ -52,6 +53,7 @@ import static io.spine.tools.gradle.compiler.Extension.getMainGenProtoDir;
 import static io.spine.tools.gradle.compiler.Extension.getTestDescriptorSetPath;
 import static io.spine.tools.gradle.compiler.Extension.getTestGenGrpcDir;
 import static io.spine.tools.gradle.compiler.Extension.getTestGenProtoDir;
+import static io.spine.tools.gradle.compiler.Extension.isParallelCodeGeneration;
 
 /**
  * A plugin that annotates generated Java sources from {@code .proto} files.
@@ -227,6 +229,7 @@ public class ProtoAnnotatorPlugin extends SpinePlugin {
                     .add(translate(internal()).as(internalClassName))
                     .setInternalPatterns(internalClassPatterns)
                     .setInternalAnnotation(internalClassName)
+                    .setExecutor(GenerationExecutor.of(isParallelCodeGeneration(project)))
                     .build();
             moduleAnnotator.annotate();
         };
@@ -19,16 +19,23 @@
  */
 package io.spine.tools.gradle.compiler;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
+import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.generate.Indent;
 import io.spine.code.java.PackageName;
 import io.spine.code.java.SimpleClassName;
 import io.spine.code.proto.FileSet;
 import io.spine.code.proto.RejectionType;
 import io.spine.code.proto.RejectionsFile;
+import io.spine.tools.compiler.GenerationExecutor;
+import io.spine.tools.compiler.GenerationState;
 import io.spine.tools.compiler.rejection.RejectionWriter;
 import io.spine.tools.gradle.GradleTask;
 import io.spine.tools.gradle.SpinePlugin;
+import io.spine.tools.type.MoreKnownTypes;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
@@ -36,6 +43,7 @@ import org.slf4j.Logger;
 
 import java.io.File;
 import java.util.List;
+import java.util.Optional;
 
 import static io.spine.tools.gradle.TaskName.COMPILE_JAVA;
 import static io.spine.tools.gradle.TaskName.COMPILE_TEST_JAVA;
@@ -43,11 +51,13 @@ import static io.spine.tools.gradle.TaskName.GENERATE_REJECTIONS;
 import static io.spine.tools.gradle.TaskName.GENERATE_TEST_REJECTIONS;
 import static io.spine.tools.gradle.TaskName.MERGE_DESCRIPTOR_SET;
 import static io.spine.tools.gradle.TaskName.MERGE_TEST_DESCRIPTOR_SET;
+import static io.spine.tools.gradle.compiler.Extension.getGenerationStateFile;
 import static io.spine.tools.gradle.compiler.Extension.getIndent;
 import static io.spine.tools.gradle.compiler.Extension.getMainDescriptorSetPath;
 import static io.spine.tools.gradle.compiler.Extension.getTargetGenRejectionsRootDir;
 import static io.spine.tools.gradle.compiler.Extension.getTargetTestGenRejectionsRootDir;
 import static io.spine.tools.gradle.compiler.Extension.getTestDescriptorSetPath;
+import static io.spine.tools.gradle.compiler.Extension.isParallelCodeGeneration;
 
 /**
  * Plugin which generates Rejections declared in {@code rejections.proto} files.
@@ -55,9 +65,18 @@ import static io.spine.tools.gradle.compiler.Extension.getTestDescriptorSetPath;
  * <p>Uses generated proto descriptors.
  *
  * <p>Logs a warning if there are no protobuf descriptors generated.
+ *
+ * <p>If the {@code parallelCodeGeneration} property of the {@code modelCompiler} extension is
+ * {@code true}, the rejections are generated in parallel.
+ *
+ * <p>The generation is incremental. Only the rejections declared in the proto files, which
+ * changed since the previous generation, are regenerated. The tasks are not cacheable, as they
+ * share the output directory with the validating builder generation tasks.
  */
 public class RejectionGenPlugin extends SpinePlugin {
 
+    private static final String INDENT_PROPERTY = "indent";
+
     /**
      * Applies the plug-in to a project.
      *
@@ -74,22 +93,31 @@ public class RejectionGenPlugin extends SpinePlugin {
         Action<Task> mainScopeAction = task -> {
             File mainFile = new File(getMainDescriptorSetPath(project));
             String targetFolder = getTargetGenRejectionsRootDir(project);
+            File stateFile = getGenerationStateFile(project, GENERATE_REJECTIONS.getValue());
+            GenerationExecutor executor = GenerationExecutor.of(isParallelCodeGeneration(project));
 
-            generateRejections(mainFile, targetFolder, indent);
+            generateRejections(mainFile, targetFolder, stateFile, indent, executor);
         };
 
         GradleTask mainTask =
                 newTask(GENERATE_REJECTIONS, mainScopeAction)
                         .insertAfterTask(MERGE_DESCRIPTOR_SET)
                         .insertBeforeTask(COMPILE_JAVA)
+                        .withLazyInputFiles(() -> getMainDescriptorSetPath(project))
+                        .withInputProperty(INDENT_PROPERTY, indent::getSize)
+                        .withOutputDir(() -> getTargetGenRejectionsRootDir(project))
+                        .withOutputFile(() -> getGenerationStateFile(
+                                project, GENERATE_REJECTIONS.getValue()))
                         .applyNowTo(project);
 
         Action<Task> testScopeAction = task -> {
             File mainFile = new File(getMainDescriptorSetPath(project));
             File testFile = new File(getTestDescriptorSetPath(project));
             String targetFolder = getTargetTestGenRejectionsRootDir(project);
+            File stateFile = getGenerationStateFile(project, GENERATE_TEST_REJECTIONS.getValue());
+            GenerationExecutor executor = GenerationExecutor.of(isParallelCodeGeneration(project));
 
-            generateTestRejections(mainFile, testFile, targetFolder, indent);
+            generateTestRejections(mainFile, testFile, targetFolder, stateFile, indent, executor);
         };
 
 
@@ -97,6 +125,12 @@ public class RejectionGenPlugin extends SpinePlugin {
                 newTask(GENERATE_TEST_REJECTIONS, testScopeAction)
                         .insertAfterTask(MERGE_TEST_DESCRIPTOR_SET)
                         .insertBeforeTask(COMPILE_TEST_JAVA)
+                        .withLazyInputFiles(() -> getMainDescriptorSetPath(project))
+                        .withLazyInputFiles(() -> getTestDescriptorSetPath(project))
+                        .withInputProperty(INDENT_PROPERTY, indent::getSize)
+                        .withOutputDir(() -> getTargetTestGenRejectionsRootDir(project))
+                        .withOutputFile(() -> getGenerationStateFile(
+                                project, GENERATE_TEST_REJECTIONS.getValue()))
                         .applyNowTo(project);
 
         log.debug("Rejection generation phase initialized with tasks: {}, {}", mainTask, testTask);
@@ -113,7 +147,11 @@ public class RejectionGenPlugin extends SpinePlugin {
         return false;
     }
 
-    private void generateRejections(File mainFile, String targetFolder, Indent indent) {
+    private void generateRejections(File mainFile,
+                                    String targetFolder,
+                                    File stateFile,
+                                    Indent indent,
+                                    GenerationExecutor executor) {
 
         if (!fileExists(mainFile)) {
             return;
@@ -121,39 +159,76 @@ public class RejectionGenPlugin extends SpinePlugin {
 
         log().debug("Generating rejections from {}", mainFile);
 
+        // The merging task does not extend the known types if it is up to date.
+        MoreKnownTypes.extendWith(mainFile);
         FileSet mainFiles = FileSet.parse(mainFile);
-        ImmutableSet<RejectionsFile> rejectionFiles = RejectionsFile.findAll(mainFiles);
-        doGenerate(rejectionFiles, targetFolder, indent);
+        doGenerate(mainFiles, targetFolder, stateFile, indent, executor);
     }
 
     private void generateTestRejections(File mainFile,
                                         File testFile,
                                         String targetFolder,
-                                        Indent indent) {
+                                        File stateFile,
+                                        Indent indent,
+                                        GenerationExecutor executor) {
         if (!(fileExists(mainFile) && fileExists(testFile))) {
             return;
         }
 
         log().debug("Generating test rejections from {}", testFile);
 
+        MoreKnownTypes.extendWith(testFile);
         FileSet testFiles = FileSet.parse(testFile);
-
-        ImmutableSet<RejectionsFile> rejectionFiles = RejectionsFile.findAll(testFiles);
-        doGenerate(rejectionFiles, targetFolder, indent);
+        doGenerate(testFiles, targetFolder, stateFile, indent, executor);
     }
 
-    private void doGenerate(Iterable<RejectionsFile> files, String outDir, Indent indent) {
+    /**
+     * Generates the rejections declared in the passed files, which changed since
+     * the previous generation.
+     *
+     * <p>If the generation of some rejections fails, the error for the first of them in
+     * the order of declaration is thrown.
+     */
+    private void doGenerate(FileSet files,
+                            String outDir,
+                            File stateFile,
+                            Indent indent,
+                            GenerationExecutor executor) {
         Logger log = log();
-        log.debug("Processing the file descriptors for the rejections {}", files);
-        for (RejectionsFile file : files) {
+        String settings = "indent=" + indent.getSize();
+        GenerationState state = GenerationState.load(stateFile, new File(outDir), settings);
+        FileSet changed = state.changedFiles(files);
+        ImmutableSet<RejectionsFile> rejectionFiles = RejectionsFile.findAll(changed);
+        log.debug("Processing the file descriptors for the rejections {}", rejectionFiles);
+        ImmutableList.Builder<RejectionType> rejections = ImmutableList.builder();
+        for (RejectionsFile file : rejectionFiles) {
             // We are sure that this is a rejections file because we got them filtered.
-            generateRejections(file, outDir, indent);
+            rejections.addAll(rejectionsOf(file));
+        }
+        File rejectionsRootDir = new File(outDir);
+        ImmutableList<RejectionType> declarations = rejections.build();
+        ImmutableList<Optional<File>> generated = executor.generate(
+                declarations,
+                rejection -> write(rejection, rejectionsRootDir, indent),
+                (rejection, e) -> {
+                    throw e;
+                }
+        );
+        ListMultimap<FileDescriptor, File> generatedByFile = ArrayListMultimap.create();
+        for (int i = 0; i < declarations.size(); i++) {
+            FileDescriptor file = declarations.get(i)
+                                              .descriptor()
+                                              .getFile();
+            generated.get(i)
+                     .ifPresent(javaFile -> generatedByFile.put(file, javaFile));
+        }
+        for (FileDescriptor file : changed.files()) {
+            state.record(file, generatedByFile.get(file));
         }
+        state.store();
     }
 
-    private void generateRejections(RejectionsFile file,
-                                    String rejectionsRootDir,
-                                    Indent indent) {
+    private List<RejectionType> rejectionsOf(RejectionsFile file) {
         Logger log = log();
         if (log.isDebugEnabled()) {
             log.debug(
@@ -164,15 +239,15 @@ public class RejectionGenPlugin extends SpinePlugin {
                 SimpleClassName.outerOf(file.getDescriptor())
             );
         }
+        return file.getRejectionDeclarations();
+    }
 
-        List<RejectionType> rejections = file.getRejectionDeclarations();
-        File outDir = new File(rejectionsRootDir);
-        for (RejectionType rejection : rejections) {
-            // The name of the generated `ThrowableMessage` will be the same
-            // as for the Protobuf message.
-            log.debug("Processing rejection '{}'", rejection.simpleJavaClassName());
-            RejectionWriter writer = new RejectionWriter(rejection, outDir, indent);
-            writer.write();
-        }
+    private File write(RejectionType rejection, File outDir, Indent indent) {
+        // The name of the generated `ThrowableMessage` will be the same
+        // as for the Protobuf message.
+        log().debug("Processing rejection '{}'", rejection.simpleJavaClassName());
+        RejectionWriter writer = new RejectionWriter(rejection, outDir, indent);
+        File result = writer.write();
+        return result;
     }
 }
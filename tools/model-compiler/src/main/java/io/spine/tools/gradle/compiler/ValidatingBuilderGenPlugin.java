@@ -22,9 +22,13 @@ package io.spine.tools.gradle.compiler;
 
 import io.spine.code.generate.Indent;
 import io.spine.logging.Logging;
+import io.spine.tools.compiler.GenerationExecutor;
+import io.spine.tools.compiler.GenerationState;
 import io.spine.tools.compiler.validation.VBuilderGenerator;
 import io.spine.tools.gradle.GradleTask;
 import io.spine.tools.gradle.SpinePlugin;
+import io.spine.tools.gradle.TaskName;
+import io.spine.tools.type.MoreKnownTypes;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
@@ -40,6 +44,7 @@ import static io.spine.tools.gradle.TaskName.GENERATE_TEST_VALIDATING_BUILDERS;
 import static io.spine.tools.gradle.TaskName.GENERATE_VALIDATING_BUILDERS;
 import static io.spine.tools.gradle.TaskName.MERGE_DESCRIPTOR_SET;
 import static io.spine.tools.gradle.TaskName.MERGE_TEST_DESCRIPTOR_SET;
+import static io.spine.tools.gradle.compiler.Extension.getGenerationStateFile;
 import static io.spine.tools.gradle.compiler.Extension.getIndent;
 import static io.spine.tools.gradle.compiler.Extension.getMainDescriptorSetPath;
 import static io.spine.tools.gradle.compiler.Extension.getMainProtoSrcDir;
@@ -48,6 +53,9 @@ import static io.spine.tools.gradle.compiler.Extension.getTargetTestGenValidator
 import static io.spine.tools.gradle.compiler.Extension.getTestDescriptorSetPath;
 import static io.spine.tools.gradle.compiler.Extension.getTestProtoSrcDir;
 import static io.spine.tools.gradle.compiler.Extension.isGenerateValidatingBuilders;
+import static io.spine.tools.gradle.compiler.Extension.isInlineConstraints;
+import static io.spine.tools.gradle.compiler.Extension.isParallelCodeGeneration;
+import static java.lang.String.format;
 
 /**
  * Plugin which generates validating builders based on the Protobuf Message definitions.
@@ -68,6 +76,16 @@ import static io.spine.tools.gradle.compiler.Extension.isGenerateValidatingBuild
  *
  * <p>The default value of the {@code generateValidatingBuilders} property is {@code true}.
  *
+ * <p>By default, the generated setters delegate the validation of the new field values to
+ * the runtime validation. To make the setters check the constraints known at the build time
+ * as plain Java code, use the {@code inlineConstraints} property:
+ *
+ * <pre>{@code
+ * modelCompiler {
+ *     inlineConstraints = true
+ * }
+ * }</pre>
+ *
  * <p>The indentation for the generated code is done with whitespaces. The default indentation is 4.
  * To set another value, please use the {@code indent} property:
  *
@@ -77,6 +95,18 @@ import static io.spine.tools.gradle.compiler.Extension.isGenerateValidatingBuild
  * }
  * }</pre>
  *
+ * <p>To generate the validating builders in parallel, use the {@code parallelCodeGeneration}
+ * property:
+ *
+ * <pre>{@code
+ * modelCompiler {
+ *     parallelCodeGeneration = true
+ * }
+ * }</pre>
+ *
+ * <p>The generation is incremental. Only the validating builders for the types declared in
+ * the proto files, which changed since the previous generation, are regenerated.
+ *
  * @see io.spine.validate.ValidatingBuilder
  * @see io.spine.validate.AbstractValidatingBuilder
  */
@@ -90,10 +120,15 @@ public class ValidatingBuilderGenPlugin extends SpinePlugin {
                 createAction(project,
                              () -> getMainDescriptorSetPath(project),
                              () -> getTargetGenValidatorsRootDir(project),
-                             () -> getMainProtoSrcDir(project));
+                             () -> getMainProtoSrcDir(project),
+                             GENERATE_VALIDATING_BUILDERS);
 
         GradleTask generateValidator =
-                newTask(GENERATE_VALIDATING_BUILDERS, mainScopeAction)
+                declareIO(newTask(GENERATE_VALIDATING_BUILDERS, mainScopeAction),
+                          project,
+                          () -> getMainDescriptorSetPath(project),
+                          () -> getTargetGenValidatorsRootDir(project),
+                          GENERATE_VALIDATING_BUILDERS)
                         .insertAfterTask(MERGE_DESCRIPTOR_SET)
                         .insertBeforeTask(COMPILE_JAVA)
                         .applyNowTo(project);
@@ -102,10 +137,15 @@ public class ValidatingBuilderGenPlugin extends SpinePlugin {
                 createAction(project,
                              () -> getTestDescriptorSetPath(project),
                              () -> getTargetTestGenValidatorsRootDir(project),
-                             () -> getTestProtoSrcDir(project));
+                             () -> getTestProtoSrcDir(project),
+                             GENERATE_TEST_VALIDATING_BUILDERS);
 
         GradleTask generateTestValidator =
-                newTask(GENERATE_TEST_VALIDATING_BUILDERS, testScopeAction)
+                declareIO(newTask(GENERATE_TEST_VALIDATING_BUILDERS, testScopeAction),
+                          project,
+                          () -> getTestDescriptorSetPath(project),
+                          () -> getTargetTestGenValidatorsRootDir(project),
+                          GENERATE_TEST_VALIDATING_BUILDERS)
                         .insertAfterTask(MERGE_TEST_DESCRIPTOR_SET)
                         .insertBeforeTask(COMPILE_TEST_JAVA)
                         .applyNowTo(project);
@@ -116,8 +156,31 @@ public class ValidatingBuilderGenPlugin extends SpinePlugin {
     private Action<Task> createAction(Project project,
                                       Supplier<String> descriptorPath,
                                       Supplier<String> targetDirPath,
-                                      Supplier<String> protoSrcDirPath) {
-        return new GenAction(this, project, descriptorPath, targetDirPath, protoSrcDirPath);
+                                      Supplier<String> protoSrcDirPath,
+                                      TaskName taskName) {
+        return new GenAction(this, project, descriptorPath, targetDirPath, protoSrcDirPath,
+                             taskName);
+    }
+
+    /**
+     * Declares the inputs and the outputs of the generation task, so that the task is up to date
+     * if neither the descriptors nor the generation settings changed.
+     *
+     * <p>The task is not cacheable, as its output directory is shared with the rejection
+     * generation tasks, and Gradle does not cache the tasks with overlapping outputs.
+     */
+    private static GradleTask.Builder declareIO(GradleTask.Builder task,
+                                                Project project,
+                                                Supplier<String> descriptorPath,
+                                                Supplier<String> targetDirPath,
+                                                TaskName taskName) {
+        return task.withLazyInputFiles(descriptorPath)
+                   .withInputProperty("generateValidatingBuilders",
+                                      () -> isGenerateValidatingBuilders(project))
+                   .withInputProperty("inlineConstraints", () -> isInlineConstraints(project))
+                   .withInputProperty("indent", () -> getIndent(project).getSize())
+                   .withOutputDir(targetDirPath)
+                   .withOutputFile(() -> getGenerationStateFile(project, taskName.getValue()));
     }
 
     /**
@@ -153,16 +216,24 @@ public class ValidatingBuilderGenPlugin extends SpinePlugin {
          */
         private final Supplier<String> protoSrcDirPath;
 
+        /**
+         * The name of the task, which stores the {@linkplain GenerationState state}
+         * of the generation.
+         */
+        private final TaskName taskName;
+
         private GenAction(ValidatingBuilderGenPlugin plugin,
                           Project project,
                           Supplier<String> descriptorPath,
                           Supplier<String> targetDirPath,
-                          Supplier<String> protoSrcDirPath) {
+                          Supplier<String> protoSrcDirPath,
+                          TaskName taskName) {
             this.plugin = plugin;
             this.project = project;
             this.descriptorPath = descriptorPath;
             this.targetDirPath = targetDirPath;
             this.protoSrcDirPath = protoSrcDirPath;
+            this.taskName = taskName;
         }
 
         @Override
@@ -179,8 +250,19 @@ public class ValidatingBuilderGenPlugin extends SpinePlugin {
             Indent indent = getIndent(project);
             File protoSrcDir = resolve(protoSrcDirPath);
             File targetDir = resolve(targetDirPath);
-            VBuilderGenerator generator = new VBuilderGenerator(protoSrcDir, targetDir, indent);
-            generator.process(setFile);
+            boolean inlineConstraints = isInlineConstraints(project);
+            GenerationExecutor executor = GenerationExecutor.of(isParallelCodeGeneration(project));
+            VBuilderGenerator generator = new VBuilderGenerator(
+                    protoSrcDir, targetDir, indent, inlineConstraints, executor
+            );
+            String settings = format("indent=%d;inlineConstraints=%s;protoSrcDir=%s",
+                                     indent.getSize(), inlineConstraints, protoSrcDir);
+            File stateFile = getGenerationStateFile(project, taskName.getValue());
+            GenerationState state = GenerationState.load(stateFile, targetDir, settings);
+
+            // The merging task does not extend the known types if it is up to date.
+            MoreKnownTypes.extendWith(setFile);
+            generator.process(setFile, state);
         }
 
         private File resolve(Supplier<String> path) {
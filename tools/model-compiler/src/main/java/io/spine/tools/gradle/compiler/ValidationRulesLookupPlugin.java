@@ -24,6 +24,7 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.spine.tools.compiler.validation.ValidationRulesWriter;
 import io.spine.tools.gradle.GradleTask;
 import io.spine.tools.gradle.SpinePlugin;
+import io.spine.validate.rule.ValidationRules;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
@@ -47,6 +48,9 @@ import static io.spine.tools.gradle.compiler.Extension.getTestTargetGenResources
  * <p>For the syntax of generated properties file please see
  * {@link io.spine.tools.compiler.validation.ValidationRulesWriter}.
  *
+ * <p>The lookup tasks are up to date, if the descriptor set files did not change since
+ * the previous lookup.
+ *
  * @see io.spine.tools.compiler.validation.ValidationRulesWriter
  */
 public class ValidationRulesLookupPlugin extends SpinePlugin {
@@ -64,6 +68,9 @@ public class ValidationRulesLookupPlugin extends SpinePlugin {
         return newTask(FIND_VALIDATION_RULES, mainScopeAction)
                 .insertAfterTask(MERGE_DESCRIPTOR_SET)
                 .insertBeforeTask(PROCESS_RESOURCES)
+                .withLazyInputFiles(() -> getMainDescriptorSetPath(project))
+                .withOutputFile(() -> propertiesFile(getMainTargetGenResourcesDir(project)))
+                .cacheable()
                 .applyNowTo(project);
     }
 
@@ -73,9 +80,16 @@ public class ValidationRulesLookupPlugin extends SpinePlugin {
         return newTask(FIND_TEST_VALIDATION_RULES, testScopeAction)
                 .insertAfterTask(MERGE_TEST_DESCRIPTOR_SET)
                 .insertBeforeTask(PROCESS_TEST_RESOURCES)
+                .withLazyInputFiles(() -> getTestDescriptorSetPath(project))
+                .withOutputFile(() -> propertiesFile(getTestTargetGenResourcesDir(project)))
+                .cacheable()
                 .applyNowTo(project);
     }
 
+    private static File propertiesFile(String targetDir) {
+        return new File(targetDir, ValidationRules.fileName());
+    }
+
     private Action<Task> mainScopeActionFor(Project project) {
         _debug("Initializing the validation lookup for the `main` source code.");
         return task -> {
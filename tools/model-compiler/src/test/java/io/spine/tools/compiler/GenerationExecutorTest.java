@@ -0,0 +1,352 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Timestamp;
+import io.spine.code.generate.Indent;
+import io.spine.code.proto.RejectionType;
+import io.spine.code.proto.RejectionsFile;
+import io.spine.code.proto.SourceFile;
+import io.spine.test.tools.validation.builder.TheOuterProto;
+import io.spine.test.tools.validation.builder.VbtProject;
+import io.spine.test.tools.validation.builder.VbtScalarFields;
+import io.spine.test.tools.validation.builder.VbtTree;
+import io.spine.tools.compiler.rejection.RejectionWriter;
+import io.spine.tools.compiler.validation.VBuilderGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("GenerationExecutor should")
+class GenerationExecutorTest {
+
+    private static final int ITEMS = 1000;
+    private static final int FAILING_DIVISOR = 7;
+    private static final int REJECTIONS = 20;
+
+    private static final ImmutableList<Integer> items =
+            IntStream.range(0, ITEMS)
+                     .boxed()
+                     .collect(toImmutableList());
+
+    @Nested
+    @DisplayName("in the parallel mode")
+    class Parallel {
+
+        private final GenerationExecutor executor = GenerationExecutor.parallel(4);
+
+        @Test
+        @DisplayName("return the results in the order of the items")
+        void keepOrder() {
+            ImmutableList<Optional<String>> results =
+                    executor.generate(items, String::valueOf, (item, e) -> {});
+
+            assertThat(results).isEqualTo(sequentialResults());
+        }
+
+        @Test
+        @DisplayName("report the errors in the order of the items")
+        void reportErrorsInOrder() {
+            List<Integer> failed = new CopyOnWriteArrayList<>();
+            ImmutableList<Optional<String>> results =
+                    executor.generate(items, GenerationExecutorTest::failSome,
+                                      (item, e) -> failed.add(item));
+
+            assertThat(results).isEqualTo(sequentialFailingResults());
+            assertThat(failed).isEqualTo(failingItems());
+        }
+
+        @Test
+        @DisplayName("rethrow the first error if the error handler throws it")
+        void rethrowFirstError() {
+            IllegalStateException exception = assertThrows(
+                    IllegalStateException.class,
+                    () -> executor.generate(items, GenerationExecutorTest::failSome,
+                                            (item, e) -> {
+                                                throw e;
+                                            })
+            );
+            assertThat(exception).hasMessageThat()
+                                 .isEqualTo("0");
+        }
+    }
+
+    @Nested
+    @DisplayName("in the sequential mode")
+    class Sequential {
+
+        private final GenerationExecutor executor = GenerationExecutor.sequential();
+
+        @Test
+        @DisplayName("report the errors in the order of the items")
+        void reportErrorsInOrder() {
+            List<Integer> failed = new CopyOnWriteArrayList<>();
+            ImmutableList<Optional<String>> results =
+                    executor.generate(items, GenerationExecutorTest::failSome,
+                                      (item, e) -> failed.add(item));
+
+            assertThat(results).isEqualTo(sequentialFailingResults());
+            assertThat(failed).isEqualTo(failingItems());
+        }
+    }
+
+    @Nested
+    @ExtendWith(TempDirectory.class)
+    @DisplayName("generate the same files in both modes for")
+    class SameFiles {
+
+        private final GenerationExecutor sequential = GenerationExecutor.sequential();
+        private final GenerationExecutor parallel = GenerationExecutor.parallel(4);
+
+        private File sequentialDir;
+        private File parallelDir;
+        private File tempDir;
+
+        @BeforeEach
+        void setUp(@TempDirectory.TempDir Path tempDirPath) {
+            tempDir = tempDirPath.toFile();
+            sequentialDir = new File(tempDir, "sequential");
+            parallelDir = new File(tempDir, "parallel");
+        }
+
+        @Test
+        @DisplayName("validating builders")
+        void validatingBuilders() throws IOException {
+            File protoSrcDir = new File(tempDir, "proto");
+            File descriptorSet = new File(tempDir, "types.desc");
+            writeDescriptorSet(descriptorSet, protoSrcDir,
+                               VbtProject.getDescriptor(),
+                               VbtScalarFields.getDescriptor(),
+                               VbtTree.getDescriptor(),
+                               TheOuterProto.VbtTopLevel.getDescriptor());
+            new VBuilderGenerator(protoSrcDir, sequentialDir, Indent.of4(), false, sequential)
+                    .process(descriptorSet);
+            new VBuilderGenerator(protoSrcDir, parallelDir, Indent.of4(), false, parallel)
+                    .process(descriptorSet);
+
+            assertSameFiles(sequentialDir, parallelDir);
+        }
+
+        @Test
+        @DisplayName("rejections")
+        void rejections() throws IOException {
+            List<RejectionType> rejections = rejectionTypes();
+            generateRejections(rejections, sequential, sequentialDir);
+            generateRejections(rejections, parallel, parallelDir);
+
+            assertSameFiles(sequentialDir, parallelDir);
+        }
+    }
+
+    @Test
+    @DisplayName("not allow non-positive number of threads")
+    void rejectZeroThreads() {
+        assertThrows(IllegalArgumentException.class, () -> GenerationExecutor.parallel(0));
+    }
+
+    /**
+     * Writes the descriptor set with the files declaring the passed types and their
+     * dependencies, and creates the source files declaring the types in the given directory.
+     */
+    private static void writeDescriptorSet(File descriptorSet,
+                                           File protoSrcDir,
+                                           Descriptor... types) throws IOException {
+        Set<FileDescriptor> files = new LinkedHashSet<>();
+        for (Descriptor type : types) {
+            FileDescriptor file = type.getFile();
+            addWithDependencies(file, files);
+            Path source = protoSrcDir.toPath()
+                                     .resolve(file.getName());
+            Files.createDirectories(source.getParent());
+            Files.write(source, new byte[0]);
+        }
+        FileDescriptorSet.Builder descriptors = FileDescriptorSet.newBuilder();
+        files.forEach(file -> descriptors.addFile(file.toProto()));
+        try (OutputStream out = new FileOutputStream(descriptorSet)) {
+            descriptors.build()
+                       .writeTo(out);
+        }
+    }
+
+    private static void addWithDependencies(FileDescriptor file, Set<FileDescriptor> files) {
+        if (files.contains(file)) {
+            return;
+        }
+        for (FileDescriptor dependency : file.getDependencies()) {
+            addWithDependencies(dependency, files);
+        }
+        files.add(file);
+    }
+
+    /**
+     * Creates the rejections with the fields of various types declared in the same file.
+     */
+    private static List<RejectionType> rejectionTypes() {
+        FileDescriptorProto.Builder file = FileDescriptorProto
+                .newBuilder()
+                .setName("spine/test/tools/executor/executor_rejections.proto")
+                .setPackage("spine.test.tools.executor")
+                .setSyntax("proto3")
+                .addDependency(Timestamp.getDescriptor()
+                                        .getFile()
+                                        .getName());
+        file.getOptionsBuilder()
+            .setJavaPackage("io.spine.test.tools.executor")
+            .setJavaMultipleFiles(false);
+        for (int i = 0; i < REJECTIONS; i++) {
+            file.addMessageType(rejection("Rejection" + i));
+        }
+        FileDescriptor[] dependencies = {Timestamp.getDescriptor()
+                                                  .getFile()};
+        try {
+            FileDescriptor descriptor = FileDescriptor.buildFrom(file.build(), dependencies);
+            RejectionsFile rejections = RejectionsFile.from(SourceFile.from(descriptor));
+            return rejections.getRejectionDeclarations();
+        } catch (DescriptorValidationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DescriptorProto rejection(String name) {
+        DescriptorProto result = DescriptorProto
+                .newBuilder()
+                .setName(name)
+                .addField(field("id", 1, TYPE_STRING).setLabel(LABEL_OPTIONAL))
+                .addField(field("attempt", 2, TYPE_INT32).setLabel(LABEL_OPTIONAL))
+                .addField(field("tag", 3, TYPE_STRING).setLabel(LABEL_REPEATED))
+                .addField(field("when", 4, TYPE_MESSAGE)
+                                  .setLabel(LABEL_OPTIONAL)
+                                  .setTypeName('.' + Timestamp.getDescriptor()
+                                                              .getFullName()))
+                .build();
+        return result;
+    }
+
+    private static FieldDescriptorProto.Builder field(String name, int number,
+                                                      FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder()
+                                   .setName(name)
+                                   .setNumber(number)
+                                   .setType(type);
+    }
+
+    private static void generateRejections(List<RejectionType> rejections,
+                                           GenerationExecutor executor,
+                                           File targetDir) {
+        executor.generate(rejections,
+                          rejection -> new RejectionWriter(rejection, targetDir, Indent.of4())
+                                  .write(),
+                          (rejection, e) -> {
+                              throw e;
+                          });
+    }
+
+    /**
+     * Asserts that the directories contain files with the same relative paths and
+     * the same content.
+     */
+    private static void assertSameFiles(File expectedDir, File actualDir) throws IOException {
+        ImmutableList<Path> expected = relativePaths(expectedDir);
+        assertThat(expected).isNotEmpty();
+        assertThat(relativePaths(actualDir)).containsExactlyElementsIn(expected)
+                                            .inOrder();
+        for (Path path : expected) {
+            byte[] expectedBytes = Files.readAllBytes(expectedDir.toPath()
+                                                                 .resolve(path));
+            byte[] actualBytes = Files.readAllBytes(actualDir.toPath()
+                                                             .resolve(path));
+            assertArrayEquals(expectedBytes, actualBytes, path.toString());
+        }
+    }
+
+    private static ImmutableList<Path> relativePaths(File dir) throws IOException {
+        Path root = dir.toPath();
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                        .map(root::relativize)
+                        .sorted()
+                        .collect(toImmutableList());
+        }
+    }
+
+    private static String failSome(int item) {
+        if (item % FAILING_DIVISOR == 0) {
+            throw new IllegalStateException(String.valueOf(item));
+        }
+        return String.valueOf(item);
+    }
+
+    private static ImmutableList<Optional<String>> sequentialResults() {
+        return items.stream()
+                    .map(String::valueOf)
+                    .map(Optional::of)
+                    .collect(toImmutableList());
+    }
+
+    private static ImmutableList<Optional<String>> sequentialFailingResults() {
+        return items.stream()
+                    .map(item -> item % FAILING_DIVISOR == 0
+                                 ? Optional.<String>empty()
+                                 : Optional.of(String.valueOf(item)))
+                    .collect(toImmutableList());
+    }
+
+    private static ImmutableList<Integer> failingItems() {
+        return items.stream()
+                    .filter(item -> item % FAILING_DIVISOR == 0)
+                    .collect(toImmutableList());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import io.spine.code.proto.FileName;
+import io.spine.code.proto.FileSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("GenerationState should")
+class GenerationStateTest {
+
+    private static final String SETTINGS = "indent=4";
+
+    private static final FileDescriptor TIMESTAMP = Timestamp.getDescriptor()
+                                                             .getFile();
+    private static final FileDescriptor DURATION = Duration.getDescriptor()
+                                                           .getFile();
+    private static final FileDescriptor ANY = Any.getDescriptor()
+                                                 .getFile();
+
+    private File stateFile;
+    private File targetDir;
+    private FileSet files;
+
+    @BeforeEach
+    void setUp(@TempDir Path sandbox) {
+        stateFile = sandbox.resolve("state.properties")
+                           .toFile();
+        targetDir = sandbox.resolve("generated")
+                           .toFile();
+        files = FileSet.load()
+                       .find(ImmutableList.of(FileName.from(TIMESTAMP),
+                                              FileName.from(DURATION),
+                                              FileName.from(ANY)));
+    }
+
+    @Test
+    @DisplayName("consider all files changed if there is no previous state")
+    void allChangedInitially() {
+        GenerationState state = load(SETTINGS);
+
+        assertThat(state.changedFiles(files)
+                        .size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("skip the files which did not change since the previous generation")
+    void skipUnchanged() throws IOException {
+        File output = generate(TIMESTAMP, "Timestamp.java");
+        GenerationState previous = load(SETTINGS);
+        previous.changedFiles(files);
+        previous.record(TIMESTAMP, ImmutableList.of(output));
+        previous.record(DURATION, ImmutableList.of());
+        previous.store();
+
+        FileSet changed = load(SETTINGS).changedFiles(files);
+
+        assertThat(changed.getFileNames()).containsExactly(FileName.from(ANY));
+        assertThat(output.exists()).isTrue();
+    }
+
+    @Test
+    @DisplayName("consider all files changed if the settings changed")
+    void changedSettings() throws IOException {
+        File output = generate(TIMESTAMP, "Timestamp.java");
+        GenerationState previous = load(SETTINGS);
+        previous.changedFiles(files);
+        previous.record(TIMESTAMP, ImmutableList.of(output));
+        previous.store();
+
+        FileSet changed = load("indent=2").changedFiles(files);
+
+        assertThat(changed.size()).isEqualTo(3);
+        assertThat(output.exists()).isFalse();
+    }
+
+    @Test
+    @DisplayName("consider a file changed if its generated files are missing")
+    void missingOutput() throws IOException {
+        File output = generate(TIMESTAMP, "Timestamp.java");
+        GenerationState previous = load(SETTINGS);
+        previous.changedFiles(files);
+        previous.record(TIMESTAMP, ImmutableList.of(output));
+        previous.store();
+        Files.delete(output.toPath());
+
+        FileSet changed = load(SETTINGS).changedFiles(files);
+
+        assertThat(changed.contains(FileName.from(TIMESTAMP))).isTrue();
+    }
+
+    @Test
+    @DisplayName("delete the files generated from the removed proto files")
+    void deleteRemoved() throws IOException {
+        File output = generate(ANY, "Any.java");
+        GenerationState previous = load(SETTINGS);
+        previous.changedFiles(files);
+        previous.record(ANY, ImmutableList.of(output));
+        previous.store();
+        FileSet withoutAny = files.find(ImmutableList.of(FileName.from(TIMESTAMP),
+                                                         FileName.from(DURATION)));
+
+        load(SETTINGS).changedFiles(withoutAny);
+
+        assertThat(output.exists()).isFalse();
+    }
+
+    private GenerationState load(String settings) {
+        return GenerationState.load(stateFile, targetDir, settings);
+    }
+
+    private File generate(FileDescriptor file, String fileName) throws IOException {
+        Path dir = targetDir.toPath()
+                            .resolve(file.getPackage()
+                                         .replace('.', '/'));
+        Files.createDirectories(dir);
+        Path result = Files.write(dir.resolve(fileName), file.getName()
+                                                             .getBytes());
+        return result.toFile();
+    }
+}
@@ -20,6 +20,7 @@
 
 package io.spine.tools.compiler.descriptor;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.truth.IterableSubject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -118,6 +119,55 @@ class FileDescriptorSupersetTest {
         assertDescriptors.contains(ProjectProto.getDescriptor().toProto());
     }
 
+    @Test
+    @DisplayName("merge descriptors from several dependencies at once")
+    void mergeFromDependencies() {
+        FileDescriptorSuperset superset = new FileDescriptorSuperset();
+        superset.addFromDependencies(ImmutableList.of(directoryDependency.toFile(),
+                                                      nonDescriptorFile.toFile(),
+                                                      fileDependency.toFile(),
+                                                      archiveDependency.toFile()));
+
+        MergedDescriptorSet mergedSet = superset.merge();
+        IterableSubject assertDescriptors = assertThat(mergedSet.descriptors());
+        assertDescriptors.hasSize(3);
+        assertDescriptors.contains(TaskProto.getDescriptor().toProto());
+        assertDescriptors.contains(PersonProto.getDescriptor().toProto());
+        assertDescriptors.contains(ProjectProto.getDescriptor().toProto());
+    }
+
+    @Test
+    @DisplayName("deduplicate descriptors found in several dependencies")
+    void deduplicate() {
+        FileDescriptorSuperset single = new FileDescriptorSuperset();
+        single.addFromDependency(archiveDependency.toFile());
+        FileDescriptorSuperset repeated = new FileDescriptorSuperset();
+        repeated.addFromDependencies(ImmutableList.of(archiveDependency.toFile(),
+                                                      archiveDependency.toFile()));
+        repeated.addFromDependency(archiveDependency.toFile());
+
+        assertThat(repeated.merge()
+                           .descriptors())
+                .containsExactlyElementsIn(single.merge()
+                                                 .descriptors());
+    }
+
+    @Test
+    @DisplayName("write the merge result into the file it was read from")
+    void mergeInPlace() {
+        FileDescriptorSuperset superset = new FileDescriptorSuperset();
+        superset.addFromDependency(archiveDependency.toFile());
+        superset.addFromMergeTarget(fileDependency.toFile());
+        MergedDescriptorSet mergedSet = superset.merge();
+        mergedSet.writeTo(fileDependency.toFile());
+
+        FileDescriptorSuperset rewritten = new FileDescriptorSuperset();
+        rewritten.addFromDependency(fileDependency.toFile());
+        assertThat(rewritten.merge()
+                            .descriptors())
+                .containsExactlyElementsIn(mergedSet.descriptors());
+    }
+
     @Test
     @DisplayName("ignore empty files")
     void ignoreEmptyFiles() {
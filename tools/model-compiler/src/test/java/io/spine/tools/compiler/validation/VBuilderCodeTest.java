@@ -30,6 +30,8 @@ import io.spine.test.tools.validation.builder.VbtProcess;
 import io.spine.test.tools.validation.builder.VbtProject;
 import io.spine.test.tools.validation.builder.VbtScalarFields;
 import io.spine.test.tools.validation.builder.VbtTree;
+import io.spine.validate.ValidationException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -37,11 +39,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junitpioneer.jupiter.TempDirectory;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
 import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static com.google.common.truth.Truth.assertThat;
 import static io.spine.code.proto.MessageType.VBUILDER_SUFFIX;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(TempDirectory.class)
@@ -105,6 +119,163 @@ class VBuilderCodeTest {
         }
     }
 
+    @Nested
+    @DisplayName("inline constraints")
+    class InlineChecks {
+
+        private String code;
+
+        @BeforeEach
+        void generate() throws IOException {
+            MessageType type = MessageType.of(VbtScalarFields.getDescriptor());
+            VBuilderCode vBuilderCode = new VBuilderCode(targetDir, Indent.of4(), type, true);
+            File file = vBuilderCode.write();
+            code = new String(Files.readAllBytes(file.toPath()), UTF_8);
+        }
+
+        @Test
+        @DisplayName("without calling the runtime validation")
+        void noRuntimeValidation() {
+            assertThat(code).doesNotContain("validate(fieldDescriptor");
+            assertThat(code).doesNotContain("validateSetOnce(fieldDescriptor)");
+        }
+
+        @Test
+        @DisplayName("declaring a compiled pattern")
+        void pattern() {
+            assertThat(code).contains("private static final Pattern CODE_PATTERN");
+            assertThat(code).contains("CODE_PATTERN.matcher(code).matches()");
+            assertThat(code).contains("code.isEmpty()");
+        }
+
+        @Test
+        @DisplayName("checking number ranges")
+        void numbers() {
+            assertThat(code).contains("Integer.compare(intNumber, 10) < 0");
+            assertThat(code).contains("Integer.compare(intNumber, 99) > 0");
+        }
+
+        @Test
+        @DisplayName("checking `set_once` fields")
+        void setOnce() {
+            assertThat(code).contains("checkNotSet(fieldDescriptor)");
+        }
+    }
+
+    @Nested
+    @DisplayName("inline digits check which")
+    class InlineDigits {
+
+        private GeneratedCodeLoader loader;
+        private Class<?> builderClass;
+
+        @BeforeEach
+        void compile() throws IOException, ClassNotFoundException {
+            MessageType type = MessageType.of(VbtScalarFields.getDescriptor());
+            File source = new VBuilderCode(targetDir, Indent.of4(), type, true).write();
+            File classesDir = new File(targetDir, "classes");
+            assertTrue(classesDir.mkdir());
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            assertNotNull(compiler, "The tests must be run with a JDK.");
+            int exitCode = compiler.run(null, null, null,
+                                        "-d", classesDir.getPath(),
+                                        "-classpath", System.getProperty("java.class.path"),
+                                        source.getPath());
+            assertEquals(0, exitCode);
+            String className = VbtScalarFields.class.getName() + VBUILDER_SUFFIX;
+            loader = new GeneratedCodeLoader(classesDir, className);
+            builderClass = loader.loadClass(className);
+        }
+
+        @AfterEach
+        void closeLoader() throws IOException {
+            loader.close();
+        }
+
+        @Test
+        @DisplayName("accepts values within the bounds")
+        void accepts() throws ReflectiveOperationException {
+            setAmount(12345.67);
+            setAmount(-12345.67);
+            setAmount(100.0);
+            setAmount(0.01);
+        }
+
+        @Test
+        @DisplayName("rejects too many integer digits")
+        void integerDigits() {
+            assertRejects(123456.0);
+            assertRejects(-123456.7);
+        }
+
+        @Test
+        @DisplayName("rejects too many fraction digits")
+        void fractionDigits() {
+            assertRejects(1.234);
+        }
+
+        @Test
+        @DisplayName("counts digits of values printed in the scientific notation")
+        void scientific() {
+            assertRejects(1.0E7);
+            assertRejects(1.2345678E7);
+            assertRejects(0.001);
+        }
+
+        @Test
+        @DisplayName("rejects infinite values")
+        void infinite() {
+            assertRejects(Double.POSITIVE_INFINITY);
+        }
+
+        private void assertRejects(double amount) {
+            InvocationTargetException exception =
+                    assertThrows(InvocationTargetException.class, () -> setAmount(amount));
+            assertThat(exception).hasCauseThat()
+                                 .isInstanceOf(ValidationException.class);
+        }
+
+        private void setAmount(double amount) throws ReflectiveOperationException {
+            Object builder = builderClass.getMethod("newBuilder")
+                                         .invoke(null);
+            builderClass.getMethod("setAmount", double.class)
+                        .invoke(builder, amount);
+        }
+    }
+
+    /**
+     * Loads the compiled generated class and its nested classes before looking them up in
+     * the test classpath, which may contain a class with the same name.
+     */
+    private static final class GeneratedCodeLoader extends URLClassLoader {
+
+        private final String className;
+
+        private GeneratedCodeLoader(File classesDir, String className)
+                throws MalformedURLException {
+            super(new URL[]{classesDir.toURI().toURL()}, VBuilderCodeTest.class.getClassLoader());
+            this.className = className;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve)
+                throws ClassNotFoundException {
+            if (!name.startsWith(className)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> result = findLoadedClass(name);
+                if (result == null) {
+                    result = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(result);
+                }
+                return result;
+            }
+        }
+    }
+
     @Nested
     @DisplayName("produce file with")
     class NameOfFile {
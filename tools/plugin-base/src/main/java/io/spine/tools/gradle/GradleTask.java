@@ -28,13 +28,19 @@ import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskContainer;
+import org.gradle.api.tasks.TaskInputs;
+import org.gradle.api.tasks.TaskOutputs;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newLinkedList;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 
 /**
  * Utility wrapper around the Gradle tasks created.
@@ -88,11 +94,20 @@ public final class GradleTask {
         private TaskName previousTaskOfAllProjects;
 
         private final Collection<Path> inputs;
+        private final Collection<Supplier<?>> lazyInputs;
+        private final Map<String, Supplier<?>> inputProperties;
+        private final Collection<Supplier<?>> outputFiles;
+        private final Collection<Supplier<?>> outputDirs;
+        private boolean cacheable;
 
         Builder(TaskName name, Action<Task> action) {
             this.name = name;
             this.action = action;
             inputs = newLinkedList();
+            lazyInputs = newLinkedList();
+            inputProperties = newLinkedHashMap();
+            outputFiles = newLinkedList();
+            outputDirs = newLinkedList();
         }
 
         /**
@@ -178,6 +193,79 @@ public final class GradleTask {
             return this;
         }
 
+        /**
+         * Adds the files and/or directories, which are resolved right before the task
+         * execution, to the input dataset for the task being built.
+         *
+         * <p>The supplier may return anything accepted by
+         * {@link org.gradle.api.tasks.TaskInputs#files(Object...) TaskInputs.files(..)},
+         * e.g. a path or a file collection. Unlike {@link #withInputFiles(Path...)}, missing
+         * inputs do not cause the task to be skipped.
+         *
+         * @param inputs the supplier of the task input files
+         * @return the current instance of {@code Builder}
+         */
+        public Builder withLazyInputFiles(Supplier<?> inputs) {
+            checkNotNull(inputs, "task inputs");
+            this.lazyInputs.add(inputs);
+            return this;
+        }
+
+        /**
+         * Adds an input property for the task being built.
+         *
+         * <p>The task is considered out of date if the value of the property changes.
+         *
+         * @param propertyName the name of the property
+         * @param value        the supplier of the serializable property value
+         * @return the current instance of {@code Builder}
+         */
+        public Builder withInputProperty(String propertyName, Supplier<?> value) {
+            checkNotNull(propertyName, "property name");
+            checkNotNull(value, "property value");
+            this.inputProperties.put(propertyName, value);
+            return this;
+        }
+
+        /**
+         * Adds an output file for the task being built.
+         *
+         * @param file the supplier of the path to the file, resolved as per
+         *             {@link Project#file(Object)}
+         * @return the current instance of {@code Builder}
+         */
+        public Builder withOutputFile(Supplier<?> file) {
+            checkNotNull(file, "task output file");
+            this.outputFiles.add(file);
+            return this;
+        }
+
+        /**
+         * Adds an output directory for the task being built.
+         *
+         * @param dir the supplier of the path to the directory, resolved as per
+         *            {@link Project#file(Object)}
+         * @return the current instance of {@code Builder}
+         */
+        public Builder withOutputDir(Supplier<?> dir) {
+            checkNotNull(dir, "task output directory");
+            this.outputDirs.add(dir);
+            return this;
+        }
+
+        /**
+         * Allows to store the outputs of the task being built in the Gradle build cache.
+         *
+         * <p>Only tasks whose outputs are fully defined by the declared inputs should be
+         * cacheable.
+         *
+         * @return the current instance of {@code Builder}
+         */
+        public Builder cacheable() {
+            this.cacheable = true;
+            return this;
+        }
+
         /**
          * Builds an instance of {@link GradleTask} and inserts it to the project
          * build lifecycle according to the "before" and "after" tasks specified in the builder.
@@ -233,13 +321,40 @@ public final class GradleTask {
         }
 
         private void addTaskIO(Task task) {
+            TaskInputs taskInputs = task.getInputs();
             if (!inputs.isEmpty()) {
-                task.getInputs()
-                    .files(inputs.toArray())
-                    .skipWhenEmpty()
-                    .optional()
-                    .withPathSensitivity(PathSensitivity.RELATIVE);
+                taskInputs.files(inputs.toArray())
+                          .skipWhenEmpty()
+                          .optional()
+                          .withPathSensitivity(PathSensitivity.RELATIVE);
+            }
+            for (Supplier<?> lazyInput : lazyInputs) {
+                taskInputs.files(lazily(lazyInput))
+                          .optional()
+                          .withPathSensitivity(PathSensitivity.RELATIVE);
+            }
+            inputProperties.forEach(
+                    (propertyName, value) -> taskInputs.property(propertyName, lazily(value))
+            );
+            TaskOutputs taskOutputs = task.getOutputs();
+            for (Supplier<?> file : outputFiles) {
+                taskOutputs.file(lazily(file))
+                           .optional();
+            }
+            for (Supplier<?> dir : outputDirs) {
+                taskOutputs.dir(lazily(dir))
+                           .optional();
             }
+            if (cacheable) {
+                taskOutputs.cacheIf(t -> true);
+            }
+        }
+
+        /**
+         * Converts the supplier into a {@code Callable}, which Gradle resolves on demand.
+         */
+        private static Callable<?> lazily(Supplier<?> value) {
+            return value::get;
         }
     }
 
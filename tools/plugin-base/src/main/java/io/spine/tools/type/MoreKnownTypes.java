@@ -25,6 +25,8 @@ import io.spine.code.proto.TypeSet;
 import io.spine.type.KnownTypes;
 
 import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -38,6 +40,12 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public final class MoreKnownTypes {
 
+    /**
+     * The descriptor set files, with which the known types were already extended, mapped
+     * to their modification time at the moment of the extension.
+     */
+    private static final Map<String, Long> extendedWith = new ConcurrentHashMap<>();
+
     /**
      * Prevents the utility class instantiation.
      */
@@ -48,6 +56,11 @@ public final class MoreKnownTypes {
      * Reads a {@code FileDescriptorSet} from the given file and adds the described types
      * to the known types.
      *
+     * <p>If the known types were already extended with the same file, and the file has not
+     * been modified since, the call has no effect. This allows the build tasks, which depend
+     * on the types from the file, to call this method even if the task producing the file was
+     * up to date and did not extend the known types itself.
+     *
      * @param descriptorSetFile
      *         the descriptor file to read
      * @implNote This operation is potentially time consuming. Minimize calls to this method
@@ -57,8 +70,14 @@ public final class MoreKnownTypes {
         checkNotNull(descriptorSetFile);
         checkArgument(descriptorSetFile.exists());
 
+        String path = descriptorSetFile.getAbsolutePath();
+        Long lastModified = descriptorSetFile.lastModified();
+        if (lastModified.equals(extendedWith.get(path))) {
+            return;
+        }
         FileSet protoFiles = FileSet.parse(descriptorSetFile);
         TypeSet types = TypeSet.messagesAndEnums(protoFiles);
         KnownTypes.Holder.extendWith(types);
+        extendedWith.put(path, lastModified);
     }
 }
@@ -26,6 +26,7 @@ import com.google.protobuf.Descriptors.FieldDescriptor.Type;
 import io.spine.js.generate.output.CodeLines;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -52,9 +53,12 @@ public final class PrimitiveParsers {
 
     /**
      * The global map which maps the field {@linkplain FieldDescriptor#getType() type} to the
-     * {@link PrimitiveParser} builder instance.
+     * supplier of the {@link PrimitiveParser} builders.
+     *
+     * <p>A new builder is created for each parser, so that the parsers could be created
+     * concurrently.
      */
-    private static final Map<Type, PrimitiveParser.Builder> parsers = parsers();
+    private static final Map<Type, Supplier<PrimitiveParser.Builder>> parsers = parsers();
 
     /** Prevents the instantiation of this utility class. */
     private PrimitiveParsers() {
@@ -74,33 +78,34 @@ public final class PrimitiveParsers {
     public static PrimitiveParser createFor(Type fieldType, CodeLines jsOutput) {
         checkNotNull(fieldType);
         checkNotNull(jsOutput);
-        PrimitiveParser.Builder parserBuilder = parsers.get(fieldType);
-        checkState(parsers.containsKey(fieldType),
+        Supplier<PrimitiveParser.Builder> parserBuilder = parsers.get(fieldType);
+        checkState(parserBuilder != null,
                    "An attempt to get a parser for the unknown Primitive type: %s", fieldType);
         PrimitiveParser parser = parserBuilder
+                .get()
                 .setJsOutput(jsOutput)
                 .build();
         return parser;
     }
 
-    private static Map<Type, PrimitiveParser.Builder> parsers() {
-        Map<Type, PrimitiveParser.Builder> parsers = ImmutableMap
-                .<Type, PrimitiveParser.Builder>builder()
-                .put(DOUBLE, FloatParser.newBuilder())
-                .put(FLOAT, FloatParser.newBuilder())
-                .put(INT32, IdentityParser.newBuilder())
-                .put(INT64, LongParser.newBuilder())
-                .put(UINT32, IdentityParser.newBuilder())
-                .put(UINT64, LongParser.newBuilder())
-                .put(SINT32, IdentityParser.newBuilder())
-                .put(SINT64, LongParser.newBuilder())
-                .put(FIXED32, IdentityParser.newBuilder())
-                .put(FIXED64, LongParser.newBuilder())
-                .put(SFIXED32, IdentityParser.newBuilder())
-                .put(SFIXED64, LongParser.newBuilder())
-                .put(BOOL, IdentityParser.newBuilder())
-                .put(STRING, IdentityParser.newBuilder())
-                .put(BYTES, BytesParser.newBuilder())
+    private static Map<Type, Supplier<PrimitiveParser.Builder>> parsers() {
+        Map<Type, Supplier<PrimitiveParser.Builder>> parsers = ImmutableMap
+                .<Type, Supplier<PrimitiveParser.Builder>>builder()
+                .put(DOUBLE, FloatParser::newBuilder)
+                .put(FLOAT, FloatParser::newBuilder)
+                .put(INT32, IdentityParser::newBuilder)
+                .put(INT64, LongParser::newBuilder)
+                .put(UINT32, IdentityParser::newBuilder)
+                .put(UINT64, LongParser::newBuilder)
+                .put(SINT32, IdentityParser::newBuilder)
+                .put(SINT64, LongParser::newBuilder)
+                .put(FIXED32, IdentityParser::newBuilder)
+                .put(FIXED64, LongParser::newBuilder)
+                .put(SFIXED32, IdentityParser::newBuilder)
+                .put(SFIXED64, LongParser::newBuilder)
+                .put(BOOL, IdentityParser::newBuilder)
+                .put(STRING, IdentityParser::newBuilder)
+                .put(BYTES, BytesParser::newBuilder)
                 .build();
         return parsers;
     }
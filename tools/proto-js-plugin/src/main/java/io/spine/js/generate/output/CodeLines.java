@@ -25,6 +25,8 @@ import io.spine.code.generate.Indent;
 import io.spine.code.generate.IndentLevel;
 import io.spine.js.generate.Snippet;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -43,7 +45,8 @@ import static java.lang.System.lineSeparator;
  * adding the code.
  *
  * <p>The writable representation of the output may be obtained through the {@link #toString()}
- * method.
+ * method. To avoid building the whole output in memory, the lines may be
+ * {@linkplain #writeTo(Writer) written} directly.
  */
 @SuppressWarnings("DuplicateStringLiteralInspection" /* The generated code duplicates the code
                                                         used in test that checks it. */)
@@ -307,6 +310,29 @@ public final class CodeLines {
         return result;
     }
 
+    /**
+     * Writes all the code lines with the correct indentation and line separator.
+     *
+     * <p>Writes the same text as {@link #toString()}, but line by line, without building
+     * the whole text in memory.
+     *
+     * @param writer
+     *         the writer to write the lines to
+     * @throws IOException
+     *         if the writer fails
+     */
+    public void writeTo(Writer writer) throws IOException {
+        checkNotNull(writer);
+        boolean first = true;
+        for (IndentedLine line : codeLines) {
+            if (!first) {
+                writer.write(LINE_SEPARATOR);
+            }
+            writer.write(line.content());
+            first = false;
+        }
+    }
+
     @VisibleForTesting
     int currentDepth() {
         return currentLevel.value();
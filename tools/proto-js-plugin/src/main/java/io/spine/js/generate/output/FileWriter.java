@@ -21,18 +21,20 @@
 package io.spine.js.generate.output;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Charsets;
-import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.js.Directory;
 import io.spine.code.js.FileName;
 import io.spine.code.js.LibraryFile;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
@@ -89,14 +91,7 @@ public final class FileWriter {
      */
     public void write(CodeLines jsOutput) {
         checkNotNull(jsOutput);
-        try {
-            Files.write(path,
-                        ImmutableList.of(jsOutput.toString()),
-                        Charsets.UTF_8,
-                        CREATE, TRUNCATE_EXISTING);
-        } catch (IOException e) {
-            throw new IllegalStateException(e);
-        }
+        writeLines(jsOutput, CREATE, TRUNCATE_EXISTING);
     }
 
     /**
@@ -109,9 +104,16 @@ public final class FileWriter {
      */
     public void append(CodeLines jsOutput) {
         checkNotNull(jsOutput);
-        try {
-            ImmutableList<String> linesToAppend = ImmutableList.of(jsOutput.toString());
-            Files.write(path, linesToAppend, Charsets.UTF_8, APPEND);
+        writeLines(jsOutput, APPEND);
+    }
+
+    /**
+     * Streams the lines to the file through a buffer, terminating the last line.
+     */
+    private void writeLines(CodeLines jsOutput, OpenOption... options) {
+        try (Writer writer = Files.newBufferedWriter(path, UTF_8, options)) {
+            jsOutput.writeTo(writer);
+            writer.write(lineSeparator());
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
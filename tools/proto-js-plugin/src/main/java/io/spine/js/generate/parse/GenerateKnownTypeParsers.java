@@ -134,12 +134,14 @@ public final class GenerateKnownTypeParsers extends GenerationTask {
      * Appends the {@code fromJson(json)} methods for all known types in the corresponding files.
      *
      * <p>The standard Protobuf types are skipped.
+     *
+     * <p>Since each Protobuf file has its own JS file, the files are processed in parallel.
      */
     @VisibleForTesting
     void writeParseMethods(FileSet fileSet) {
-        for (FileDescriptor file : fileSet.files()) {
-            writeParseMethods(file);
-        }
+        fileSet.files()
+               .parallelStream()
+               .forEach(this::writeParseMethods);
     }
 
     private void writeParseMethods(FileDescriptor file) {
@@ -38,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static io.spine.js.generate.output.CodeLine.emptyLine;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -80,23 +81,39 @@ public final class KnownTypesMap implements Snippet {
      */
     @Override
     public CodeLines value() {
+        Map<FileDescriptor, TypeSet> typesByFile = typesByFile();
         CodeLines lines = new CodeLines();
-        lines.append(knownTypesImports());
+        lines.append(knownTypesImports(typesByFile));
         lines.append(emptyLine());
-        lines.append(knownTypesMapExport());
+        lines.append(knownTypesMapExport(typesByFile));
         return lines;
     }
 
     /**
-     * Generates import statements for all files declaring generated messages.
+     * Obtains the types declared in each file of the file set.
+     *
+     * <p>The types of each file are collected once and are used both for the imports
+     * and for the map entries.
      */
-    private CodeLines knownTypesImports() {
+    private Map<FileDescriptor, TypeSet> typesByFile() {
         Collection<FileDescriptor> files = fileSet.files();
-        Set<FileName> imports = files.stream()
-                                     .filter(file -> !TypeSet.messagesAndEnums(file)
-                                                             .isEmpty())
-                                     .map(FileName::from)
-                                     .collect(toSet());
+        Map<FileDescriptor, TypeSet> result = newLinkedHashMap();
+        for (FileDescriptor file : files) {
+            result.put(file, TypeSet.messagesAndEnums(file));
+        }
+        return result;
+    }
+
+    /**
+     * Generates import statements for all files declaring generated messages.
+     */
+    private static CodeLines knownTypesImports(Map<FileDescriptor, TypeSet> typesByFile) {
+        Set<FileName> imports = typesByFile.entrySet()
+                                           .stream()
+                                           .filter(entry -> !entry.getValue()
+                                                                  .isEmpty())
+                                           .map(entry -> FileName.from(entry.getKey()))
+                                           .collect(toSet());
         CodeLines importLines = new CodeLines();
         JsImportGenerator generator = JsImportGenerator
                 .newBuilder()
@@ -115,17 +132,23 @@ public final class KnownTypesMap implements Snippet {
      *
      * <p>The map is exported under the {@link #MAP_NAME}.
      */
-    private MapExportSnippet knownTypesMapExport() {
-        List<Map.Entry<String, TypeName>> entries = mapEntries(fileSet);
+    private static MapExportSnippet
+    knownTypesMapExport(Map<FileDescriptor, TypeSet> typesByFile) {
+        List<Map.Entry<String, TypeName>> entries = mapEntries(typesByFile);
         return MapExportSnippet
                 .newBuilder(MAP_NAME)
                 .withEntries(entries)
                 .build();
     }
 
-    private static List<Map.Entry<String, TypeName>> mapEntries(FileSet fileSet) {
-        Set<Type<?, ?>> types = TypeSet.messagesAndEnums(fileSet)
-                                       .types();
+    private static List<Map.Entry<String, TypeName>>
+    mapEntries(Map<FileDescriptor, TypeSet> typesByFile) {
+        TypeSet.Builder allTypes = TypeSet.newBuilder();
+        for (TypeSet types : typesByFile.values()) {
+            allTypes.addAll(types);
+        }
+        Set<Type<?, ?>> types = allTypes.build()
+                                        .types();
         List<Map.Entry<String, TypeName>> entries = types.stream()
                                                          .map(KnownTypesMap::mapEntry)
                                                          .collect(toList());
@@ -33,6 +33,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 
 import static io.spine.js.generate.given.Generators.assertContains;
@@ -267,6 +269,17 @@ class CodeLinesTest {
         assertEquals(expected, output);
     }
 
+    @Test
+    @DisplayName("write the same text as `toString` to a writer")
+    void writeLines() throws IOException {
+        CodeLines jsOutput = newCodeLines("line 1");
+        jsOutput.increaseDepth();
+        jsOutput.append("line 2");
+        StringWriter writer = new StringWriter();
+        jsOutput.writeTo(writer);
+        assertEquals(jsOutput.toString(), writer.toString());
+    }
+
     private static StringSubject assertThat(CodeLines lines) {
         return Truth.assertThat(lines.toString());
     }
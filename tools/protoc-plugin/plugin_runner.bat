@@ -1,3 +1,19 @@
 @echo off
 
-java -jar ./.spine/spine-protoc-plugin-{version}.jar
+rem If SPINE_PROTOC_CDS_ARCHIVE is set, the JVM uses the class data sharing archive
+rem at the given path. If the archive does not exist yet, it is created on exit.
+rem Dynamic archives require JDK 13+, so the option is ignored by older JVMs.
+set JAVA_OPTS=
+set JAVA_MAJOR=0
+if not defined SPINE_PROTOC_CDS_ARCHIVE goto run
+for /f "tokens=3" %%v in ('java -version 2^>^&1 ^| findstr /i "version"') do set JAVA_VERSION=%%~v
+for /f "delims=.-" %%m in ("%JAVA_VERSION%") do set JAVA_MAJOR=%%m
+if %JAVA_MAJOR% LSS 13 goto run
+if exist "%SPINE_PROTOC_CDS_ARCHIVE%" (
+    set JAVA_OPTS=-XX:SharedArchiveFile="%SPINE_PROTOC_CDS_ARCHIVE%"
+) else (
+    set JAVA_OPTS=-XX:ArchiveClassesAtExit="%SPINE_PROTOC_CDS_ARCHIVE%"
+)
+
+:run
+java %JAVA_OPTS% -jar ./.spine/spine-protoc-plugin-{version}.jar
@@ -2,4 +2,20 @@
 
 CURRENT_DIR="$(pwd)"
 
-java -jar "${CURRENT_DIR}"/.spine/spine-protoc-plugin-{version}.jar
+# If `SPINE_PROTOC_CDS_ARCHIVE` is set, the JVM uses the class data sharing archive
+# at the given path. If the archive does not exist yet, it is created on exit.
+# Dynamic archives require JDK 13+, so the option is ignored by older JVMs.
+JAVA_OPTS=()
+if [ -n "${SPINE_PROTOC_CDS_ARCHIVE}" ]; then
+    JAVA_VERSION="$(java -version 2>&1 | awk -F '"' '/version/ { print $2; exit }')"
+    JAVA_MAJOR="${JAVA_VERSION%%[.-]*}"
+    if [ "${JAVA_MAJOR}" -ge 13 ] 2>/dev/null; then
+        if [ -f "${SPINE_PROTOC_CDS_ARCHIVE}" ]; then
+            JAVA_OPTS+=("-XX:SharedArchiveFile=${SPINE_PROTOC_CDS_ARCHIVE}")
+        else
+            JAVA_OPTS+=("-XX:ArchiveClassesAtExit=${SPINE_PROTOC_CDS_ARCHIVE}")
+        fi
+    fi
+fi
+
+java "${JAVA_OPTS[@]}" -jar "${CURRENT_DIR}"/.spine/spine-protoc-plugin-{version}.jar
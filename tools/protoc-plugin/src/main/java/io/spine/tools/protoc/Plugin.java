@@ -20,14 +20,17 @@
 
 package io.spine.tools.protoc;
 
-import com.google.protobuf.CodedOutputStream;
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest;
 import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse;
 import io.spine.option.Options;
 import io.spine.tools.protoc.insert.MessageInterfaceGenerator;
 
 import java.io.IOException;
+import java.io.PrintStream;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -36,6 +39,12 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * <p>The program reads a {@link CodeGeneratorRequest} from {@code System.in} and writes
  * a {@link CodeGeneratorResponse} into the {@code System.out}.
  *
+ * <p>If the {@code SPINE_PROTOC_DAEMON_PORT} environment variable is set, the program forwards
+ * the request to the {@linkplain PluginDaemon daemon} listening to the given port. If the daemon
+ * is not available, the request is processed by the program itself.
+ *
+ * <p>When started with the {@code --daemon <port>} arguments, the program runs the daemon.
+ *
  * <p>For the description of the plugin behavior see {@link MessageInterfaceGenerator}.
  *
  * <p>For the plugin mechanism see <a href="SpineProtoGenerator.html#contract">
@@ -45,6 +54,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public class Plugin {
 
+    private static final String DAEMON_ARGUMENT = "--daemon";
+
     /** Prevents instantiation from outside. */
     private Plugin() {
     }
@@ -53,31 +64,65 @@ public class Plugin {
      * The entry point of the program.
      */
     public static void main(String[] args) {
-        CodeGeneratorRequest request = readRequest();
+        if (args.length > 0 && DAEMON_ARGUMENT.equals(args[0])) {
+            runDaemon(args);
+            return;
+        }
+        byte[] request = readRequest();
+        byte[] response = PluginDaemonClient
+                .fromEnvironment()
+                .flatMap(client -> client.process(request))
+                .orElseGet(() -> process(request));
+        writeResponse(response);
+    }
+
+    /**
+     * Processes the serialized {@link CodeGeneratorRequest}.
+     *
+     * @return the serialized {@link CodeGeneratorResponse}
+     */
+    static byte[] process(byte[] serializedRequest) {
+        checkNotNull(serializedRequest);
+        CodeGeneratorRequest request;
+        try {
+            request = CodeGeneratorRequest.parseFrom(serializedRequest, Options.registry());
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
         SpineProtoGenerator generator = MessageInterfaceGenerator.instance();
         CodeGeneratorResponse response = generator.process(request);
-        writeResponse(response);
+        return response.toByteArray();
+    }
+
+    @SuppressWarnings("UseOfSystemOutOrSystemErr") // Tell the user where the daemon listens.
+    private static void runDaemon(String[] args) {
+        checkArgument(args.length == 2, "Usage: %s <port>", DAEMON_ARGUMENT);
+        int port = Integer.parseInt(args[1]);
+        try (PluginDaemon daemon = PluginDaemon.bind(port)) {
+            System.out.printf("Spine protoc plugin daemon is listening to port %d.%n",
+                              daemon.port());
+            daemon.serve();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
-    private static CodeGeneratorRequest readRequest() {
+    private static byte[] readRequest() {
         try {
-            CodeGeneratorRequest request =
-                    CodeGeneratorRequest.parseFrom(System.in, Options.registry());
+            byte[] request = ByteStreams.toByteArray(System.in);
             return request;
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
 
-    private static void writeResponse(CodeGeneratorResponse response) {
+    private static void writeResponse(byte[] response) {
         checkNotNull(response);
         @SuppressWarnings("UseOfSystemOutOrSystemErr") // Required by the protoc API.
-        CodedOutputStream stream = CodedOutputStream.newInstance(System.out);
-        try {
-            response.writeTo(stream);
-            stream.flush();
-        } catch (IOException e) {
-            throw new IllegalStateException(e);
+        PrintStream out = System.out;
+        out.write(response, 0, response.length);
+        if (out.checkError()) {
+            throw new IllegalStateException("Unable to write the code generator response.");
         }
     }
 }
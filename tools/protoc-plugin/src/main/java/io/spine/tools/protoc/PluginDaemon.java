@@ -0,0 +1,265 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protoc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.logging.Logging;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * A long-lived process which handles the code generation requests on behalf of {@link Plugin}.
+ *
+ * <p>The daemon listens to a TCP port on the loopback interface. For each connection, it reads
+ * the {@linkplain #identity() identity} of the client, one serialized
+ * {@code CodeGeneratorRequest}, and responds with the serialized {@code CodeGeneratorResponse}.
+ * The request and the response are framed by the {@link #writeFrame} and {@link #readFrame}
+ * methods.
+ *
+ * <p>If the client identity differs from the identity of the daemon, i.e. the daemon runs
+ * another version of the plugin, the daemon rejects the request and the client processes it
+ * by itself.
+ *
+ * <p>Since the daemon stays alive between the {@code protoc} runs, the plugin classes are loaded
+ * and compiled by JIT only once, instead of being loaded for each {@code protoc} invocation.
+ *
+ * @see PluginDaemonClient
+ */
+final class PluginDaemon implements AutoCloseable, Logging {
+
+    /**
+     * The length of a frame, which signals that the request could not be processed.
+     */
+    static final int FAILURE = -1;
+
+    /**
+     * The version of the protocol between the daemon and the client.
+     *
+     * <p>Must be incremented on any change of the protocol.
+     */
+    private static final int PROTOCOL_VERSION = 2;
+
+    /**
+     * The maximum length of a frame, in bytes.
+     */
+    @VisibleForTesting
+    static final int MAX_FRAME_LENGTH = 512 * 1024 * 1024;
+
+    private static final String IDENTITY = computeIdentity();
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService workers;
+
+    @VisibleForTesting
+    PluginDaemon(ServerSocket serverSocket) {
+        this.serverSocket = checkNotNull(serverSocket);
+        ThreadFactory threads = new ThreadFactoryBuilder()
+                .setNameFormat("spine-protoc-daemon-%d")
+                .setDaemon(true)
+                .build();
+        int processors = Runtime.getRuntime()
+                                .availableProcessors();
+        this.workers = newFixedThreadPool(processors, threads);
+    }
+
+    /**
+     * Creates a daemon listening to the given port on the loopback interface.
+     *
+     * @param port
+     *         the port to listen to, or {@code 0} to pick any free port
+     * @throws IOException
+     *         if the port cannot be bound
+     */
+    static PluginDaemon bind(int port) throws IOException {
+        checkArgument(port >= 0, "The port must not be negative. Passed: %s.", port);
+        ServerSocket socket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        PluginDaemon daemon = new PluginDaemon(socket);
+        return daemon;
+    }
+
+    /**
+     * Obtains the port the daemon listens to.
+     */
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts and handles the connections until the daemon is {@linkplain #close() closed}.
+     *
+     * <p>The connections are handled by a pool of as many threads as there are available
+     * processors. The connections accepted while all the threads are busy wait for a free
+     * thread.
+     *
+     * <p>A failure to accept a connection is logged, and the daemon keeps accepting
+     * the connections.
+     */
+    void serve() {
+        while (!serverSocket.isClosed()) {
+            Socket connection;
+            try {
+                connection = serverSocket.accept();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log().warn("Cannot accept a connection.", e);
+                }
+                continue;
+            }
+            dispatch(connection);
+        }
+    }
+
+    private void dispatch(Socket connection) {
+        try {
+            workers.execute(() -> handle(connection));
+        } catch (RejectedExecutionException ignored) {
+            // The daemon is closed, so the client falls back to processing the request itself.
+            closeQuietly(connection);
+        }
+    }
+
+    private static void closeQuietly(Socket connection) {
+        try {
+            connection.close();
+        } catch (IOException ignored) {
+            // The connection is abandoned anyway.
+        }
+    }
+
+    private static void handle(Socket connection) {
+        try (Socket socket = connection;
+             DataInputStream in = new DataInputStream(socket.getInputStream());
+             DataOutputStream out = new DataOutputStream(socket.getOutputStream())) {
+            String clientIdentity = in.readUTF();
+            if (!IDENTITY.equals(clientIdentity)) {
+                out.writeInt(FAILURE);
+                out.flush();
+                return;
+            }
+            byte[] request = readFrame(in);
+            byte[] response;
+            try {
+                response = Plugin.process(request);
+            } catch (RuntimeException e) {
+                out.writeInt(FAILURE);
+                out.flush();
+                return;
+            }
+            writeFrame(out, response);
+        } catch (IOException ignored) {
+            // The client has gone and will fall back to processing the request itself.
+        }
+    }
+
+    /**
+     * Stops accepting connections.
+     *
+     * <p>The requests which are already being handled are completed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        workers.shutdown();
+    }
+
+    /**
+     * Obtains the identity of the plugin code, which the client and the daemon must share.
+     *
+     * <p>The identity consists of the version of the protocol and the path, the size, and
+     * the modification time of the plugin JAR.
+     */
+    static String identity() {
+        return IDENTITY;
+    }
+
+    private static String computeIdentity() {
+        Hasher hasher = Hashing.sha256()
+                               .newHasher()
+                               .putInt(PROTOCOL_VERSION);
+        CodeSource source = PluginDaemon.class.getProtectionDomain()
+                                              .getCodeSource();
+        if (source != null && source.getLocation() != null) {
+            URL location = source.getLocation();
+            hasher.putString(location.toString(), UTF_8);
+            try {
+                File jar = new File(location.toURI());
+                hasher.putLong(jar.length())
+                      .putLong(jar.lastModified());
+            } catch (URISyntaxException | IllegalArgumentException ignored) {
+                // The code is not loaded from a file, so the location alone identifies it.
+            }
+        }
+        String result = hasher.hash()
+                              .toString();
+        return result;
+    }
+
+    /**
+     * Writes the bytes preceded by their length.
+     */
+    static void writeFrame(DataOutputStream out, byte[] bytes) throws IOException {
+        checkNotNull(bytes);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        out.flush();
+    }
+
+    /**
+     * Reads the bytes written by {@link #writeFrame}.
+     *
+     * @throws IOException
+     *         if the frame cannot be read, signals a {@linkplain #FAILURE failure}, or has
+     *         a negative length or a length over {@link #MAX_FRAME_LENGTH}
+     */
+    static byte[] readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == FAILURE) {
+            throw new IOException("The request was not processed by the daemon.");
+        }
+        if (length < 0 || length > MAX_FRAME_LENGTH) {
+            throw new IOException(format("Invalid frame length: %d.", length));
+        }
+        byte[] result = new byte[length];
+        in.readFully(result);
+        return result;
+    }
+}
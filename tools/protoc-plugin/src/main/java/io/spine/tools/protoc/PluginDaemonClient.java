@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protoc;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.tools.protoc.PluginDaemon.identity;
+import static io.spine.tools.protoc.PluginDaemon.readFrame;
+import static io.spine.tools.protoc.PluginDaemon.writeFrame;
+
+/**
+ * Forwards the code generation requests to a {@link PluginDaemon}.
+ *
+ * <p>The client never fails because of the daemon. If the daemon is not running, does not
+ * respond in time, or fails to process a request, the client reports that there is no response,
+ * so that the caller could process the request by itself.
+ */
+final class PluginDaemonClient {
+
+    /**
+     * The name of the environment variable which contains the port of the daemon.
+     */
+    static final String PORT_VARIABLE = "SPINE_PROTOC_DAEMON_PORT";
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 200;
+    private static final int READ_TIMEOUT_MILLIS = 60_000;
+
+    private final int port;
+
+    @VisibleForTesting
+    PluginDaemonClient(int port) {
+        checkArgument(port > 0, "The port must be positive. Passed: %s.", port);
+        this.port = port;
+    }
+
+    /**
+     * Creates a client for the daemon specified by the {@linkplain #PORT_VARIABLE environment}.
+     *
+     * @return the client or {@code Optional.empty()} if the daemon port is not specified
+     */
+    static Optional<PluginDaemonClient> fromEnvironment() {
+        String value = System.getenv(PORT_VARIABLE);
+        if (value == null || value.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            int port = Integer.parseInt(value.trim());
+            return port > 0
+                   ? Optional.of(new PluginDaemonClient(port))
+                   : Optional.empty();
+        } catch (NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Sends the serialized request to the daemon.
+     *
+     * @param request
+     *         the serialized {@code CodeGeneratorRequest}
+     * @return the serialized {@code CodeGeneratorResponse} or {@code Optional.empty()} if
+     *         the daemon did not process the request
+     */
+    Optional<byte[]> process(byte[] request) {
+        checkNotNull(request);
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        try (Socket socket = new Socket()) {
+            socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+            socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeUTF(identity());
+            writeFrame(out, request);
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            byte[] response = readFrame(in);
+            return Optional.of(response);
+        } catch (IOException ignored) {
+            return Optional.empty();
+        }
+    }
+}
@@ -34,12 +34,12 @@ import java.util.Map;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newArrayListWithExpectedSize;
-import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.collect.Sets.newLinkedHashSet;
 import static io.spine.util.Exceptions.newIllegalStateException;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.partitioningBy;
-import static java.util.stream.Collectors.reducing;
-import static java.util.stream.Collectors.toList;
 
 /**
  * An abstract base for the Protobuf code generator.
@@ -135,21 +135,32 @@ public abstract class SpineProtoGenerator {
     private static List<FileDescriptorProto> filesToGenerate(CodeGeneratorRequest request) {
         List<String> fileNames = request.getFileToGenerateList();
         checkArgument(!fileNames.isEmpty(), "No files to generate provided.");
+        Map<String, FileDescriptorProto> filesByName = filesByName(request);
         List<FileDescriptorProto> filesToGenerate = newArrayListWithExpectedSize(fileNames.size());
         for (String name : fileNames) {
-            FileDescriptorProto foundFile =
-                    request.getProtoFileList()
-                           .stream()
-                           .filter(file -> file.getName().equals(name))
-                           .findAny()
-                           .orElseThrow(() -> newIllegalStateException(
-                                   "Unable to find descriptor for file `%s`.", name
-                           ));
+            FileDescriptorProto foundFile = filesByName.get(name);
+            if (foundFile == null) {
+                throw newIllegalStateException("Unable to find descriptor for file `%s`.", name);
+            }
             filesToGenerate.add(foundFile);
         }
         return filesToGenerate;
     }
 
+    /**
+     * Indexes the proto files of the request by their names.
+     *
+     * <p>If several files have the same name, the first of them is taken.
+     */
+    private static Map<String, FileDescriptorProto> filesByName(CodeGeneratorRequest request) {
+        List<FileDescriptorProto> protoFiles = request.getProtoFileList();
+        Map<String, FileDescriptorProto> result = newHashMapWithExpectedSize(protoFiles.size());
+        for (FileDescriptorProto file : protoFiles) {
+            result.putIfAbsent(file.getName(), file);
+        }
+        return result;
+    }
+
     /**
      * Ensures that the version of the Google Protobuf Compiler is 3.* or higher.
      */
@@ -164,7 +175,7 @@ public abstract class SpineProtoGenerator {
      * Processes all passed proto files.
      */
     private CodeGeneratorResponse process(Iterable<FileDescriptorProto> files) {
-        Collection<CompilerOutput> generatedFiles = newHashSet();
+        Collection<CompilerOutput> generatedFiles = newLinkedHashSet();
         for (FileDescriptorProto file : files) {
             Collection<CompilerOutput> newFiles = generateForTypesIn(file);
             generatedFiles.addAll(newFiles);
@@ -192,30 +203,39 @@ public abstract class SpineProtoGenerator {
         return merged;
     }
 
+    /**
+     * Merges the files with the same insertion point into one file.
+     *
+     * <p>The content of the merged file is the concatenation of the contents of the files
+     * in the order of their occurrence. The other fields are taken from the first of the files.
+     */
     private static Collection<File> mergeInsertionPoints(Collection<File> insertionPoints) {
-        File emptyFile = File.getDefaultInstance();
-        List<File> merged = insertionPoints
-                .stream()
-                .collect(groupingBy(File::getInsertionPoint,
-                                    reducing(SpineProtoGenerator::concatContent)))
-                .values()
-                .stream()
-                .map(file -> file.orElse(emptyFile))
-                .collect(toList());
+        Map<String, File> firstFiles = newLinkedHashMap();
+        Map<String, StringBuilder> contents = newHashMap();
+        for (File file : insertionPoints) {
+            String insertionPoint = file.getInsertionPoint();
+            firstFiles.putIfAbsent(insertionPoint, file);
+            contents.computeIfAbsent(insertionPoint, point -> new StringBuilder())
+                    .append(file.getContent());
+        }
+        List<File> merged = newArrayListWithExpectedSize(firstFiles.size());
+        for (Map.Entry<String, File> entry : firstFiles.entrySet()) {
+            String content = contents.get(entry.getKey())
+                                     .toString();
+            File mergedFile = entry.getValue()
+                                   .toBuilder()
+                                   .setContent(content)
+                                   .build();
+            merged.add(mergedFile);
+        }
         return merged;
     }
 
-    private static File concatContent(File left, File right) {
-        return left.toBuilder()
-                   .setContent(left.getContent() + right.getContent())
-                   .build();
-    }
-
     /**
      * Processes the passed proto file.
      */
     private Collection<CompilerOutput> generateForTypesIn(FileDescriptorProto file) {
-        Collection<CompilerOutput> result = newHashSet();
+        Collection<CompilerOutput> result = newLinkedHashSet();
         for (DescriptorProto message : file.getMessageTypeList()) {
             Collection<CompilerOutput> processedFile = processMessage(file, message);
             result.addAll(processedFile);
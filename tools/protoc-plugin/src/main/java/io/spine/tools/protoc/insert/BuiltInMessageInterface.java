@@ -20,10 +20,10 @@
 
 package io.spine.tools.protoc.insert;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Message;
 import io.spine.base.CommandMessage;
 import io.spine.base.EventMessage;
-import io.spine.base.MessageClassifier;
 import io.spine.base.RejectionMessage;
 import io.spine.base.SerializableMessage;
 import io.spine.base.UuidValue;
@@ -35,7 +35,7 @@ import java.util.stream.Stream;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.DescriptorProtos.DescriptorProto;
 import static com.google.protobuf.DescriptorProtos.FileDescriptorProto;
-import static io.spine.base.MessageClassifiers.forInterface;
+import static io.spine.base.MessageClassifiers.classify;
 import static io.spine.tools.protoc.insert.InsertionPoint.implementInterface;
 import static java.util.Optional.empty;
 
@@ -74,9 +74,10 @@ final class BuiltInMessageInterface implements MessageInterface {
      */
     static Optional<CompilerOutput> scanForBuiltIns(FileDescriptorProto file,
                                                     DescriptorProto message) {
+        ImmutableSet<Class<?>> kinds = classify(file).kindsOf(message, file);
         Optional<Type> foundInterface =
                 Stream.of(Type.values())
-                      .filter(contract -> contract.matches(message, file))
+                      .filter(contract -> kinds.contains(contract.interfaceClass))
                       .findFirst();
         if (!foundInterface.isPresent()) {
             return empty();
@@ -110,28 +111,12 @@ final class BuiltInMessageInterface implements MessageInterface {
         UUID_VALUE(UuidValue.class, new IdentityParameter());
 
         private final Class<? extends Message> interfaceClass;
-        private final MessageClassifier classifier;
         private final MessageInterfaceParameters interfaceParams;
 
         Type(Class<? extends SerializableMessage> interfaceClass,
              MessageInterfaceParameter... interfaceParams) {
             this.interfaceClass = interfaceClass;
-            this.classifier = forInterface(interfaceClass);
             this.interfaceParams = MessageInterfaceParameters.of(interfaceParams);
         }
-
-        /**
-         * Checks if a given message declaration matches the contract of this interface.
-         *
-         * @param message
-         *         the descriptor of a message to check
-         * @param file
-         *         the descriptor of the message's declaring file
-         * @return {@code true} if the message declaration matches the interface contract,
-         *         {@code false} otherwise
-         */
-        public boolean matches(DescriptorProto message, FileDescriptorProto file) {
-            return classifier.test(message, file);
-        }
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protoc;
+
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest;
+import com.google.protobuf.compiler.PluginProtos.Version;
+import io.spine.tools.protoc.insert.TestEventsProto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.tools.protoc.PluginDaemon.MAX_FRAME_LENGTH;
+import static io.spine.tools.protoc.PluginDaemon.readFrame;
+import static io.spine.tools.protoc.PluginDaemon.writeFrame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("PluginDaemon should")
+class PluginDaemonTest {
+
+    private PluginDaemon daemon;
+    private Thread server;
+
+    @BeforeEach
+    void startDaemon() throws IOException {
+        daemon = PluginDaemon.bind(0);
+        server = new Thread(daemon::serve);
+        server.start();
+    }
+
+    @AfterEach
+    void stopDaemon() throws IOException, InterruptedException {
+        daemon.close();
+        server.join();
+    }
+
+    @Test
+    @DisplayName("respond as the plugin processing the request by itself")
+    void processRequests() {
+        byte[] request = request().toByteArray();
+        PluginDaemonClient client = new PluginDaemonClient(daemon.port());
+
+        Optional<byte[]> response = client.process(request);
+
+        assertThat(response).isPresent();
+        assertThat(response.get()).isEqualTo(Plugin.process(request));
+    }
+
+    @Test
+    @DisplayName("report no response if the request fails")
+    void reportFailure() {
+        byte[] request = CodeGeneratorRequest.getDefaultInstance()
+                                             .toByteArray();
+        PluginDaemonClient client = new PluginDaemonClient(daemon.port());
+
+        assertThat(client.process(request)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("let the client fall back if the daemon is not running")
+    void absentDaemon() throws IOException {
+        int port = daemon.port();
+        daemon.close();
+        PluginDaemonClient client = new PluginDaemonClient(port);
+
+        assertThat(client.process(request().toByteArray())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reject a client of another version")
+    void rejectForeignClient() throws IOException {
+        InetSocketAddress address =
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), daemon.port());
+        try (Socket socket = new Socket()) {
+            socket.connect(address);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeUTF("another-version");
+            writeFrame(out, request().toByteArray());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            assertThrows(IOException.class, () -> readFrame(in));
+        }
+    }
+
+    @Test
+    @DisplayName("keep serving after failing to accept a connection")
+    void surviveAcceptFailure() throws IOException, InterruptedException {
+        PluginDaemon failingDaemon = new PluginDaemon(new FailingOnceSocket());
+        Thread failingServer = new Thread(failingDaemon::serve);
+        failingServer.start();
+        try {
+            byte[] request = request().toByteArray();
+            PluginDaemonClient client = new PluginDaemonClient(failingDaemon.port());
+
+            Optional<byte[]> response = client.process(request);
+
+            assertThat(response).isPresent();
+        } finally {
+            failingDaemon.close();
+            failingServer.join();
+        }
+    }
+
+    @Test
+    @DisplayName("reject frames of negative length")
+    void rejectNegativeLength() {
+        DataInputStream in = frameOfLength(-2);
+
+        assertThrows(IOException.class, () -> readFrame(in));
+    }
+
+    @Test
+    @DisplayName("reject frames over the maximum length")
+    void rejectTooLongFrame() {
+        DataInputStream in = frameOfLength(MAX_FRAME_LENGTH + 1);
+
+        assertThrows(IOException.class, () -> readFrame(in));
+    }
+
+    /**
+     * A server socket, which fails the first attempt to accept a connection.
+     */
+    private static final class FailingOnceSocket extends ServerSocket {
+
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        private FailingOnceSocket() throws IOException {
+            super(0, 0, InetAddress.getLoopbackAddress());
+        }
+
+        @Override
+        public Socket accept() throws IOException {
+            if (failed.compareAndSet(false, true)) {
+                throw new IOException("Emulated failure to accept a connection.");
+            }
+            return super.accept();
+        }
+    }
+
+    private static DataInputStream frameOfLength(int length) {
+        byte[] header = ByteBuffer.allocate(Integer.BYTES)
+                                  .putInt(length)
+                                  .array();
+        return new DataInputStream(new ByteArrayInputStream(header));
+    }
+
+    private static CodeGeneratorRequest request() {
+        Version version = Version.newBuilder()
+                                 .setMajor(3)
+                                 .build();
+        CodeGeneratorRequest request = CodeGeneratorRequest
+                .newBuilder()
+                .setCompilerVersion(version)
+                .addFileToGenerate("spine/tools/protoc/insert/test_events.proto")
+                .addProtoFile(TestEventsProto.getDescriptor()
+                                             .toProto())
+                .build();
+        return request;
+    }
+}
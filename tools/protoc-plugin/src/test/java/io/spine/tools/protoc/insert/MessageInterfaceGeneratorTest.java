@@ -33,6 +33,8 @@ import io.spine.base.UuidValue;
 import io.spine.code.java.FileName;
 import io.spine.code.java.PackageName;
 import io.spine.code.java.SourceFile;
+import io.spine.option.IsOption;
+import io.spine.option.OptionsProto;
 import io.spine.tools.protoc.SpineProtoGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -409,6 +411,66 @@ class MessageInterfaceGeneratorTest {
         assertFalse(generatedFiles.contains("io/spine/tools/protoc/insert/Name.java"));
     }
 
+    @Test
+    @DisplayName("process a request with many files")
+    void processLargeRequest() {
+        int fileCount = 2_000;
+        FileDescriptorProto template = TestEventsProto.getDescriptor()
+                                                      .toProto();
+        CodeGeneratorRequest.Builder request = CodeGeneratorRequest
+                .newBuilder()
+                .setCompilerVersion(version());
+        for (int i = 0; i < fileCount; i++) {
+            String copyPackage = "copy" + i;
+            FileDescriptorProto copy = template
+                    .toBuilder()
+                    .setName(format("spine/tools/protoc/insert/%s/test_events.proto", copyPackage))
+                    .setPackage(PROTO_PACKAGE + copyPackage)
+                    .setOptions(template.getOptions()
+                                        .toBuilder()
+                                        .setJavaPackage(PACKAGE_NAME.value() + '.' + copyPackage))
+                    .build();
+            request.addFileToGenerate(copy.getName())
+                   .addProtoFile(copy);
+        }
+        CodeGeneratorResponse response = codeGenerator.process(request.build());
+        List<File> files = response.getFileList();
+        int messagesPerFile = template.getMessageTypeCount();
+        assertEquals(fileCount * messagesPerFile, files.size());
+        Set<String> insertionPoints = files.stream()
+                                           .map(File::getInsertionPoint)
+                                           .collect(toSet());
+        assertEquals(files.size(), insertionPoints.size());
+        for (File file : files) {
+            assertEquals(EventMessage.class.getName() + ',', file.getContent());
+        }
+    }
+
+    @Test
+    @DisplayName("concatenate the outputs for the same insertion point in order")
+    void mergeSharedInsertionPoints() {
+        String customInterface = PACKAGE_NAME.value() + ".ProtocProjectEvent";
+        IsOption everyIs = IsOption.newBuilder()
+                                   .setJavaType(customInterface)
+                                   .build();
+        FileDescriptorProto template = TestEventsProto.getDescriptor()
+                                                      .toProto();
+        FileDescriptorProto descriptor = template
+                .toBuilder()
+                .setOptions(template.getOptions()
+                                    .toBuilder()
+                                    .setExtension(OptionsProto.everyIs, everyIs))
+                .build();
+        CodeGeneratorResponse response =
+                processCodeGenRequest(descriptor.getName(), descriptor);
+        List<File> files = response.getFileList();
+        assertEquals(template.getMessageTypeCount(), files.size());
+        for (File file : files) {
+            assertEquals(EventMessage.class.getName() + ',' + customInterface + ',',
+                         file.getContent());
+        }
+    }
+
     private CodeGeneratorResponse processCodeGenRequest(String filePath,
                                                         FileDescriptorProto descriptor) {
         CodeGeneratorRequest request =
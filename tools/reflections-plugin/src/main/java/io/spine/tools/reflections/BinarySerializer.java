@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.reflections;
+
+import com.google.common.collect.Multimap;
+import org.reflections.Reflections;
+import org.reflections.ReflectionsException;
+import org.reflections.Store;
+import org.reflections.serializers.Serializer;
+import org.reflections.serializers.XmlSerializer;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Serializes the Reflections index into a compact binary form.
+ *
+ * <p>The index holds the same entries as the one written by {@link XmlSerializer}, but each class
+ * name is written only once. The entries refer to the names by their numbers. The format is:
+ * <pre>
+ *     int magic, int version,
+ *     int nameCount, UTF name...,
+ *     int indexCount, (int indexName, int keyCount, (int key, int valueCount, int value...)...)...
+ * </pre>
+ *
+ * <p>Loading such an index does not involve parsing XML. To load the indexes at runtime, pass
+ * an instance of this class to Reflections:
+ * <pre>
+ *     Reflections reflections = Reflections.collect(
+ *             "META-INF/reflections/",
+ *             new FilterBuilder().include(".*-reflections.bin"),
+ *             new BinarySerializer()
+ *     );
+ * </pre>
+ */
+public final class BinarySerializer implements Serializer {
+
+    /** The file extension of the binary index. */
+    static final String EXTENSION = ".bin";
+
+    /** The first bytes of a binary index, i.e. {@code "SRIX"}. */
+    private static final int MAGIC = 0x53524958;
+    private static final int VERSION = 1;
+
+    @Override
+    public Reflections read(InputStream inputStream) {
+        checkNotNull(inputStream);
+        Reflections reflections = emptyReflections();
+        Store store = reflections.getStore();
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        try {
+            checkHeader(in);
+            String[] names = new String[in.readInt()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = in.readUTF();
+            }
+            int indexCount = in.readInt();
+            for (int i = 0; i < indexCount; i++) {
+                Multimap<String, String> index = store.getOrCreate(names[in.readInt()]);
+                int keyCount = in.readInt();
+                for (int k = 0; k < keyCount; k++) {
+                    String key = names[in.readInt()];
+                    int valueCount = in.readInt();
+                    for (int v = 0; v < valueCount; v++) {
+                        index.put(key, names[in.readInt()]);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new ReflectionsException("Could not read the binary index.", e);
+        }
+        return reflections;
+    }
+
+    private static void checkHeader(DataInputStream in) throws IOException {
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new ReflectionsException(
+                    format("Unsupported binary index: magic `%x`, version `%d`.", magic, version)
+            );
+        }
+    }
+
+    @Override
+    public File save(Reflections reflections, String filename) {
+        checkNotNull(reflections);
+        checkNotNull(filename);
+        File file = new File(filename);
+        try {
+            Files.createDirectories(file.getAbsoluteFile()
+                                        .getParentFile()
+                                        .toPath());
+            try (OutputStream out = Files.newOutputStream(file.toPath())) {
+                write(reflections.getStore(), out);
+            }
+        } catch (IOException e) {
+            throw new ReflectionsException("Could not save to file " + filename, e);
+        }
+        return file;
+    }
+
+    /**
+     * Writes the binary index of the passed store into the stream.
+     *
+     * <p>Does not close the stream.
+     */
+    static void write(Store store, OutputStream outputStream) throws IOException {
+        Map<String, Integer> names = new LinkedHashMap<>();
+        for (String indexName : store.keySet()) {
+            number(indexName, names);
+            for (Map.Entry<String, String> entry : store.get(indexName)
+                                                        .entries()) {
+                number(entry.getKey(), names);
+                number(entry.getValue(), names);
+            }
+        }
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(names.size());
+        for (String name : names.keySet()) {
+            out.writeUTF(name);
+        }
+        out.writeInt(store.keySet()
+                          .size());
+        for (String indexName : store.keySet()) {
+            Map<String, Collection<String>> index = store.get(indexName)
+                                                         .asMap();
+            out.writeInt(names.get(indexName));
+            out.writeInt(index.size());
+            for (Map.Entry<String, Collection<String>> entry : index.entrySet()) {
+                Collection<String> values = entry.getValue();
+                out.writeInt(names.get(entry.getKey()));
+                out.writeInt(values.size());
+                for (String value : values) {
+                    out.writeInt(names.get(value));
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private static void number(String name, Map<String, Integer> names) {
+        names.putIfAbsent(name, names.size());
+    }
+
+    /**
+     * Obtains the text representation of the index.
+     *
+     * <p>As the binary index has no text form, the index is represented as XML written by
+     * {@link XmlSerializer}.
+     */
+    @Override
+    public String toString(Reflections reflections) {
+        return new XmlSerializer().toString(reflections);
+    }
+
+    /**
+     * Creates a {@code Reflections} instance with an empty store without scanning anything.
+     *
+     * <p>Uses the non-public constructor of {@code Reflections}, as {@link XmlSerializer} does.
+     * If it is not accessible, falls back to a configuration without URLs to scan.
+     */
+    static Reflections emptyReflections() {
+        try {
+            Constructor<Reflections> constructor = Reflections.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | SecurityException e) {
+            return new Reflections(new ConfigurationBuilder());
+        }
+    }
+}
@@ -41,6 +41,15 @@ public class Extension {
      */
     public String targetDir;
 
+    /**
+     * Whether to write the index in the compact binary form in addition to the `.xml` file.
+     *
+     * <p>The binary index is written to the same target directory into
+     * the `<project name>-reflections.bin` file. Use {@link BinarySerializer} to load it
+     * at runtime.
+     */
+    public boolean binaryIndex;
+
     static String getTargetDir(Project project) {
         String path = reflectionsPlugin(project).targetDir;
         if (path == null || path.isEmpty()) {
@@ -53,6 +62,10 @@ public class Extension {
         }
     }
 
+    static boolean isBinaryIndex(Project project) {
+        return reflectionsPlugin(project).binaryIndex;
+    }
+
     @VisibleForTesting      // it should have been `private`.
     static Extension reflectionsPlugin(Project project) {
         return (Extension) project.getExtensions()
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.reflections;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multimap;
+import io.spine.logging.Logging;
+import org.reflections.Configuration;
+import org.reflections.Reflections;
+import org.reflections.Store;
+import org.reflections.scanners.Scanner;
+import org.reflections.vfs.Vfs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newHashMap;
+import static java.io.File.separatorChar;
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.getLastModifiedTime;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Scans the class files of a directory, reusing the results of the previous scan for the files
+ * which have not changed since.
+ *
+ * <p>For each scanned class file, the time of its last modification, its size and the entries
+ * it contributed to the Reflections store are remembered in a cache file. On the next run, only
+ * the new and the modified class files are scanned. The entries of the deleted files are
+ * dropped.
+ *
+ * <p>The result of the scan is the same as the one of scanning the whole directory with
+ * the same scanners.
+ */
+final class IncrementalScan implements Logging {
+
+    private static final String CLASS_FILE = ".class";
+    private static final int VERSION = 1;
+
+    private final Path cacheFile;
+    private final Path rootDir;
+    private final Map<String, ScannedFile> previous;
+    private final Map<String, ScannedFile> current = newHashMap();
+    private int scannedCount;
+
+    private IncrementalScan(Path cacheFile, Path rootDir, Map<String, ScannedFile> previous) {
+        this.cacheFile = cacheFile;
+        this.rootDir = rootDir;
+        this.previous = previous;
+    }
+
+    /**
+     * Loads the results of the previous scan of the given directory from the cache file.
+     *
+     * <p>If the cache file does not exist or cannot be read, all the class files are scanned.
+     *
+     * @param cacheFile
+     *         the file storing the results of the scan between the runs
+     * @param rootDir
+     *         the directory with the class files
+     */
+    static IncrementalScan load(Path cacheFile, Path rootDir) {
+        checkNotNull(cacheFile);
+        checkNotNull(rootDir);
+        Map<String, ScannedFile> previous = newHashMap();
+        if (exists(cacheFile)) {
+            try (InputStream stream = Files.newInputStream(cacheFile)) {
+                readCache(stream, previous);
+            } catch (IOException | RuntimeException e) {
+                previous.clear();
+            }
+        }
+        return new IncrementalScan(cacheFile, rootDir, previous);
+    }
+
+    /**
+     * Scans the class files of the directory with the scanners of the passed configuration.
+     *
+     * @return Reflections with the scanned store
+     */
+    Reflections scan(Configuration config) throws IOException {
+        checkNotNull(config);
+        List<Path> classFiles = classFiles();
+        for (Path file : classFiles) {
+            String path = relativePath(file);
+            long modified = getLastModifiedTime(file).toMillis();
+            long size = Files.size(file);
+            ScannedFile scanned = previous.get(path);
+            if (scanned == null || !scanned.isSame(modified, size)) {
+                scanned = new ScannedFile(modified, size, scanFile(file, path, config));
+                scannedCount++;
+            }
+            current.put(path, scanned);
+        }
+        Reflections reflections = BinarySerializer.emptyReflections();
+        Store store = reflections.getStore();
+        for (Scanner scanner : config.getScanners()) {
+            store.getOrCreate(indexOf(scanner));
+        }
+        for (ScannedFile scanned : current.values()) {
+            for (Entry entry : scanned.entries) {
+                store.getOrCreate(entry.index)
+                     .put(entry.key, entry.value);
+            }
+        }
+        if (config.shouldExpandSuperTypes()) {
+            reflections.expandSuperTypes();
+        }
+        return reflections;
+    }
+
+    private List<Path> classFiles() throws IOException {
+        if (!exists(rootDir)) {
+            return ImmutableList.of();
+        }
+        try (Stream<Path> files = Files.walk(rootDir)) {
+            return files.filter(file -> file.toString()
+                                            .endsWith(CLASS_FILE))
+                        .filter(Files::isRegularFile)
+                        .collect(toList());
+        }
+    }
+
+    /**
+     * Scans a single class file in the same way as Reflections scans the files of a directory.
+     */
+    private ImmutableList<Entry> scanFile(Path file, String path, Configuration config) {
+        ImmutableList.Builder<Entry> entries = ImmutableList.builder();
+        Vfs.File vfsFile = new ClassFile(file, path);
+        Object classObject = null;
+        for (Scanner scanner : config.getScanners()) {
+            Multimap<String, String> store = HashMultimap.create();
+            scanner.setConfiguration(config);
+            scanner.setStore(store);
+            try {
+                classObject = scanner.scan(vfsFile, classObject);
+            } catch (RuntimeException e) {
+                _warn("Could not scan the file `{}` with the scanner `{}`.",
+                      path, indexOf(scanner));
+            }
+            String index = indexOf(scanner);
+            for (Map.Entry<String, String> stored : store.entries()) {
+                entries.add(new Entry(index, stored.getKey(), stored.getValue()));
+            }
+        }
+        return entries.build();
+    }
+
+    /**
+     * Writes the results of the last scan into the cache file.
+     */
+    void store() throws IOException {
+        Files.createDirectories(cacheFile.getParent());
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(cacheFile)))) {
+            out.writeInt(VERSION);
+            out.writeInt(current.size());
+            for (Map.Entry<String, ScannedFile> file : current.entrySet()) {
+                ScannedFile scanned = file.getValue();
+                out.writeUTF(file.getKey());
+                out.writeLong(scanned.modified);
+                out.writeLong(scanned.size);
+                out.writeInt(scanned.entries.size());
+                for (Entry entry : scanned.entries) {
+                    out.writeUTF(entry.index);
+                    out.writeUTF(entry.key);
+                    out.writeUTF(entry.value);
+                }
+            }
+        }
+    }
+
+    private static void readCache(InputStream stream, Map<String, ScannedFile> files)
+            throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != VERSION) {
+            return;
+        }
+        int fileCount = in.readInt();
+        for (int i = 0; i < fileCount; i++) {
+            String path = in.readUTF();
+            long modified = in.readLong();
+            long size = in.readLong();
+            int entryCount = in.readInt();
+            ImmutableList.Builder<Entry> entries = ImmutableList.builder();
+            for (int e = 0; e < entryCount; e++) {
+                entries.add(new Entry(in.readUTF(), in.readUTF(), in.readUTF()));
+            }
+            files.put(path, new ScannedFile(modified, size, entries.build()));
+        }
+    }
+
+    /**
+     * Obtains the number of the class files scanned by the last run, as opposed to the files
+     * taken from the cache.
+     */
+    @VisibleForTesting
+    int scannedCount() {
+        return scannedCount;
+    }
+
+    private String relativePath(Path file) {
+        return rootDir.relativize(file)
+                      .toString()
+                      .replace(separatorChar, '/');
+    }
+
+    /**
+     * Obtains the name of the store index filled by the scanner, as Reflections names it.
+     */
+    private static String indexOf(Scanner scanner) {
+        return scanner.getClass()
+                      .getSimpleName();
+    }
+
+    /**
+     * The results of scanning a class file.
+     */
+    private static final class ScannedFile {
+
+        private final long modified;
+        private final long size;
+        private final ImmutableList<Entry> entries;
+
+        private ScannedFile(long modified, long size, ImmutableList<Entry> entries) {
+            this.modified = modified;
+            this.size = size;
+            this.entries = entries;
+        }
+
+        private boolean isSame(long modified, long size) {
+            return this.modified == modified && this.size == size;
+        }
+    }
+
+    /**
+     * An entry contributed by a class file to an index of the Reflections store.
+     */
+    private static final class Entry {
+
+        private final String index;
+        private final String key;
+        private final String value;
+
+        private Entry(String index, String key, String value) {
+            this.index = index;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A class file of the scanned directory.
+     */
+    private static final class ClassFile implements Vfs.File {
+
+        private final Path file;
+        private final String relativePath;
+
+        private ClassFile(Path file, String relativePath) {
+            this.file = file;
+            this.relativePath = relativePath;
+        }
+
+        @Override
+        public String getName() {
+            return file.getFileName()
+                       .toString();
+        }
+
+        @Override
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        @Override
+        public InputStream openInputStream() throws IOException {
+            return Files.newInputStream(file);
+        }
+    }
+}
@@ -19,7 +19,6 @@
  */
 package io.spine.tools.reflections;
 
-import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Files;
 import io.spine.tools.gradle.GradleTask;
 import io.spine.tools.gradle.SpinePlugin;
@@ -29,22 +28,18 @@ import org.gradle.api.Task;
 import org.reflections.Reflections;
 import org.reflections.scanners.SubTypesScanner;
 import org.reflections.scanners.TypeAnnotationsScanner;
-import org.reflections.serializers.Serializer;
 import org.reflections.serializers.XmlSerializer;
 import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.util.Set;
+import java.nio.file.Path;
 
 import static io.spine.tools.gradle.TaskName.BUILD;
 import static io.spine.tools.gradle.TaskName.CLASSES;
 import static io.spine.tools.gradle.TaskName.SCAN_CLASS_PATH;
 import static io.spine.tools.reflections.Extension.REFLECTIONS_PLUGIN_EXTENSION;
-import static io.spine.util.Exceptions.newIllegalArgumentException;
 import static io.spine.util.Exceptions.newIllegalStateException;
 import static java.io.File.separatorChar;
 
@@ -60,6 +55,9 @@ import static java.io.File.separatorChar;
  */
 public class ReflectionsPlugin extends SpinePlugin {
 
+    /** The path of the scan cache relative to the output directory. */
+    private static final String SCAN_CACHE = "reflections/scan-cache.bin";
+
     /**
      * Applied to project.
      *
@@ -93,31 +91,35 @@ public class ReflectionsPlugin extends SpinePlugin {
         ensureFolderCreated(reflectionsOutputDir);
 
         ConfigurationBuilder config = new ConfigurationBuilder();
-        config.setUrls(toUrls(outputDir));
         config.setScanners(new SubTypesScanner(), new TypeAnnotationsScanner());
 
-        Serializer serializerInstance = new XmlSerializer();
-        config.setSerializer(serializerInstance);
-
-        Reflections reflections = new Reflections(config);
-        String reflectionsOutputFilePath =
-                targetDirPath + separatorChar + project.getName() + "-reflections.xml";
-        reflections.save(reflectionsOutputFilePath);
+        Reflections reflections = scan(outputDir, config);
+        String outputFilePath = targetDirPath + separatorChar + project.getName() + "-reflections";
+        new XmlSerializer().save(reflections, outputFilePath + ".xml");
+        if (Extension.isBinaryIndex(project)) {
+            new BinarySerializer().save(reflections, outputFilePath + BinarySerializer.EXTENSION);
+        }
     }
 
-    @SuppressWarnings({"CollectionContainsUrl", "URLEqualsHashCode"})
-    // because they are file URIs, they will not cause any network-related issues.
-    private static Set<URL> toUrls(File outputDir) {
-        ImmutableSet<URL> urls;
+    /**
+     * Scans the class files of the output directory.
+     *
+     * <p>Only the class files changed since the previous run are scanned. The results of
+     * the scan are cached in the output directory.
+     */
+    private static Reflections scan(File outputDir, ConfigurationBuilder config) {
+        Path cacheFile = outputDir.toPath()
+                                  .resolve(SCAN_CACHE);
+        IncrementalScan scan = IncrementalScan.load(cacheFile, outputDir.toPath());
         try {
-            urls = ImmutableSet.of(outputDir.toURI()
-                                            .toURL());
-        } catch (MalformedURLException e) {
-            throw newIllegalArgumentException(
-                    e, "Cannot parse an output directory: %s", outputDir.getAbsolutePath()
+            Reflections reflections = scan.scan(config);
+            scan.store();
+            return reflections;
+        } catch (IOException e) {
+            throw newIllegalStateException(
+                    e, "Cannot scan the class files in: %s", outputDir.getAbsolutePath()
             );
         }
-        return urls;
     }
 
     private static void ensureFolderCreated(File folder) {
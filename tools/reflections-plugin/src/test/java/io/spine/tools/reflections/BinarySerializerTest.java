@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.reflections;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multimap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.reflections.Reflections;
+import org.reflections.ReflectionsException;
+import org.reflections.Store;
+import org.reflections.serializers.XmlSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("BinarySerializer should")
+class BinarySerializerTest {
+
+    private static final String SUB_TYPES = "SubTypesScanner";
+    private static final String TYPE_ANNOTATIONS = "TypeAnnotationsScanner";
+
+    @Test
+    @DisplayName("read the saved index")
+    void readSaved(@TempDir Path dir) throws IOException {
+        Reflections reflections = newReflections();
+        Path file = dir.resolve("test-reflections.bin");
+
+        new BinarySerializer().save(reflections, file.toString());
+
+        Reflections restored;
+        try (InputStream in = Files.newInputStream(file)) {
+            restored = new BinarySerializer().read(in);
+        }
+        assertEquals(contentOf(reflections), contentOf(restored));
+    }
+
+    @Test
+    @DisplayName("read the same index as the XML serializer")
+    void readSameAsXml(@TempDir Path dir) throws IOException {
+        Reflections reflections = newReflections();
+        Path xmlFile = dir.resolve("test-reflections.xml");
+        Path binaryFile = dir.resolve("test-reflections.bin");
+
+        new XmlSerializer().save(reflections, xmlFile.toString());
+        new BinarySerializer().save(reflections, binaryFile.toString());
+
+        Reflections fromXml;
+        try (InputStream in = Files.newInputStream(xmlFile)) {
+            fromXml = new XmlSerializer().read(in);
+        }
+        Reflections fromBinary;
+        try (InputStream in = Files.newInputStream(binaryFile)) {
+            fromBinary = new BinarySerializer().read(in);
+        }
+        assertEquals(contentOf(fromXml), contentOf(fromBinary));
+    }
+
+    @Test
+    @DisplayName("represent the index as XML")
+    void toXml() {
+        Reflections reflections = newReflections();
+
+        assertEquals(new XmlSerializer().toString(reflections),
+                     new BinarySerializer().toString(reflections));
+    }
+
+    @Test
+    @DisplayName("reject data in another format")
+    void rejectUnknown() {
+        byte[] xml = "<?xml version=\"1.0\"?><Reflections/>".getBytes();
+
+        assertThrows(ReflectionsException.class,
+                     () -> new BinarySerializer().read(new ByteArrayInputStream(xml)));
+    }
+
+    private static Reflections newReflections() {
+        Reflections reflections = BinarySerializer.emptyReflections();
+        Store store = reflections.getStore();
+        Multimap<String, String> subTypes = store.getOrCreate(SUB_TYPES);
+        subTypes.put("com.google.protobuf.Message", "io.spine.test.Project");
+        subTypes.put("com.google.protobuf.Message", "io.spine.test.Task");
+        subTypes.put("io.spine.base.EventMessage", "io.spine.test.ProjectCreated");
+        Multimap<String, String> annotations = store.getOrCreate(TYPE_ANNOTATIONS);
+        annotations.put("javax.annotation.Generated", "io.spine.test.Project");
+        annotations.put("javax.annotation.Generated", "io.spine.test.Task");
+        return reflections;
+    }
+
+    private static Map<String, ImmutableSetMultimap<String, String>> contentOf(Reflections r) {
+        Store store = r.getStore();
+        ImmutableMap.Builder<String, ImmutableSetMultimap<String, String>> result =
+                ImmutableMap.builder();
+        for (String index : store.keySet()) {
+            result.put(index, ImmutableSetMultimap.copyOf(store.get(index)));
+        }
+        return result.build();
+    }
+}
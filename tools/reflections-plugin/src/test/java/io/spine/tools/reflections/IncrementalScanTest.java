@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.reflections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("IncrementalScan should")
+class IncrementalScanTest {
+
+    private Path classesDir;
+    private Path cacheFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException, URISyntaxException {
+        classesDir = tempDir.resolve("classes");
+        cacheFile = tempDir.resolve("scan-cache.bin");
+        copyClassFile(Base.class);
+        copyClassFile(Derived.class);
+    }
+
+    @Test
+    @DisplayName("find the sub-types in the class files")
+    void findSubTypes() throws IOException {
+        Reflections reflections = scan();
+
+        Collection<String> subTypes = reflections.getStore()
+                                          .get("SubTypesScanner")
+                                          .get(Base.class.getName());
+        assertTrue(subTypes.contains(Derived.class.getName()));
+    }
+
+    @Test
+    @DisplayName("not scan the unchanged class files again")
+    void notRescanUnchanged() throws IOException {
+        IncrementalScan first = IncrementalScan.load(cacheFile, classesDir);
+        Reflections expected = first.scan(newConfig());
+        first.store();
+
+        IncrementalScan second = IncrementalScan.load(cacheFile, classesDir);
+        Reflections actual = second.scan(newConfig());
+
+        assertEquals(2, first.scannedCount());
+        assertEquals(0, second.scannedCount());
+        assertEquals(expected.getStore()
+                             .get("SubTypesScanner"),
+                     actual.getStore()
+                           .get("SubTypesScanner"));
+    }
+
+    @Test
+    @DisplayName("drop the entries of the deleted class files")
+    void dropDeleted() throws IOException {
+        scan();
+        Files.delete(classFileOf(Derived.class));
+
+        Reflections reflections = scan();
+
+        assertTrue(reflections.getStore()
+                              .get("SubTypesScanner")
+                              .get(Base.class.getName())
+                              .isEmpty());
+    }
+
+    private Reflections scan() throws IOException {
+        IncrementalScan scan = IncrementalScan.load(cacheFile, classesDir);
+        Reflections result = scan.scan(newConfig());
+        scan.store();
+        return result;
+    }
+
+    private static ConfigurationBuilder newConfig() {
+        ConfigurationBuilder config = new ConfigurationBuilder();
+        config.setScanners(new SubTypesScanner(), new TypeAnnotationsScanner());
+        return config;
+    }
+
+    private void copyClassFile(Class<?> cls) throws IOException, URISyntaxException {
+        String fileName = cls.getName()
+                             .substring(cls.getPackage()
+                                           .getName()
+                                           .length() + 1) + ".class";
+        Path source = Paths.get(cls.getResource(fileName)
+                                   .toURI());
+        Path target = classFileOf(cls);
+        Files.createDirectories(target.getParent());
+        Files.copy(source, target);
+    }
+
+    private Path classFileOf(Class<?> cls) {
+        return classesDir.resolve(cls.getName()
+                                     .replace('.', '/') + ".class");
+    }
+
+    @SuppressWarnings("unused") // Scanned from the class file.
+    private static class Base {
+    }
+
+    @SuppressWarnings("unused") // Scanned from the class file.
+    private static class Derived extends Base {
+    }
+}